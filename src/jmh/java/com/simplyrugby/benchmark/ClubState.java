@@ -0,0 +1,95 @@
+package com.simplyrugby.benchmark;
+
+import com.simplyrugby.repository.impl.ConnectionManager;
+import com.simplyrugby.repository.impl.SQLiteGameRepository;
+import com.simplyrugby.repository.impl.SQLitePlayerRepository;
+import com.simplyrugby.repository.impl.SQLiteSquadRepository;
+import com.simplyrugby.service.ReportService;
+import com.simplyrugby.util.ClubDataGenerator;
+import com.simplyrugby.util.DbInitializer;
+import com.simplyrugby.util.DependencyManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+
+/**
+ * A synthetic club generated by {@link ClubDataGenerator} into a temporary database, shared
+ * by every thread of a trial. The size is set with JMH parameters, e.g. {@code -p squads=10 -p playersPerSquad=25}.
+ * Repositories are the uncached SQLite implementations so every call reaches the database.
+ */
+@State(Scope.Benchmark)
+public class ClubState {
+    @Param("50")
+    public int squads;
+
+    @Param("40")
+    public int playersPerSquad;
+
+    @Param("5")
+    public int seasons;
+
+    @Param("42")
+    public long seed;
+
+    public SQLitePlayerRepository playerRepository;
+    public SQLiteGameRepository gameRepository;
+    public SQLiteSquadRepository squadRepository;
+    public ReportService reportService;
+
+    private Path directory;
+    private int nextSquad;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("simplyrugby-bench");
+        String dbName = directory.resolve("club.db").toString();
+
+        DependencyManager.initialize(dbName, false);
+        ConnectionManager connectionManager = DependencyManager.getConnectionManager();
+        DbInitializer.initialize(connectionManager);
+
+        long start = System.nanoTime();
+        try (Connection conn = connectionManager.getConnection()) {
+            new ClubDataGenerator(squads, playersPerSquad, seasons, seed).generate(conn);
+        }
+        System.out.printf("Seeded %d squads x %d players x %d seasons in %d ms%n",
+                squads, playersPerSquad, seasons, (System.nanoTime() - start) / 1_000_000);
+
+        playerRepository = new SQLitePlayerRepository(connectionManager);
+        gameRepository = new SQLiteGameRepository(connectionManager);
+        squadRepository = new SQLiteSquadRepository(connectionManager);
+        reportService = DependencyManager.getReportService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        DependencyManager.shutdown();
+
+        File[] files = directory.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Cycles through the squad IDs so repeated calls don't hit the same rows every time.
+     *
+     * @return The next squad ID
+     */
+    public int nextSquadId() {
+        nextSquad = nextSquad % squads + 1;
+        return nextSquad;
+    }
+}
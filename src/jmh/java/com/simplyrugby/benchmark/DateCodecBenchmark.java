@@ -0,0 +1,79 @@
+package com.simplyrugby.benchmark;
+
+import com.simplyrugby.util.DateCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding and encoding a {@code yyyy-MM-dd} column value: a new {@code SimpleDateFormat} per
+ * row, as the mappers used to do, against {@link DateCodec}. Run with {@code -prof gc} to
+ * compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateCodecBenchmark {
+    private static final int VALUES = 1024;
+
+    private final String[] texts = new String[VALUES];
+    private final Date[] dates = new Date[VALUES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // A spread of days across a few decades, like dates of birth and fixtures
+        Random random = new Random(42);
+        LocalDate first = LocalDate.of(1980, 1, 1);
+        for (int i = 0; i < VALUES; i++) {
+            LocalDate day = first.plusDays(random.nextInt(365 * 45));
+            texts[i] = day.toString();
+            dates[i] = DateCodec.fromLocalDate(day);
+        }
+    }
+
+    @Benchmark
+    public Date decodeWithSimpleDateFormat() throws ParseException {
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+        return sdf.parse(texts[nextIndex()]);
+    }
+
+    @Benchmark
+    public Date decodeWithCodec() {
+        return DateCodec.decodeDate(texts[nextIndex()]);
+    }
+
+    @Benchmark
+    public String encodeWithSimpleDateFormat() {
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+        return sdf.format(dates[nextIndex()]);
+    }
+
+    @Benchmark
+    public String encodeWithCodec() {
+        return DateCodec.encodeDate(dates[nextIndex()]);
+    }
+
+    // Helper method to cycle through the values so each call sees a different date
+    private int nextIndex() {
+        next = (next + 1) & (VALUES - 1);
+        return next;
+    }
+}
@@ -0,0 +1,134 @@
+package com.simplyrugby.benchmark;
+
+import com.simplyrugby.domain.Player;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
+import com.simplyrugby.util.DependencyManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Mapping a scan of 100,000 players without history. The repository scans measure the whole
+ * read path; the two JDBC scans read the same player columns by label and by resolved index,
+ * which isolates the cost of the column lookups the row mappers no longer repeat.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerScanBenchmark {
+    private static final String SCAN_SQL =
+            "SELECT p.playerID, p.position, p.medicalConditions, " +
+            "m.memberID, m.firstName, m.lastName, m.dob, m.email, m.phone, m.address, " +
+            "ec.memberID AS ecID, ec.firstName AS ecFirstName, ec.lastName AS ecLastName, " +
+            "ec.email AS ecEmail, ec.phone AS ecPhone " +
+            "FROM Player p " +
+            "JOIN Member m ON p.memberID = m.memberID " +
+            "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID";
+
+    private static final String[] TEXT_COLUMNS = {
+            "position", "medicalConditions", "firstName", "lastName", "email", "phone", "address",
+            "ecFirstName", "ecLastName", "ecEmail", "ecPhone"
+    };
+
+    private static final String[] NUMBER_COLUMNS = {"playerID", "memberID", "dob", "ecID"};
+
+    /**
+     * A club of 2,500 squads of 40 players with no seasons, so the scan is all player rows.
+     */
+    @State(Scope.Benchmark)
+    public static class Roster {
+        final ClubState club = new ClubState();
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            club.squads = 2500;
+            club.playersPerSquad = 40;
+            club.seasons = 0;
+            club.seed = 42;
+            club.setUp();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            club.tearDown();
+        }
+    }
+
+    @Benchmark
+    public List<Player> findAll(Roster roster) {
+        return roster.club.playerRepository.findAll(Fetch.SUMMARY);
+    }
+
+    @Benchmark
+    public void streamAll(Roster roster, Blackhole blackhole) {
+        try (Stream<Player> players = roster.club.playerRepository.streamAll(Fetch.SUMMARY)) {
+            players.forEach(blackhole::consume);
+        }
+    }
+
+    /** Every column read by label, a lookup per column per row */
+    @Benchmark
+    public void scanByLabel(Roster roster, Blackhole blackhole) throws SQLException {
+        try (Connection conn = DependencyManager.getConnectionManager().getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SCAN_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                for (String column : NUMBER_COLUMNS) {
+                    blackhole.consume(rs.getLong(column));
+                }
+                for (String column : TEXT_COLUMNS) {
+                    blackhole.consume(rs.getString(column));
+                }
+            }
+        }
+    }
+
+    /** Every column read by an index resolved once for the result set */
+    @Benchmark
+    public void scanByIndex(Roster roster, Blackhole blackhole) throws SQLException {
+        try (Connection conn = DependencyManager.getConnectionManager().getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SCAN_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            int[] numberIndexes = findColumns(rs, NUMBER_COLUMNS);
+            int[] textIndexes = findColumns(rs, TEXT_COLUMNS);
+            while (rs.next()) {
+                for (int index : numberIndexes) {
+                    blackhole.consume(rs.getLong(index));
+                }
+                for (int index : textIndexes) {
+                    blackhole.consume(rs.getString(index));
+                }
+            }
+        }
+    }
+
+    // Helper method to resolve column labels to indexes
+    private static int[] findColumns(ResultSet rs, String[] labels) throws SQLException {
+        int[] indexes = new int[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            indexes[i] = rs.findColumn(labels[i]);
+        }
+        return indexes;
+    }
+}
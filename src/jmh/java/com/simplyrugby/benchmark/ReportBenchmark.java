@@ -0,0 +1,52 @@
+package com.simplyrugby.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Report generation for one squad and for the whole club against a seeded club.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportBenchmark {
+
+    @Benchmark
+    public String attendanceReportForSquad(ClubState club) {
+        return club.reportService.generateAttendanceReport(club.nextSquadId(), null);
+    }
+
+    @Benchmark
+    public String attendanceReportForClub(ClubState club) {
+        return club.reportService.generateAttendanceReport(null, null);
+    }
+
+    @Benchmark
+    public String skillsReportForSquad(ClubState club) {
+        return club.reportService.generateSkillsReport(null, club.nextSquadId());
+    }
+
+    @Benchmark
+    public String skillsReportForClub(ClubState club) {
+        return club.reportService.generateSkillsReport(null, null);
+    }
+
+    @Benchmark
+    public String gamesReportForSquad(ClubState club) {
+        return club.reportService.generateGamesReport(club.nextSquadId(), null);
+    }
+
+    @Benchmark
+    public String gamesReportForClub(ClubState club) {
+        return club.reportService.generateGamesReport(null, null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.simplyrugby.benchmark;
+
+import com.simplyrugby.domain.Game;
+import com.simplyrugby.domain.Player;
+import com.simplyrugby.domain.Squad;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
+import com.simplyrugby.util.DateCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Read paths of the SQLite repositories against a seeded club.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+    // The autumn of the generator's first season
+    private static final Date AUTUMN_START = DateCodec.fromLocalDate(LocalDate.of(2020, 9, 1));
+    private static final Date AUTUMN_END = DateCodec.fromLocalDate(LocalDate.of(2020, 11, 30));
+
+    @Benchmark
+    public List<Player> playerFindBySquad(ClubState club) {
+        return club.playerRepository.findBySquad(club.nextSquadId());
+    }
+
+    @Benchmark
+    public List<Player> playerFindAll(ClubState club) {
+        return club.playerRepository.findAll();
+    }
+
+    /** Every player with full history, mapped one at a time */
+    @Benchmark
+    public void playerStreamAll(ClubState club, Blackhole blackhole) {
+        try (Stream<Player> players = club.playerRepository.streamAll(Fetch.FULL)) {
+            players.forEach(blackhole::consume);
+        }
+    }
+
+    /** Every game with its player statistics */
+    @Benchmark
+    public List<Game> gameFindAll(ClubState club) {
+        return club.gameRepository.findAll();
+    }
+
+    /** Every game with its player statistics, mapped one at a time */
+    @Benchmark
+    public void gameStreamAll(ClubState club, Blackhole blackhole) {
+        try (Stream<Game> games = club.gameRepository.streamGames(null, null, null)) {
+            games.forEach(blackhole::consume);
+        }
+    }
+
+    /** One squad's games in a date range, a seek on the (squadID, date) index */
+    @Benchmark
+    public void gameStreamDateRange(ClubState club, Blackhole blackhole) {
+        try (Stream<Game> games = club.gameRepository.streamGames(club.nextSquadId(), AUTUMN_START, AUTUMN_END)) {
+            games.forEach(blackhole::consume);
+        }
+    }
+
+    /** A squad with its players and coaches */
+    @Benchmark
+    public Squad squadFindById(ClubState club) {
+        return club.squadRepository.findById(club.nextSquadId());
+    }
+}
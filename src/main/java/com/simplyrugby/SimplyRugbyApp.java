@@ -3,7 +3,6 @@ package com.simplyrugby;
 import com.simplyrugby.cli.SimplyRugbyCommand;
 import com.simplyrugby.util.DbInitializer;
 import com.simplyrugby.util.DependencyManager;
-import com.simplyrugby.repository.impl.ConnectionManager;
 import picocli.CommandLine;
 
 /**
@@ -43,11 +42,10 @@ public class SimplyRugbyApp {
      * @throws Exception If initialization fails
      */
     private static void initialize() throws Exception {
-        // Setup the dependency manager
-        DependencyManager.initialize(DB_NAME);
+        // Setup the dependency manager, caching entities for the session
+        DependencyManager.initialize(DB_NAME, true);
         
-        // Initialize the database
-        ConnectionManager connectionManager = new ConnectionManager(DB_NAME);
-        DbInitializer.initialize(connectionManager);
+        // Initialize the database through the shared connection pool
+        DbInitializer.initialize(DependencyManager.getConnectionManager());
     }
 }
\ No newline at end of file
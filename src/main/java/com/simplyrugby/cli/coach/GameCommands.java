@@ -9,6 +9,7 @@ import com.simplyrugby.service.PlayerService;
 import com.simplyrugby.service.SquadService;
 import com.simplyrugby.util.DateUtil;
 import com.simplyrugby.util.DependencyManager;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
@@ -16,6 +17,7 @@ import picocli.CommandLine.Parameters;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -58,31 +60,33 @@ public class GameCommands implements Runnable {
         @Option(names = {"-r", "--recent"}, description = "Show only recent games")
         boolean recentOnly;
 
+        @Option(names = {"-n", "--limit"}, description = "Maximum number of games to show")
+        int limit;
+
         @Override
         public Integer call() {
             GameService gameService = DependencyManager.getGameService();
             SquadService squadService = DependencyManager.getSquadService();
             
             try {
-                List<Game> games;
-                
                 if (squadId != null) {
                     // Get squad name for display
                     Squad squad = squadService.getSquadById(squadId);
                     System.out.printf("\n=== Games for %s (%s) ===\n\n", 
                                      squad.getSquadName(), squad.getAgeGrade());
-                    games = gameService.getGamesBySquad(squadId);
                 } else {
                     System.out.println("\n=== All Games ===\n");
-                    games = gameService.getAllGames();
                 }
                 
-                // Filter by date if requested
+                // Filter by date in the query: upcoming starts tomorrow, recent ends today
                 Date today = new Date();
+                List<Game> games;
                 if (upcomingOnly) {
-                    games.removeIf(game -> game.getDate().before(today));
+                    games = gameService.getGames(squadId, DateUtil.addDays(today, 1), null, false, limit);
                 } else if (recentOnly) {
-                    games.removeIf(game -> game.getDate().after(today));
+                    games = gameService.getGames(squadId, null, today, true, limit);
+                } else {
+                    games = gameService.getGames(squadId, null, null, false, limit);
                 }
                 
                 // Display games table
@@ -218,7 +222,7 @@ public class GameCommands implements Runnable {
                     PlayerService playerService = DependencyManager.getPlayerService();
                     
                     for (GameStats stat : stats) {
-                        Player player = playerService.getPlayerById(stat.getPlayerId());
+                        Player player = playerService.getPlayerById(stat.getPlayerId(), Fetch.SUMMARY);
                         
                         System.out.printf("%-20s %-10s %-10d %-10d %-10d %-10d %-10d\n",
                                          player.getFirstName() + " " + player.getLastName(),
@@ -282,7 +286,7 @@ public class GameCommands implements Runnable {
                                 new SimpleDateFormat("dd/MM/yyyy").format(game.getDate()));
                 
                 // Get players in the squad
-                List<Player> players = playerService.getPlayersBySquad(game.getSquad().getSquadId());
+                List<Player> players = playerService.getPlayersBySquad(game.getSquad().getSquadId(), Fetch.SUMMARY);
                 
                 if (players.isEmpty()) {
                     System.out.println("No players found in this squad.");
@@ -290,7 +294,8 @@ public class GameCommands implements Runnable {
                 }
                 
                 if (interactive) {
-                    // Interactive mode - prompt for each player
+                    // Interactive mode - prompt for each player, then save the whole squad in one transaction
+                    List<GameStats> statsList = new ArrayList<>();
                     for (Player player : players) {
                         System.out.printf("\nRecording stats for %s %s:\n", 
                                          player.getFirstName(), player.getLastName());
@@ -321,17 +326,11 @@ public class GameCommands implements Runnable {
                             System.out.println("Overall Rating: " + stats.getOverallRating());
                         }
                         
-                        // Save stats to database
-                        boolean result = gameService.addGameStats(stats);
-                        
-                        if (result) {
-                            System.out.printf("Stats recorded successfully for %s %s.\n",
-                                             player.getFirstName(), player.getLastName());
-                        } else {
-                            System.out.printf("Failed to record stats for %s %s.\n",
-                                             player.getFirstName(), player.getLastName());
-                        }
+                        statsList.add(stats);
                     }
+                    
+                    // Save stats to database; re-entering a match sheet replaces the earlier entries
+                    gameService.recordGameStatsBatch(statsList);
                 } else {
                     // Batch mode - not implemented in this example
                     System.out.println("Batch mode not implemented. Please use interactive mode.");
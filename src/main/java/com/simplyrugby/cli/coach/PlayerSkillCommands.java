@@ -2,18 +2,19 @@ package com.simplyrugby.cli.coach;
 
 import com.simplyrugby.domain.GameStats;
 import com.simplyrugby.domain.Player;
+import com.simplyrugby.domain.PlayerSkillSummary;
 import com.simplyrugby.domain.Squad;
-import com.simplyrugby.domain.TrainingAttendance;
 import com.simplyrugby.service.GameService;
 import com.simplyrugby.service.PlayerService;
 import com.simplyrugby.service.SquadService;
-import com.simplyrugby.service.TrainingService;
 import com.simplyrugby.util.DependencyManager;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
+import java.text.SimpleDateFormat;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -51,12 +52,13 @@ public class PlayerSkillCommands implements Runnable {
             GameService gameService = DependencyManager.getGameService();
 
             try {
-                Player player = playerService.getPlayerById(playerId);
+                Player player = playerService.getPlayerById(playerId, Fetch.SUMMARY);
 
                 System.out.printf("\n=== Skills for %s %s ===\n\n",
                         player.getFirstName(), player.getLastName());
 
-                List<GameStats> stats = playerService.getPlayerGameStats(playerId);
+                // Stats come back joined with their game dates and in date order
+                List<GameStats> stats = gameService.getStatsTimelineForPlayer(playerId);
 
                 if (stats.isEmpty()) {
                     System.out.println("No game statistics recorded for this player.");
@@ -65,17 +67,16 @@ public class PlayerSkillCommands implements Runnable {
                             "Game", "Date", "Tackles", "Passes", "Tries", "Kicks", "Overall");
                     System.out.println("-".repeat(75));
 
+                    SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
                     for (GameStats stat : stats) {
                         if (!stat.isAttended()) {
                             continue; // Skip games the player didn't attend
                         }
 
-                        // Get game details
-                        var game = gameService.getGameById(stat.getGameId());
-                        String gameDate = new java.text.SimpleDateFormat("dd/MM/yyyy").format(game.getDate());
+                        String gameDate = dateFormat.format(stat.getGameDate());
 
                         System.out.printf("%-4d %-12s %-10d %-10d %-10d %-10d %-10d\n",
-                                game.getGameId(),
+                                stat.getGameId(),
                                 gameDate,
                                 stat.getTackles(),
                                 stat.getPasses(),
@@ -99,8 +100,8 @@ public class PlayerSkillCommands implements Runnable {
                             .distinct()
                             .forEach(skill -> System.out.println("- " + skill));
 
-                    // Calculate overall skill rating
-                    double overallRating = player.calculateOverallSkillRating();
+                    // Overall rating comes from the player's season totals
+                    double overallRating = playerService.getSkillSummary(playerId).getAverageRating();
                     System.out.printf("\nOverall Player Rating: %.1f/10\n", overallRating);
                 }
 
@@ -126,17 +127,19 @@ public class PlayerSkillCommands implements Runnable {
         @Override
         public Integer call() {
             PlayerService playerService = DependencyManager.getPlayerService();
-            TrainingService trainingService = DependencyManager.getTrainingService();
+            GameService gameService = DependencyManager.getGameService();
 
             try {
-                Player player = playerService.getPlayerById(playerId);
+                Player player = playerService.getPlayerById(playerId, Fetch.SUMMARY);
+                PlayerSkillSummary summary = playerService.getSkillSummary(playerId);
 
                 System.out.printf("\n=== Progress Report for %s %s ===\n\n",
                         player.getFirstName(), player.getLastName());
 
                 if (showGames) {
                     // Show game progress
-                    List<GameStats> stats = playerService.getPlayerGameStats(playerId);
+                    // One query returns the stats already ordered by game date
+                    List<GameStats> stats = gameService.getStatsTimelineForPlayer(playerId);
 
                     System.out.println("Game Performance Progress:");
 
@@ -144,8 +147,8 @@ public class PlayerSkillCommands implements Runnable {
                         System.out.println("No game statistics recorded for this player.");
                     } else {
                         // Calculate progress over time
-                        int gamesPlayed = player.getGamesAttended();
-                        double overallRating = player.calculateOverallSkillRating();
+                        int gamesPlayed = summary.getGamesAttended();
+                        double overallRating = summary.getAverageRating();
 
                         System.out.printf("Games Played: %d\n", gamesPlayed);
                         System.out.printf("Overall Rating: %.1f/10\n", overallRating);
@@ -158,16 +161,14 @@ public class PlayerSkillCommands implements Runnable {
 
                 if (showTraining) {
                     // Show training attendance
-                    List<TrainingAttendance> attendance = playerService.getPlayerTrainingAttendance(playerId);
-
                     System.out.println("\nTraining Attendance:");
 
-                    if (attendance.isEmpty()) {
+                    if (summary.getSessionsRecorded() == 0) {
                         System.out.println("No training attendance recorded for this player.");
                     } else {
-                        double attendanceRate = player.calculateTrainingAttendanceRate();
-                        int sessionsAttended = (int) attendance.stream().filter(TrainingAttendance::isPresent).count();
-                        int totalSessions = attendance.size();
+                        double attendanceRate = summary.getAttendanceRate();
+                        int sessionsAttended = summary.getSessionsAttended();
+                        int totalSessions = summary.getSessionsRecorded();
 
                         System.out.printf("Sessions Attended: %d/%d (%.1f%%)\n",
                                 sessionsAttended, totalSessions, attendanceRate);
@@ -181,20 +182,8 @@ public class PlayerSkillCommands implements Runnable {
             }
         }
 
-        // Simple ASCII chart to show progress trend
+        // Simple ASCII chart to show progress trend; expects stats in game date order
         private void showTrendGraph(List<GameStats> stats) {
-            // Sort stats by game date
-            stats.sort((a, b) -> {
-                try {
-                    var gameService = DependencyManager.getGameService();
-                    var gameA = gameService.getGameById(a.getGameId());
-                    var gameB = gameService.getGameById(b.getGameId());
-                    return gameA.getDate().compareTo(gameB.getDate());
-                } catch (Exception e) {
-                    return 0;
-                }
-            });
-
             // Show only attended games
             var attendedStats = stats.stream()
                     .filter(GameStats::isAttended)
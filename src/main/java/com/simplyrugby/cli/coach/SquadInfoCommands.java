@@ -3,18 +3,23 @@ package com.simplyrugby.cli.coach;
 import com.simplyrugby.domain.Coach;
 import com.simplyrugby.domain.Player;
 import com.simplyrugby.domain.Squad;
+import com.simplyrugby.domain.SquadDashboard;
+import com.simplyrugby.domain.SquadRecord;
 import com.simplyrugby.service.CoachService;
 import com.simplyrugby.service.PlayerService;
 import com.simplyrugby.service.SquadService;
 import com.simplyrugby.service.UserService;
 import com.simplyrugby.util.DependencyManager;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 
 @Command(
         name = "squad",
@@ -71,8 +76,13 @@ public class SquadInfoCommands implements Runnable {
 
                     SquadService squadService = DependencyManager.getSquadService();
 
+                    // One query counts players for every squad
+                    Map<Integer, SquadDashboard> dashboards = squadService.getAllSquadDashboards().stream()
+                            .collect(Collectors.toMap(SquadDashboard::getSquadId, dashboard -> dashboard));
+
                     for (Squad squad : squads) {
-                        int playerCount = squadService.getPlayerCount(squad.getSquadId());
+                        SquadDashboard dashboard = dashboards.get(squad.getSquadId());
+                        int playerCount = dashboard != null ? dashboard.getPlayerCount() : 0;
 
                         System.out.printf("%-4d %-20s %-15s %-15d\n",
                                 squad.getSquadId(),
@@ -100,26 +110,27 @@ public class SquadInfoCommands implements Runnable {
             SquadService squadService = DependencyManager.getSquadService();
 
             try {
-                Squad squad = squadService.getSquadById(squadId);
+                // Counts, record and attendance all come from one query
+                SquadDashboard dashboard = squadService.getSquadDashboard(squadId);
 
                 System.out.println("\n=== Squad Details ===\n");
 
-                System.out.println("ID:        " + squad.getSquadId());
-                System.out.println("Name:      " + squad.getSquadName());
-                System.out.println("Age Grade: " + squad.getAgeGrade());
-
-                // Player count
-                int playerCount = squadService.getPlayerCount(squadId);
-                System.out.println("Players:   " + playerCount);
-
-                // Coach count
-                int coachCount = squadService.getCoachCount(squadId);
-                System.out.println("Coaches:   " + coachCount);
+                System.out.println("ID:        " + dashboard.getSquadId());
+                System.out.println("Name:      " + dashboard.getSquadName());
+                System.out.println("Age Grade: " + dashboard.getAgeGrade());
+                System.out.println("Players:   " + dashboard.getPlayerCount());
+                System.out.println("Coaches:   " + dashboard.getCoachCount());
 
                 // Check if has minimum coaches
-                boolean hasMinimumCoaches = squadService.hasMinimumCoaches(squadId);
+                boolean hasMinimumCoaches = squadService.hasMinimumCoaches(dashboard);
                 System.out.println("Has Minimum Coaches: " + (hasMinimumCoaches ? "Yes" : "No"));
 
+                SquadRecord record = dashboard.getRecord();
+                System.out.printf("Record:    %d played (W %d, L %d, D %d)\n",
+                        record.getGamesPlayed(), record.getWins(), record.getLosses(), record.getDraws());
+                System.out.printf("Training:  %d sessions, %.1f%% average attendance\n",
+                        dashboard.getSessionsHeld(), dashboard.getAverageAttendanceRate());
+
                 return 0;
             } catch (Exception e) {
                 System.err.println("Error: " + e.getMessage());
@@ -144,7 +155,7 @@ public class SquadInfoCommands implements Runnable {
                 System.out.printf("\n=== Players in %s (%s) ===\n\n",
                         squad.getSquadName(), squad.getAgeGrade());
 
-                List<Player> players = playerService.getPlayersBySquad(squadId);
+                List<Player> players = playerService.getPlayersBySquad(squadId, Fetch.SUMMARY);
 
                 if (players.isEmpty()) {
                     System.out.println("No players in this squad.");
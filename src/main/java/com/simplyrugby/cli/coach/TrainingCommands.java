@@ -9,15 +9,22 @@ import com.simplyrugby.service.SquadService;
 import com.simplyrugby.service.TrainingService;
 import com.simplyrugby.util.DateUtil;
 import com.simplyrugby.util.DependencyManager;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 @Command(
@@ -58,31 +65,37 @@ public class TrainingCommands implements Runnable {
         @Option(names = {"-r", "--recent"}, description = "Show only recent training sessions")
         boolean recentOnly;
 
+        @Option(names = {"-n", "--limit"}, description = "Maximum number of training sessions to show")
+        int limit;
+
+        @Option(names = {"-a", "--all-seasons"}, description = "Include training sessions from archived seasons")
+        boolean allSeasons;
+
         @Override
         public Integer call() {
             TrainingService trainingService = DependencyManager.getTrainingService();
             SquadService squadService = DependencyManager.getSquadService();
 
             try {
-                List<Training> trainings;
-
                 if (squadId != null) {
                     // Get squad name for display
                     Squad squad = squadService.getSquadById(squadId);
                     System.out.printf("\n=== Training Sessions for %s (%s) ===\n\n",
                             squad.getSquadName(), squad.getAgeGrade());
-                    trainings = trainingService.getTrainingSessionsBySquad(squadId);
                 } else {
                     System.out.println("\n=== All Training Sessions ===\n");
-                    trainings = trainingService.getAllTrainingSessions();
                 }
 
-                // Filter by date if requested
+                // Filter by date in the query: upcoming starts tomorrow, recent ends today
                 Date today = new Date();
+                List<Training> trainings;
                 if (upcomingOnly) {
-                    trainings.removeIf(training -> training.getDate().before(today));
+                    trainings = trainingService.getTrainingSessions(squadId, DateUtil.addDays(today, 1), null, false, limit,
+                            allSeasons);
                 } else if (recentOnly) {
-                    trainings.removeIf(training -> training.getDate().after(today));
+                    trainings = trainingService.getTrainingSessions(squadId, null, today, true, limit, allSeasons);
+                } else {
+                    trainings = trainingService.getTrainingSessions(squadId, null, null, false, limit, allSeasons);
                 }
 
                 // Display trainings table
@@ -224,7 +237,7 @@ public class TrainingCommands implements Runnable {
                     PlayerService playerService = DependencyManager.getPlayerService();
 
                     for (TrainingAttendance record : records) {
-                        Player player = playerService.getPlayerById(record.getPlayerId());
+                        Player player = playerService.getPlayerById(record.getPlayerId(), Fetch.SUMMARY);
 
                         System.out.printf("%-20s %-10s %-50s\n",
                                 player.getFirstName() + " " + player.getLastName(),
@@ -272,6 +285,14 @@ public class TrainingCommands implements Runnable {
         @Option(names = {"-i", "--interactive"}, description = "Interactive mode")
         boolean interactive = true;
 
+        @Option(names = {"-p", "--present"}, split = ",",
+                description = "Batch mode: IDs of the players who were present; the rest of the squad is marked absent")
+        List<Integer> presentIds;
+
+        @Option(names = {"-f", "--roster"},
+                description = "Batch mode: roster file with one 'playerID[,y|n[,notes]]' line per player")
+        File rosterFile;
+
         @Override
         public Integer call() {
             TrainingService trainingService = DependencyManager.getTrainingService();
@@ -289,15 +310,20 @@ public class TrainingCommands implements Runnable {
                         new SimpleDateFormat("dd/MM/yyyy").format(training.getDate()));
 
                 // Get players in the squad
-                List<Player> players = playerService.getPlayersBySquad(training.getSquad().getSquadId());
+                List<Player> players = playerService.getPlayersBySquad(training.getSquad().getSquadId(), Fetch.SUMMARY);
 
                 if (players.isEmpty()) {
                     System.out.println("No players found in this squad.");
                     return 0;
                 }
 
-                if (interactive) {
+                List<TrainingAttendance> attendanceList;
+                if (presentIds != null || rosterFile != null) {
+                    // Batch mode - build every squad member's record from the options
+                    attendanceList = buildBatch(training, players);
+                } else if (interactive) {
                     // Interactive mode - prompt for each player
+                    attendanceList = new ArrayList<>();
                     for (Player player : players) {
                         System.out.printf("\nRecording attendance for %s %s:\n",
                                 player.getFirstName(), player.getLastName());
@@ -305,39 +331,106 @@ public class TrainingCommands implements Runnable {
                         System.out.print("Was the player present? (y/n): ");
                         String present = System.console().readLine().trim().toLowerCase();
 
-                        TrainingAttendance attendance = new TrainingAttendance();
-                        attendance.setPlayerId(player.getPlayerId());
-                        attendance.setTrainingId(trainingId);
-                        attendance.setTrainingDate(training.getDate());
+                        TrainingAttendance attendance = newAttendance(training, player.getPlayerId());
                         attendance.setPresent(present.equals("y") || present.equals("yes"));
 
                         System.out.print("Notes (optional): ");
                         String notes = System.console().readLine().trim();
                         attendance.setPlayerNotes(notes);
 
-                        // Save attendance to database
-                        boolean result = trainingService.addAttendance(attendance);
-
-                        if (result) {
-                            System.out.printf("Attendance recorded successfully for %s %s.\n",
-                                    player.getFirstName(), player.getLastName());
-                        } else {
-                            System.out.printf("Failed to record attendance for %s %s.\n",
-                                    player.getFirstName(), player.getLastName());
-                        }
+                        attendanceList.add(attendance);
                     }
                 } else {
-                    // Batch mode - not implemented in this example
-                    System.out.println("Batch mode not implemented. Please use interactive mode.");
+                    System.err.println("Error: Batch mode needs --present or --roster.");
                     return 1;
                 }
 
-                System.out.println("\nAll attendance records recorded successfully.");
+                // Save the whole session in one transaction; re-recording a player replaces their record
+                int written = trainingService.recordAttendanceBatch(attendanceList);
+                long presentCount = attendanceList.stream().filter(TrainingAttendance::isPresent).count();
+
+                System.out.printf("\nRecorded attendance for %d players (%d present, %d absent).\n",
+                        written, presentCount, attendanceList.size() - presentCount);
                 return 0;
             } catch (Exception e) {
                 System.err.println("Error: " + e.getMessage());
                 return 1;
             }
         }
+
+        // Helper method to build one record per squad player from --present or --roster
+        private List<TrainingAttendance> buildBatch(Training training, List<Player> players) throws IOException {
+            Map<Integer, TrainingAttendance> bySquadPlayer = new LinkedHashMap<>();
+            for (Player player : players) {
+                // Anyone not listed as present was absent
+                bySquadPlayer.put(player.getPlayerId(), newAttendance(training, player.getPlayerId()));
+            }
+
+            List<String> errors = new ArrayList<>();
+            if (presentIds != null) {
+                for (int playerId : presentIds) {
+                    TrainingAttendance attendance = bySquadPlayer.get(playerId);
+                    if (attendance == null) {
+                        errors.add("Player " + playerId + " is not in the training squad");
+                    } else {
+                        attendance.setPresent(true);
+                    }
+                }
+            }
+
+            if (rosterFile != null) {
+                List<String> lines = Files.readAllLines(rosterFile.toPath());
+                for (int i = 0; i < lines.size(); i++) {
+                    String line = lines.get(i).trim();
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+
+                    String[] fields = line.split(",", 3);
+                    TrainingAttendance attendance;
+                    try {
+                        attendance = bySquadPlayer.get(Integer.parseInt(fields[0].trim()));
+                    } catch (NumberFormatException e) {
+                        errors.add("Line " + (i + 1) + ": invalid player ID '" + fields[0].trim() + "'");
+                        continue;
+                    }
+
+                    if (attendance == null) {
+                        errors.add("Line " + (i + 1) + ": player " + fields[0].trim() + " is not in the training squad");
+                        continue;
+                    }
+
+                    String present = fields.length > 1 ? fields[1].trim().toLowerCase() : "y";
+                    if (present.equals("y") || present.equals("yes")) {
+                        attendance.setPresent(true);
+                    } else if (present.equals("n") || present.equals("no")) {
+                        attendance.setPresent(false);
+                    } else {
+                        errors.add("Line " + (i + 1) + ": invalid attendance '" + fields[1].trim() +
+                                "', expected y or n");
+                        continue;
+                    }
+                    if (fields.length > 2) {
+                        attendance.setPlayerNotes(fields[2].trim());
+                    }
+                }
+            }
+
+            if (!errors.isEmpty()) {
+                throw new IllegalArgumentException(String.join("; ", errors));
+            }
+
+            return new ArrayList<>(bySquadPlayer.values());
+        }
+
+        // Helper method to create an absent attendance record for a player at this session
+        private TrainingAttendance newAttendance(Training training, int playerId) {
+            TrainingAttendance attendance = new TrainingAttendance();
+            attendance.setPlayerId(playerId);
+            attendance.setTrainingId(trainingId);
+            attendance.setTrainingDate(training.getDate());
+            attendance.setPresent(false);
+            return attendance;
+        }
     }
-}
\ No newline at end of file
+}
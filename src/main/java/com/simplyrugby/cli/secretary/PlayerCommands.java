@@ -6,6 +6,7 @@ import com.simplyrugby.service.PlayerService;
 import com.simplyrugby.service.SquadService;
 import com.simplyrugby.util.DateUtil;
 import com.simplyrugby.util.DependencyManager;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
@@ -64,10 +65,10 @@ public class PlayerCommands implements Runnable {
                     Squad squad = squadService.getSquadById(squadId);
                     System.out.printf("\n=== Players in %s (%s) ===\n\n", 
                                       squad.getSquadName(), squad.getAgeGrade());
-                    players = playerService.getPlayersBySquad(squadId);
+                    players = playerService.getPlayersBySquad(squadId, Fetch.SUMMARY);
                 } else {
                     System.out.println("\n=== All Players ===\n");
-                    players = playerService.getAllPlayers();
+                    players = playerService.getAllPlayers(Fetch.SUMMARY);
                 }
                 
                 // Display player table
@@ -214,7 +215,7 @@ public class PlayerCommands implements Runnable {
             
             try {
                 // Get existing player
-                Player player = playerService.getPlayerById(playerId);
+                Player player = playerService.getPlayerById(playerId, Fetch.SUMMARY);
                 
                 // Update fields if provided
                 if (firstName != null) player.setFirstName(firstName);
@@ -268,7 +269,7 @@ public class PlayerCommands implements Runnable {
             
             try {
                 // Get player for confirmation
-                Player player = playerService.getPlayerById(playerId);
+                Player player = playerService.getPlayerById(playerId, Fetch.SUMMARY);
                 
                 // Confirm deletion
                 if (!force) {
@@ -315,7 +316,7 @@ public class PlayerCommands implements Runnable {
             
             try {
                 // Get player for confirmation
-                Player player = playerService.getPlayerById(playerId);
+                Player player = playerService.getPlayerById(playerId, Fetch.SUMMARY);
                 
                 if (squadId == 0) {
                     // Remove player from squad
@@ -0,0 +1,184 @@
+package com.simplyrugby.cli.secretary;
+
+import com.simplyrugby.domain.Season;
+import com.simplyrugby.service.SeasonService;
+import com.simplyrugby.util.DependencyManager;
+import com.simplyrugby.util.ValidationException;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@Command(
+        name = "seasons",
+        description = "Manage seasons",
+        subcommands = {
+                SeasonCommands.ListCommand.class,
+                SeasonCommands.AddCommand.class,
+                SeasonCommands.ArchiveCommand.class,
+                CommandLine.HelpCommand.class
+        },
+        mixinStandardHelpOptions = true
+)
+public class SeasonCommands implements Runnable {
+
+    @Override
+    public void run() {
+        System.out.println("\n==================================");
+        System.out.println("          SEASONS PANEL");
+        System.out.println("==================================\n");
+        System.out.println("Available commands:");
+        System.out.println("  list     - List all seasons");
+        System.out.println("  add      - Add a new season");
+        System.out.println("  archive  - Archive a season that has ended");
+        System.out.println("  help     - Show help\n");
+    }
+
+    @Command(name = "list", description = "List all seasons")
+    static class ListCommand implements Callable<Integer> {
+        @Override
+        public Integer call() {
+            SeasonService seasonService = DependencyManager.getSeasonService();
+
+            try {
+                List<Season> seasons = seasonService.getAllSeasons();
+                Season current = seasonService.getCurrentSeason();
+
+                System.out.println("\n=== All Seasons ===\n");
+
+                if (seasons.isEmpty()) {
+                    System.out.println("No seasons found.");
+                } else {
+                    SimpleDateFormat sdf = new SimpleDateFormat("dd/MM/yyyy");
+                    System.out.printf("%-4s %-20s %-12s %-12s %-10s\n",
+                            "ID", "Name", "Start", "End", "Status");
+                    System.out.println("-".repeat(62));
+
+                    for (Season season : seasons) {
+                        String status = season.isArchived() ? "Archived" :
+                                current != null && current.getSeasonId() == season.getSeasonId() ? "Current" : "Open";
+
+                        System.out.printf("%-4d %-20s %-12s %-12s %-10s\n",
+                                season.getSeasonId(),
+                                season.getName(),
+                                sdf.format(season.getStartDate()),
+                                sdf.format(season.getEndDate()),
+                                status);
+                    }
+                    System.out.println();
+                }
+
+                return 0;
+            } catch (Exception e) {
+                System.err.println("Error: " + e.getMessage());
+                return 1;
+            }
+        }
+    }
+
+    @Command(name = "add", description = "Add a new season")
+    static class AddCommand implements Callable<Integer> {
+        @Option(names = {"-n", "--name"}, description = "Season name (e.g., '2024/25')", required = true)
+        String name;
+
+        @Option(names = {"-s", "--start"}, description = "First day of the season (DD/MM/YYYY)", required = true)
+        String start;
+
+        @Option(names = {"-e", "--end"}, description = "Last day of the season (DD/MM/YYYY)", required = true)
+        String end;
+
+        @Override
+        public Integer call() {
+            SeasonService seasonService = DependencyManager.getSeasonService();
+
+            try {
+                Season season = new Season();
+                season.setName(name);
+
+                // Parse dates
+                try {
+                    SimpleDateFormat sdf = new SimpleDateFormat("dd/MM/yyyy");
+                    sdf.setLenient(false);
+                    season.setStartDate(sdf.parse(start));
+                    season.setEndDate(sdf.parse(end));
+                } catch (ParseException e) {
+                    System.err.println("Error: Invalid date format. Please use DD/MM/YYYY.");
+                    return 1;
+                }
+
+                // Save season
+                int seasonId = seasonService.addSeason(season);
+
+                System.out.println("\nSeason added successfully with ID: " + seasonId);
+                return 0;
+            } catch (ValidationException e) {
+                printValidationErrors(e);
+                return 1;
+            } catch (Exception e) {
+                System.err.println("Error: " + e.getMessage());
+                return 1;
+            }
+        }
+    }
+
+    @Command(name = "archive", description = "Archive a season that has ended")
+    static class ArchiveCommand implements Callable<Integer> {
+        @Parameters(index = "0", description = "Season ID")
+        int seasonId;
+
+        @Option(names = {"-f", "--force"}, description = "Archive without confirmation")
+        boolean force;
+
+        @Override
+        public Integer call() {
+            SeasonService seasonService = DependencyManager.getSeasonService();
+
+            try {
+                Season season = seasonService.getSeasonById(seasonId);
+
+                // Confirm archiving
+                if (!force) {
+                    System.out.printf("\nArchive season %s (ID: %d)? Its games and training sessions will only " +
+                            "appear in all-seasons views. (y/n) ", season.getName(), season.getSeasonId());
+                    String confirmation = System.console().readLine().trim().toLowerCase();
+
+                    if (!confirmation.equals("y") && !confirmation.equals("yes")) {
+                        System.out.println("\nArchiving cancelled.");
+                        return 0;
+                    }
+                }
+
+                boolean result = seasonService.archiveSeason(seasonId);
+
+                if (result) {
+                    System.out.println("\nSeason " + season.getName() + " archived successfully.");
+                    return 0;
+                } else {
+                    System.err.println("Failed to archive season.");
+                    return 1;
+                }
+            } catch (ValidationException e) {
+                printValidationErrors(e);
+                return 1;
+            } catch (Exception e) {
+                System.err.println("Error: " + e.getMessage());
+                return 1;
+            }
+        }
+    }
+
+    // Helper method to print a validation failure with its individual errors
+    private static void printValidationErrors(ValidationException e) {
+        System.err.println("Error: " + e.getMessage());
+        if (e.getErrors() != null) {
+            for (String error : e.getErrors()) {
+                System.err.println("  - " + error);
+            }
+        }
+    }
+}
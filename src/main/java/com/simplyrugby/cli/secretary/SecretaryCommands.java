@@ -11,6 +11,7 @@ import picocli.CommandLine.Option;
         PlayerCommands.class,
         CoachCommands.class,
         SquadCommands.class,
+        SeasonCommands.class,
         ReportCommands.class,
         AnnouncementCommands.class,
         CommandLine.HelpCommand.class
@@ -28,6 +29,7 @@ public class SecretaryCommands implements Runnable {
         System.out.println("  players   - Manage players");
         System.out.println("  coaches   - Manage coaches");
         System.out.println("  squads    - Manage squads");
+        System.out.println("  seasons   - Manage and archive seasons");
         System.out.println("  reports   - Generate reports");
         System.out.println("  announce  - Send announcements");
         System.out.println("  help      - Show help");
@@ -3,6 +3,7 @@ package com.simplyrugby.cli.secretary;
 import com.simplyrugby.domain.Coach;
 import com.simplyrugby.domain.Player;
 import com.simplyrugby.domain.Squad;
+import com.simplyrugby.domain.SquadDashboard;
 import com.simplyrugby.service.CoachService;
 import com.simplyrugby.service.PlayerService;
 import com.simplyrugby.service.SquadService;
@@ -13,7 +14,9 @@ import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 
 @Command(
         name = "squads",
@@ -85,9 +88,14 @@ public class SquadCommands implements Runnable {
                             "ID", "Name", "Age Grade", "Players", "Coaches");
                     System.out.println("-".repeat(70));
 
+                    // One query counts players and coaches for every squad
+                    Map<Integer, SquadDashboard> dashboards = squadService.getAllSquadDashboards().stream()
+                            .collect(Collectors.toMap(SquadDashboard::getSquadId, dashboard -> dashboard));
+
                     for (Squad squad : squads) {
-                        int playerCount = squadService.getPlayerCount(squad.getSquadId());
-                        int coachCount = squadService.getCoachCount(squad.getSquadId());
+                        SquadDashboard dashboard = dashboards.get(squad.getSquadId());
+                        int playerCount = dashboard != null ? dashboard.getPlayerCount() : 0;
+                        int coachCount = dashboard != null ? dashboard.getCoachCount() : 0;
 
                         System.out.printf("%-4d %-20s %-15s %-12d %-12d\n",
                                 squad.getSquadId(),
@@ -239,21 +247,21 @@ public class SquadCommands implements Runnable {
             CoachService coachService = DependencyManager.getCoachService();
 
             try {
-                Squad squad = squadService.getSquadById(squadId);
+                SquadDashboard dashboard = squadService.getSquadDashboard(squadId);
 
                 System.out.println("\n=== Squad Details ===\n");
 
-                System.out.println("ID:        " + squad.getSquadId());
-                System.out.println("Name:      " + squad.getSquadName());
-                System.out.println("Age Grade: " + squad.getAgeGrade());
+                System.out.println("ID:        " + dashboard.getSquadId());
+                System.out.println("Name:      " + dashboard.getSquadName());
+                System.out.println("Age Grade: " + dashboard.getAgeGrade());
 
-                int playerCount = squadService.getPlayerCount(squadId);
-                int coachCount = squadService.getCoachCount(squadId);
+                int playerCount = dashboard.getPlayerCount();
+                int coachCount = dashboard.getCoachCount();
 
                 System.out.println("Players:   " + playerCount);
                 System.out.println("Coaches:   " + coachCount);
 
-                boolean hasMinimumCoaches = squadService.hasMinimumCoaches(squadId);
+                boolean hasMinimumCoaches = squadService.hasMinimumCoaches(dashboard);
                 System.out.println("Has Minimum Coaches: " + (hasMinimumCoaches ? "Yes" : "No"));
 
                 if (showPlayers && playerCount > 0) {
@@ -1,11 +1,16 @@
 package com.simplyrugby.domain;
 
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 /**
  * Represents an announcement sent to club members.
  */
 public class Announcement {
+    // Shared by every instance; unlike SimpleDateFormat, DateTimeFormatter is thread safe
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
     private int announcementId;
     private String title;
     private String content;
@@ -104,7 +109,7 @@ public class Announcement {
             return "Unknown";
         }
 
-        return new java.text.SimpleDateFormat("dd/MM/yyyy HH:mm:ss").format(sentDate);
+        return DISPLAY_FORMAT.format(sentDate.toInstant().atZone(ZoneId.systemDefault()));
     }
 
     /**
@@ -12,6 +12,8 @@ public class Game {
     private Date date;
     private String opponent;
     private String finalScore;
+    private int homeScore = -1;
+    private int awayScore = -1;
     private String venue;
     private Squad squad;
     private List<GameStats> gameStats = new ArrayList<>();
@@ -29,7 +31,7 @@ public class Game {
         this.gameId = gameId;
         this.date = date;
         this.opponent = opponent;
-        this.finalScore = finalScore;
+        setFinalScore(finalScore);
         this.venue = venue;
         this.squad = squad;
     }
@@ -64,8 +66,49 @@ public class Game {
         return finalScore;
     }
 
+    /**
+     * Sets the final score text and parses the home and away scores from it once.
+     * Text that is not in the format "XX - XX" leaves both scores unavailable.
+     *
+     * @param finalScore The final score, e.g. "24 - 17"
+     */
     public void setFinalScore(String finalScore) {
         this.finalScore = finalScore;
+        this.homeScore = -1;
+        this.awayScore = -1;
+
+        if (finalScore == null) {
+            return;
+        }
+
+        int separator = finalScore.indexOf(" - ");
+        if (separator > 0) {
+            int home = parseScore(finalScore, 0, separator);
+            int away = parseScore(finalScore, separator + 3, finalScore.length());
+            if (home != -1 && away != -1) {
+                this.homeScore = home;
+                this.awayScore = away;
+            }
+        }
+    }
+
+    /**
+     * Sets the home and away scores, keeping the final score text in step.
+     *
+     * @param homeScore The home team's score
+     * @param awayScore The away team's score
+     */
+    public void setScores(int homeScore, int awayScore) {
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.finalScore = homeScore + " - " + awayScore;
+    }
+
+    /**
+     * @return true if both the home and away scores are available
+     */
+    public boolean hasScores() {
+        return homeScore != -1 && awayScore != -1;
     }
 
     public String getVenue() {
@@ -188,39 +231,21 @@ public class Game {
     }
 
     /**
-     * Parses the final score and returns the home team's score
+     * Gets the home team's score
      * 
      * @return The home team's score, or -1 if not available
      */
     public int getHomeScore() {
-        if (finalScore == null || finalScore.isEmpty()) {
-            return -1;
-        }
-
-        try {
-            String[] scores = finalScore.split(" - ");
-            return Integer.parseInt(scores[0]);
-        } catch (Exception e) {
-            return -1;
-        }
+        return homeScore;
     }
 
     /**
-     * Parses the final score and returns the away team's score
+     * Gets the away team's score
      * 
      * @return The away team's score, or -1 if not available
      */
     public int getAwayScore() {
-        if (finalScore == null || finalScore.isEmpty()) {
-            return -1;
-        }
-
-        try {
-            String[] scores = finalScore.split(" - ");
-            return Integer.parseInt(scores[1]);
-        } catch (Exception e) {
-            return -1;
-        }
+        return awayScore;
     }
 
     /**
@@ -229,10 +254,7 @@ public class Game {
      * @return true if the game was won, false if lost or drawn
      */
     public boolean isWin() {
-        int home = getHomeScore();
-        int away = getAwayScore();
-
-        return home > away && home != -1 && away != -1;
+        return hasScores() && homeScore > awayScore;
     }
 
     /**
@@ -241,10 +263,7 @@ public class Game {
      * @return true if the game was lost, false if won or drawn
      */
     public boolean isLoss() {
-        int home = getHomeScore();
-        int away = getAwayScore();
-
-        return home < away && home != -1 && away != -1;
+        return hasScores() && homeScore < awayScore;
     }
 
     /**
@@ -253,10 +272,24 @@ public class Game {
      * @return true if the game was drawn, false otherwise
      */
     public boolean isDraw() {
-        int home = getHomeScore();
-        int away = getAwayScore();
+        return hasScores() && homeScore == awayScore;
+    }
+
+    // Helper method to parse a non-negative score from part of the final score text
+    private static int parseScore(String text, int start, int end) {
+        if (start >= end || end - start > 9) {
+            return -1;
+        }
 
-        return home == away && home != -1 && away != -1;
+        int score = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            score = score * 10 + (c - '0');
+        }
+        return score;
     }
 
     @Override
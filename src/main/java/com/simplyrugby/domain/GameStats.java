@@ -1,5 +1,7 @@
 package com.simplyrugby.domain;
 
+import java.util.Date;
+
 /**
  * Represents a player's statistics for a specific game.
  */
@@ -13,6 +15,7 @@ public class GameStats {
     private int kicks;
     private int overallRating;
     private boolean attended;
+    private Date gameDate;
 
     /**
      * Default constructor
@@ -136,6 +139,14 @@ public class GameStats {
         this.attended = attended;
     }
 
+    public Date getGameDate() {
+        return gameDate;
+    }
+
+    public void setGameDate(Date gameDate) {
+        this.gameDate = gameDate;
+    }
+
     /**
      * Calculates the overall rating based on individual skills
      */
@@ -0,0 +1,122 @@
+package com.simplyrugby.domain;
+
+/**
+ * Read-only summary of a player's game averages and training attendance,
+ * aggregated in the database rather than from the player's full history.
+ */
+public class PlayerSkillSummary {
+    private final int playerId;
+    private final String firstName;
+    private final String lastName;
+    private final int squadId;
+    private final int gamesAttended;
+    private final double averageTackles;
+    private final double averagePasses;
+    private final double averageTries;
+    private final double averageKicks;
+    private final double averageRating;
+    private final int sessionsRecorded;
+    private final int sessionsAttended;
+
+    /**
+     * Constructor with all fields
+     */
+    public PlayerSkillSummary(int playerId, String firstName, String lastName, int squadId,
+            int gamesAttended, double averageTackles, double averagePasses, double averageTries,
+            double averageKicks, double averageRating, int sessionsRecorded, int sessionsAttended) {
+        this.playerId = playerId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.squadId = squadId;
+        this.gamesAttended = gamesAttended;
+        this.averageTackles = averageTackles;
+        this.averagePasses = averagePasses;
+        this.averageTries = averageTries;
+        this.averageKicks = averageKicks;
+        this.averageRating = averageRating;
+        this.sessionsRecorded = sessionsRecorded;
+        this.sessionsAttended = sessionsAttended;
+    }
+
+    // Getters
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+
+    /**
+     * @return The player's squad ID, or 0 if the player is unassigned
+     */
+    public int getSquadId() {
+        return squadId;
+    }
+
+    public int getGamesAttended() {
+        return gamesAttended;
+    }
+
+    public double getAverageTackles() {
+        return averageTackles;
+    }
+
+    public double getAveragePasses() {
+        return averagePasses;
+    }
+
+    public double getAverageTries() {
+        return averageTries;
+    }
+
+    public double getAverageKicks() {
+        return averageKicks;
+    }
+
+    /**
+     * Same value as {@link Player#calculateOverallSkillRating()}.
+     *
+     * @return The average overall rating across attended games
+     */
+    public double getAverageRating() {
+        return averageRating;
+    }
+
+    public int getSessionsRecorded() {
+        return sessionsRecorded;
+    }
+
+    public int getSessionsAttended() {
+        return sessionsAttended;
+    }
+
+    /**
+     * Same value as {@link Player#calculateTrainingAttendanceRate()}.
+     *
+     * @return The attendance rate as a percentage
+     */
+    public double getAttendanceRate() {
+        return sessionsRecorded > 0 ? (double) sessionsAttended / sessionsRecorded * 100.0 : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerSkillSummary{" +
+                "playerId=" + playerId +
+                ", name='" + getFullName() + '\'' +
+                ", gamesAttended=" + gamesAttended +
+                ", averageRating=" + averageRating +
+                ", attendanceRate=" + getAttendanceRate() +
+                '}';
+    }
+}
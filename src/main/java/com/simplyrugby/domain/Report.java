@@ -1,11 +1,15 @@
 package com.simplyrugby.domain;
 
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 /**
  * Represents a report generated by the system.
  */
 public class Report {
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    
     private int reportId;
     private String title;
     private String content;
@@ -93,7 +97,7 @@ public class Report {
             return "Unknown";
         }
         
-        return new java.text.SimpleDateFormat("dd/MM/yyyy HH:mm:ss").format(generatedDate);
+        return DISPLAY_FORMAT.format(generatedDate.toInstant().atZone(ZoneId.systemDefault()));
     }
     
     @Override
@@ -0,0 +1,108 @@
+package com.simplyrugby.domain;
+
+import java.util.Date;
+
+/**
+ * Represents a playing season. Games and training sessions belong to the season
+ * whose date range contains them.
+ */
+public class Season {
+    private int seasonId;
+    private String name;
+    private Date startDate;
+    private Date endDate;
+    private boolean archived;
+
+    /**
+     * Default constructor
+     */
+    public Season() {
+    }
+
+    /**
+     * Constructor with all fields
+     */
+    public Season(int seasonId, String name, Date startDate, Date endDate, boolean archived) {
+        this.seasonId = seasonId;
+        this.name = name;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.archived = archived;
+    }
+
+    // Getters and Setters
+
+    public int getSeasonId() {
+        return seasonId;
+    }
+
+    public void setSeasonId(int seasonId) {
+        this.seasonId = seasonId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Date getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(Date startDate) {
+        this.startDate = startDate;
+    }
+
+    public Date getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(Date endDate) {
+        this.endDate = endDate;
+    }
+
+    /**
+     * @return True once the season's games and training sessions have been moved to the archive tables
+     */
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    /**
+     * Checks whether a date falls within this season (both ends inclusive)
+     *
+     * @param date The date to check
+     * @return True if the date is within the season
+     */
+    public boolean contains(Date date) {
+        return !date.before(startDate) && !date.after(endDate);
+    }
+
+    /**
+     * Checks whether this season's date range overlaps another season's
+     *
+     * @param other The other season
+     * @return True if the seasons share at least one day
+     */
+    public boolean overlaps(Season other) {
+        return !startDate.after(other.getEndDate()) && !other.getStartDate().after(endDate);
+    }
+
+    @Override
+    public String toString() {
+        return "Season{" +
+                "seasonId=" + seasonId +
+                ", name='" + name + '\'' +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", archived=" + archived +
+                '}';
+    }
+}
@@ -0,0 +1,105 @@
+package com.simplyrugby.domain;
+
+/**
+ * Read-only snapshot of a squad's headline figures: membership, coaching,
+ * game record and training attendance, all counted in a single query.
+ * Covers the current season's games and training; archived seasons are left out.
+ */
+public class SquadDashboard {
+    private final int squadId;
+    private final String squadName;
+    private final String ageGrade;
+    private final int playerCount;
+    private final int coachCount;
+    private final SquadRecord record;
+    private final int sessionsHeld;
+    private final int attendanceRecorded;
+    private final int attendancePresent;
+
+    /**
+     * Constructor with all fields
+     */
+    public SquadDashboard(int squadId, String squadName, String ageGrade, int playerCount, int coachCount,
+                          SquadRecord record, int sessionsHeld, int attendanceRecorded, int attendancePresent) {
+        this.squadId = squadId;
+        this.squadName = squadName;
+        this.ageGrade = ageGrade;
+        this.playerCount = playerCount;
+        this.coachCount = coachCount;
+        this.record = record;
+        this.sessionsHeld = sessionsHeld;
+        this.attendanceRecorded = attendanceRecorded;
+        this.attendancePresent = attendancePresent;
+    }
+
+    // Getters
+
+    public int getSquadId() {
+        return squadId;
+    }
+
+    public String getSquadName() {
+        return squadName;
+    }
+
+    public String getAgeGrade() {
+        return ageGrade;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getCoachCount() {
+        return coachCount;
+    }
+
+    /**
+     * @return The squad's win/loss/draw record; all zeros if no games are recorded
+     */
+    public SquadRecord getRecord() {
+        return record;
+    }
+
+    /**
+     * @return The number of training sessions recorded for the squad
+     */
+    public int getSessionsHeld() {
+        return sessionsHeld;
+    }
+
+    /**
+     * @return The number of attendance records across the squad's training sessions
+     */
+    public int getAttendanceRecorded() {
+        return attendanceRecorded;
+    }
+
+    /**
+     * @return The number of those attendance records where the player was present
+     */
+    public int getAttendancePresent() {
+        return attendancePresent;
+    }
+
+    /**
+     * @return The average training attendance as a percentage
+     */
+    public double getAverageAttendanceRate() {
+        return attendanceRecorded > 0 ? (double) attendancePresent / attendanceRecorded * 100.0 : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return "SquadDashboard{" +
+                "squadId=" + squadId +
+                ", squadName='" + squadName + '\'' +
+                ", ageGrade='" + ageGrade + '\'' +
+                ", playerCount=" + playerCount +
+                ", coachCount=" + coachCount +
+                ", record=" + record +
+                ", sessionsHeld=" + sessionsHeld +
+                ", averageAttendanceRate=" + getAverageAttendanceRate() +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.simplyrugby.domain;
+
+/**
+ * Read-only win/loss/draw record for a squad, counted in the database
+ * from the stored home and away scores.
+ */
+public class SquadRecord {
+    private final int squadId;
+    private final int gamesPlayed;
+    private final int wins;
+    private final int losses;
+    private final int draws;
+
+    /**
+     * Constructor with all fields
+     */
+    public SquadRecord(int squadId, int gamesPlayed, int wins, int losses, int draws) {
+        this.squadId = squadId;
+        this.gamesPlayed = gamesPlayed;
+        this.wins = wins;
+        this.losses = losses;
+        this.draws = draws;
+    }
+
+    // Getters
+
+    public int getSquadId() {
+        return squadId;
+    }
+
+    /**
+     * @return The number of games recorded for the squad, including games without a score
+     */
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    /**
+     * @return Array with [wins, losses, draws]
+     */
+    public int[] toArray() {
+        return new int[] {wins, losses, draws};
+    }
+
+    @Override
+    public String toString() {
+        return "SquadRecord{" +
+                "squadId=" + squadId +
+                ", gamesPlayed=" + gamesPlayed +
+                ", wins=" + wins +
+                ", losses=" + losses +
+                ", draws=" + draws +
+                '}';
+    }
+}
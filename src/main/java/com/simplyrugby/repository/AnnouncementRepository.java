@@ -16,6 +16,14 @@ public interface AnnouncementRepository {
      */
     Announcement findById(int id);
     
+    /**
+     * Check whether an announcement exists without loading it
+     * 
+     * @param id The announcement ID
+     * @return True if an announcement with the given ID exists
+     */
+    boolean existsById(int id);
+    
     /**
      * Find all announcements
      * 
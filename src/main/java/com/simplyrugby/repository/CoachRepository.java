@@ -15,6 +15,14 @@ public interface CoachRepository {
      */
     Coach findById(int id);
     
+    /**
+     * Check whether a coach exists without loading it
+     * 
+     * @param id The coach ID
+     * @return True if a coach with the given ID exists
+     */
+    boolean existsById(int id);
+    
     /**
      * Find a coach by member ID
      * 
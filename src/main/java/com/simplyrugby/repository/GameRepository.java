@@ -2,8 +2,12 @@ package com.simplyrugby.repository;
 
 import com.simplyrugby.domain.Game;
 import com.simplyrugby.domain.GameStats;
+import com.simplyrugby.domain.SquadRecord;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Game entity operations.
@@ -17,6 +21,14 @@ public interface GameRepository {
      */
     Game findById(int id);
     
+    /**
+     * Check whether a game exists without loading it
+     * 
+     * @param id The game ID
+     * @return True if a game with the given ID exists
+     */
+    boolean existsById(int id);
+    
     /**
      * Find all games
      * 
@@ -65,6 +77,33 @@ public interface GameRepository {
      */
     List<Game> findGamesBetweenDates(Date startDate, Date endDate);
     
+    /**
+     * Find games matching an optional squad and date range, ordered by date and optionally
+     * limited. Filtering, ordering and the limit run in the database, and the statistics of
+     * the selected games are loaded with a single query.
+     * 
+     * @param squadId The squad ID, or null for all squads
+     * @param startDate The earliest game date to include, or null for no lower bound
+     * @param endDate The latest game date to include, or null for no upper bound
+     * @param mostRecentFirst True to order from the latest game, false from the earliest
+     * @param limit The maximum number of games to return, or 0 for no limit
+     * @return List of matching games
+     */
+    List<Game> findGames(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit);
+    
+    /**
+     * Stream the games matching an optional squad and date range from the earliest, each with
+     * its statistics, mapping rows only as the stream reaches them. The stream holds a database
+     * connection until it is closed; close it with try-with-resources and consume it on the
+     * calling thread.
+     * 
+     * @param squadId The squad ID, or null for all squads
+     * @param startDate The earliest game date to include, or null for no lower bound
+     * @param endDate The latest game date to include, or null for no upper bound
+     * @return Stream of matching games
+     */
+    Stream<Game> streamGames(Integer squadId, Date startDate, Date endDate);
+    
     /**
      * Save a new game
      * 
@@ -89,6 +128,14 @@ public interface GameRepository {
      */
     boolean delete(int id);
     
+    /**
+     * Delete several games in one transaction, e.g. when archiving an old season
+     * 
+     * @param ids The game IDs to delete; IDs that don't exist are ignored
+     * @return The number of games deleted
+     */
+    int deleteAll(Collection<Integer> ids);
+    
     /**
      * Add game statistics for a player
      * 
@@ -98,10 +145,37 @@ public interface GameRepository {
     boolean addGameStats(GameStats stats);
     
     /**
-     * Update game statistics for a player
+     * Add statistics for several players in one transaction.
+     * A row for a player who already has statistics for the game is skipped.
+     * 
+     * @param statsList The game statistics to add
+     * @return Per-row results, in list order: true if the row was added, false if it was skipped
+     */
+    boolean[] addGameStatsBatch(List<GameStats> statsList);
+    
+    /**
+     * Record statistics for a player in a game in one round trip, replacing any
+     * statistics already recorded for that player and game
+     * 
+     * @param stats The game statistics to record
+     * @return True if the statistics were written, false if the player or game doesn't exist
+     */
+    boolean upsertGameStats(GameStats stats);
+    
+    /**
+     * Record statistics for several players in one transaction, replacing any
+     * statistics already recorded for the same player and game
+     * 
+     * @param statsList The game statistics to record
+     * @return The number of rows written
+     */
+    int upsertGameStatsBatch(List<GameStats> statsList);
+    
+    /**
+     * Update game statistics for a player, matched by game and player ID
      * 
      * @param stats The game statistics to update
-     * @return True if the update was successful
+     * @return True if the update was successful, false if no statistics were recorded
      */
     boolean updateGameStats(GameStats stats);
     
@@ -121,6 +195,15 @@ public interface GameRepository {
      */
     List<GameStats> getStatsByPlayer(int playerId);
     
+    /**
+     * Get game statistics for a specific player with each game's date,
+     * ordered from the earliest game to the latest
+     * 
+     * @param playerId The player ID
+     * @return List of game statistics with their game dates set
+     */
+    List<GameStats> getStatsTimelineForPlayer(int playerId);
+    
     /**
      * Get game statistics for a specific player in a specific game
      * 
@@ -152,4 +235,11 @@ public interface GameRepository {
      * @return Array with [wins, losses, draws]
      */
     int[] getSquadRecord(int squadId);
+    
+    /**
+     * Get the win/loss/draw records of every squad that has games, in one query
+     * 
+     * @return Map of squad ID to the squad's record, in squad ID order
+     */
+    Map<Integer, SquadRecord> getSquadRecords();
 }
\ No newline at end of file
@@ -15,6 +15,14 @@ public interface MemberRepository {
      */
     Member findById(int id);
     
+    /**
+     * Check whether a member exists without loading it
+     * 
+     * @param id The member ID
+     * @return True if a member with the given ID exists
+     */
+    boolean existsById(int id);
+    
     /**
      * Find all members
      * 
@@ -1,20 +1,82 @@
 package com.simplyrugby.repository;
 
 import com.simplyrugby.domain.Player;
+import com.simplyrugby.domain.PlayerSkillSummary;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Player entity operations.
  */
 public interface PlayerRepository {
     /**
-     * Find a player by player ID
+     * How much of a player's history to load alongside the player. History comes from the
+     * open seasons only; archived seasons are loaded only where a method offers {@code allSeasons}.
+     */
+    enum Fetch {
+        /** Player, member, squad and emergency contact details only */
+        SUMMARY,
+        /** Summary plus game statistics */
+        STATS,
+        /** Summary plus training attendance */
+        ATTENDANCE,
+        /** Summary plus game statistics and training attendance */
+        FULL;
+        
+        public boolean includesStats() {
+            return this == STATS || this == FULL;
+        }
+        
+        public boolean includesAttendance() {
+            return this == ATTENDANCE || this == FULL;
+        }
+    }
+    
+    /**
+     * Find a player by player ID with full game and training history
      * 
      * @param id The player ID
      * @return The player or null if not found
      */
     Player findById(int id);
     
+    /**
+     * Find a player by player ID, loading only the requested history
+     * 
+     * @param id The player ID
+     * @param fetch The history to load with the player
+     * @return The player or null if not found
+     */
+    Player findById(int id, Fetch fetch);
+    
+    /**
+     * Find a player by player ID, loading only the requested history. Game statistics and
+     * training attendance come from the open seasons unless archived seasons are requested.
+     * 
+     * @param id The player ID
+     * @param fetch The history to load with the player
+     * @param allSeasons True to also load history from archived seasons
+     * @return The player or null if not found
+     */
+    Player findById(int id, Fetch fetch, boolean allSeasons);
+    
+    /**
+     * Check whether a player exists without loading it
+     * 
+     * @param id The player ID
+     * @return True if a player with the given ID exists
+     */
+    boolean existsById(int id);
+    
+    /**
+     * Check whether every player in a set exists without loading them
+     * 
+     * @param ids The player IDs
+     * @return True if all of the given player IDs exist
+     */
+    boolean existsAll(Collection<Integer> ids);
+    
     /**
      * Find a player by member ID
      * 
@@ -30,6 +92,25 @@ public interface PlayerRepository {
      */
     List<Player> findAll();
     
+    /**
+     * Find all players, loading only the requested history
+     * 
+     * @param fetch The history to load with each player
+     * @return List of all players
+     */
+    List<Player> findAll(Fetch fetch);
+    
+    /**
+     * Stream all players in player ID order, mapping each row and loading its requested
+     * history only as the stream reaches it, so the whole club is never held in memory.
+     * The stream holds a database connection until it is closed; close it with
+     * try-with-resources and consume it on the calling thread.
+     * 
+     * @param fetch The history to load with each player
+     * @return Stream of all players
+     */
+    Stream<Player> streamAll(Fetch fetch);
+    
     /**
      * Find players by name (partial match)
      * 
@@ -38,6 +119,15 @@ public interface PlayerRepository {
      */
     List<Player> findByName(String name);
     
+    /**
+     * Find players by name (partial match), loading only the requested history
+     * 
+     * @param name The name to search for
+     * @param fetch The history to load with each player
+     * @return List of matching players
+     */
+    List<Player> findByName(String name, Fetch fetch);
+    
     /**
      * Find players assigned to a specific squad
      * 
@@ -46,6 +136,15 @@ public interface PlayerRepository {
      */
     List<Player> findBySquad(int squadId);
     
+    /**
+     * Find players assigned to a specific squad, loading only the requested history
+     * 
+     * @param squadId The squad ID
+     * @param fetch The history to load with each player
+     * @return List of players in the squad
+     */
+    List<Player> findBySquad(int squadId, Fetch fetch);
+    
     /**
      * Find players by position
      * 
@@ -54,6 +153,15 @@ public interface PlayerRepository {
      */
     List<Player> findByPosition(String position);
     
+    /**
+     * Find players by position, loading only the requested history
+     * 
+     * @param position The position to search for
+     * @param fetch The history to load with each player
+     * @return List of players with the given position
+     */
+    List<Player> findByPosition(String position, Fetch fetch);
+    
     /**
      * Find players by age grade
      * 
@@ -62,6 +170,15 @@ public interface PlayerRepository {
      */
     List<Player> findByAgeGrade(String ageGrade);
     
+    /**
+     * Find players by age grade, loading only the requested history
+     * 
+     * @param ageGrade The age grade to search for
+     * @param fetch The history to load with each player
+     * @return List of players in the given age grade
+     */
+    List<Player> findByAgeGrade(String ageGrade, Fetch fetch);
+    
     /**
      * Save a new player
      * 
@@ -127,4 +244,37 @@ public interface PlayerRepository {
      * @return List of players with their attendance records
      */
     List<Player> findPlayersWithAttendanceByTraining(int trainingId);
+    
+    /**
+     * Get aggregated game averages and attendance for a single player
+     * 
+     * @param playerId The player ID
+     * @return The player's skill summary or null if the player is not found
+     */
+    PlayerSkillSummary findSkillSummary(int playerId);
+    
+    /**
+     * Get aggregated game averages and attendance for a single player, optionally
+     * including archived seasons
+     * 
+     * @param playerId The player ID
+     * @param allSeasons True to also aggregate archived seasons, false for open seasons only
+     * @return The player's skill summary or null if the player is not found
+     */
+    PlayerSkillSummary findSkillSummary(int playerId, boolean allSeasons);
+    
+    /**
+     * Get aggregated game averages and attendance for every player in a squad
+     * 
+     * @param squadId The squad ID
+     * @return List of skill summaries ordered by player ID
+     */
+    List<PlayerSkillSummary> findSkillSummariesBySquad(int squadId);
+    
+    /**
+     * Get aggregated game averages and attendance for every player in the club
+     * 
+     * @return List of skill summaries ordered by player ID
+     */
+    List<PlayerSkillSummary> findAllSkillSummaries();
 }
\ No newline at end of file
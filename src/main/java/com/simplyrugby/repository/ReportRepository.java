@@ -16,6 +16,14 @@ public interface ReportRepository {
      */
     Report findById(int id);
     
+    /**
+     * Check whether a report exists without loading it
+     * 
+     * @param id The report ID
+     * @return True if a report with the given ID exists
+     */
+    boolean existsById(int id);
+    
     /**
      * Find all reports
      * 
@@ -0,0 +1,50 @@
+package com.simplyrugby.repository;
+
+import com.simplyrugby.domain.Season;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Repository interface for Season entity operations.
+ */
+public interface SeasonRepository {
+    /**
+     * Find a season by ID
+     *
+     * @param id The season ID
+     * @return The season or null if not found
+     */
+    Season findById(int id);
+
+    /**
+     * Find all seasons
+     *
+     * @return List of all seasons ordered by start date
+     */
+    List<Season> findAll();
+
+    /**
+     * Find the season whose date range contains a date
+     *
+     * @param date The date
+     * @return The season or null if the date falls outside every season
+     */
+    Season findByDate(Date date);
+
+    /**
+     * Save a new season
+     *
+     * @param season The season to save
+     * @return The ID of the newly created season
+     */
+    int save(Season season);
+
+    /**
+     * Move a season's games, game statistics, training sessions and attendance records
+     * from the live tables into the archive tables in one transaction, and mark the season archived
+     *
+     * @param seasonId The season ID
+     * @return True if the season was archived, false if it doesn't exist or is already archived
+     */
+    boolean archive(int seasonId);
+}
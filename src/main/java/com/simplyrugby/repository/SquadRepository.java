@@ -1,6 +1,7 @@
 package com.simplyrugby.repository;
 
 import com.simplyrugby.domain.Squad;
+import com.simplyrugby.domain.SquadDashboard;
 import java.util.List;
 
 /**
@@ -15,6 +16,14 @@ public interface SquadRepository {
      */
     Squad findById(int id);
     
+    /**
+     * Check whether a squad exists without loading it
+     * 
+     * @param id The squad ID
+     * @return True if a squad with the given ID exists
+     */
+    boolean existsById(int id);
+    
     /**
      * Find all squads
      * 
@@ -129,4 +138,19 @@ public interface SquadRepository {
      * @return The number of coaches
      */
     int getCoachCount(int squadId);
+    
+    /**
+     * Get a squad's player and coach counts, game record and training attendance in one query
+     * 
+     * @param squadId The squad ID
+     * @return The squad's dashboard or null if the squad doesn't exist
+     */
+    SquadDashboard findDashboard(int squadId);
+    
+    /**
+     * Get the dashboard of every squad in one query
+     * 
+     * @return List of dashboards ordered by squad ID
+     */
+    List<SquadDashboard> findAllDashboards();
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package com.simplyrugby.repository;
 
 import com.simplyrugby.domain.Training;
 import com.simplyrugby.domain.TrainingAttendance;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Repository interface for Training entity operations.
@@ -17,6 +19,14 @@ public interface TrainingRepository {
      */
     Training findById(int id);
     
+    /**
+     * Check whether a training session exists without loading it
+     * 
+     * @param id The training session ID
+     * @return True if a training session with the given ID exists
+     */
+    boolean existsById(int id);
+    
     /**
      * Find all training sessions
      * 
@@ -32,6 +42,46 @@ public interface TrainingRepository {
      */
     List<Training> findBySquad(int squadId);
     
+    /**
+     * Find training sessions for a squad within an optional date range, ordered by date.
+     * Attendance records for all returned sessions are loaded with a single query.
+     * 
+     * @param squadId The squad ID
+     * @param startDate The earliest session date to include, or null for no lower bound
+     * @param endDate The latest session date to include, or null for no upper bound
+     * @return List of training sessions for the squad
+     */
+    List<Training> findBySquadBetweenDates(int squadId, Date startDate, Date endDate);
+    
+    /**
+     * Find training sessions matching an optional squad and date range, ordered by date and
+     * optionally limited. Filtering, ordering and the limit run in the database, and the
+     * attendance records of the selected sessions are loaded with a single query.
+     * 
+     * @param squadId The squad ID, or null for all squads
+     * @param startDate The earliest session date to include, or null for no lower bound
+     * @param endDate The latest session date to include, or null for no upper bound
+     * @param mostRecentFirst True to order from the latest session, false from the earliest
+     * @param limit The maximum number of sessions to return, or 0 for no limit
+     * @return List of matching training sessions
+     */
+    List<Training> findTraining(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit);
+    
+    /**
+     * Find training sessions as {@link #findTraining(Integer, Date, Date, boolean, int)} does,
+     * optionally including sessions from archived seasons
+     * 
+     * @param squadId The squad ID, or null for all squads
+     * @param startDate The earliest session date to include, or null for no lower bound
+     * @param endDate The latest session date to include, or null for no upper bound
+     * @param mostRecentFirst True to order from the latest session, false from the earliest
+     * @param limit The maximum number of sessions to return, or 0 for no limit
+     * @param allSeasons True to also search archived seasons, false for open seasons only
+     * @return List of matching training sessions
+     */
+    List<Training> findTraining(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit,
+                                boolean allSeasons);
+    
     /**
      * Find training sessions after a specific date
      * 
@@ -81,6 +131,14 @@ public interface TrainingRepository {
      */
     boolean delete(int id);
     
+    /**
+     * Delete several training sessions in one transaction, e.g. when archiving an old season
+     * 
+     * @param ids The training session IDs to delete; IDs that don't exist are ignored
+     * @return The number of training sessions deleted
+     */
+    int deleteAll(Collection<Integer> ids);
+    
     /**
      * Add attendance record for a player
      * 
@@ -90,10 +148,28 @@ public interface TrainingRepository {
     boolean addAttendance(TrainingAttendance attendance);
     
     /**
-     * Update attendance record for a player
+     * Record attendance for a player in one round trip, replacing any
+     * attendance already recorded for that player and training session
+     * 
+     * @param attendance The attendance record to write
+     * @return True if the record was written, false if the player or training session doesn't exist
+     */
+    boolean upsertAttendance(TrainingAttendance attendance);
+    
+    /**
+     * Record attendance for several players in one transaction, replacing any
+     * attendance already recorded for the same player and training session
+     * 
+     * @param attendanceList The attendance records to write
+     * @return The number of records written
+     */
+    int upsertAttendanceBatch(List<TrainingAttendance> attendanceList);
+    
+    /**
+     * Update attendance record for a player, matched by training session and player ID
      * 
      * @param attendance The attendance record to update
-     * @return True if the update was successful
+     * @return True if the update was successful, false if no attendance was recorded
      */
     boolean updateAttendance(TrainingAttendance attendance);
     
@@ -106,13 +182,22 @@ public interface TrainingRepository {
     List<TrainingAttendance> getAttendanceRecords(int trainingId);
     
     /**
-     * Get attendance records for a specific player
+     * Get attendance records for a specific player in the open (not yet archived) seasons
      * 
      * @param playerId The player ID
      * @return List of attendance records for all training sessions
      */
     List<TrainingAttendance> getAttendanceByPlayer(int playerId);
     
+    /**
+     * Get attendance records for a specific player, optionally including archived seasons
+     * 
+     * @param playerId The player ID
+     * @param allSeasons True to also include archived seasons, false for open seasons only
+     * @return List of attendance records
+     */
+    List<TrainingAttendance> getAttendanceByPlayer(int playerId, boolean allSeasons);
+    
     /**
      * Get the attendance record for a specific player in a specific training session
      * 
@@ -154,10 +239,30 @@ public interface TrainingRepository {
     double getAttendanceRate(int trainingId);
     
     /**
-     * Get the attendance rate for a specific player across all training sessions
+     * Get the attendance rate for a specific player across the open (not yet archived) seasons
      * 
      * @param playerId The player ID
      * @return The attendance rate as a percentage
      */
     double getPlayerAttendanceRate(int playerId);
+    
+    /**
+     * Get the attendance rate for a specific player, optionally including archived seasons
+     * 
+     * @param playerId The player ID
+     * @param allSeasons True to also include archived seasons, false for open seasons only
+     * @return The attendance rate as a percentage
+     */
+    double getPlayerAttendanceRate(int playerId, boolean allSeasons);
+    
+    /**
+     * Count, for each player in a squad, the squad's sessions within an optional
+     * date range that the player was marked present for
+     * 
+     * @param squadId The squad ID
+     * @param startDate The earliest session date to include, or null for no lower bound
+     * @param endDate The latest session date to include, or null for no upper bound
+     * @return Map of player ID to attended session count; players who attended none are absent
+     */
+    Map<Integer, Integer> getAttendedCountsBySquad(int squadId, Date startDate, Date endDate);
 }
\ No newline at end of file
@@ -15,6 +15,14 @@ public interface UserRepository {
      */
     User findById(int id);
     
+    /**
+     * Check whether an user exists without loading it
+     * 
+     * @param id The user ID
+     * @return True if an user with the given ID exists
+     */
+    boolean existsById(int id);
+    
     /**
      * Find all users
      * 
@@ -0,0 +1,108 @@
+package com.simplyrugby.repository.impl;
+
+import com.simplyrugby.domain.Coach;
+import com.simplyrugby.repository.CoachRepository;
+
+import java.util.List;
+
+/**
+ * Coach repository decorator that caches coaches looked up by ID.
+ * Squads embed their coaches, so coach writes also drop cached squads.
+ */
+public class CachingCoachRepository implements CoachRepository {
+    private final CoachRepository delegate;
+    private final RepositoryCache cache;
+
+    public CachingCoachRepository(CoachRepository delegate, RepositoryCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Coach findById(int id) {
+        return cache.coaches().get(id, delegate::findById);
+    }
+
+    @Override
+    public boolean existsById(int id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public Coach findByMemberId(int memberId) {
+        return delegate.findByMemberId(memberId);
+    }
+
+    @Override
+    public List<Coach> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Coach> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public List<Coach> findBySquad(int squadId) {
+        return delegate.findBySquad(squadId);
+    }
+
+    @Override
+    public int save(Coach coach) {
+        try {
+            return delegate.save(coach);
+        } finally {
+            cache.squads().invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean update(Coach coach) {
+        try {
+            return delegate.update(coach);
+        } finally {
+            invalidateCoach(coach.getCoachId());
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            invalidateCoach(id);
+        }
+    }
+
+    @Override
+    public boolean assignToSquad(int coachId, int squadId) {
+        try {
+            return delegate.assignToSquad(coachId, squadId);
+        } finally {
+            cache.coaches().invalidate(coachId);
+            cache.squads().invalidate(squadId);
+        }
+    }
+
+    @Override
+    public boolean removeFromSquad(int coachId, int squadId) {
+        try {
+            return delegate.removeFromSquad(coachId, squadId);
+        } finally {
+            cache.coaches().invalidate(coachId);
+            cache.squads().invalidate(squadId);
+        }
+    }
+
+    @Override
+    public List<Coach> findByQualification(String qualification) {
+        return delegate.findByQualification(qualification);
+    }
+
+    // Helper method to drop a coach and the cached squads that list coaches
+    private void invalidateCoach(int coachId) {
+        cache.coaches().invalidate(coachId);
+        cache.squads().invalidateAll();
+    }
+}
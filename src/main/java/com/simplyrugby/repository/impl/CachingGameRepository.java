@@ -0,0 +1,208 @@
+package com.simplyrugby.repository.impl;
+
+import com.simplyrugby.domain.Game;
+import com.simplyrugby.domain.GameStats;
+import com.simplyrugby.domain.SquadRecord;
+import com.simplyrugby.repository.GameRepository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Game repository decorator that caches games looked up by ID.
+ * Games embed their statistics, so statistics writes drop the game and the player's cached statistics.
+ */
+public class CachingGameRepository implements GameRepository {
+    private final GameRepository delegate;
+    private final RepositoryCache cache;
+
+    public CachingGameRepository(GameRepository delegate, RepositoryCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Game findById(int id) {
+        return cache.games().get(id, delegate::findById);
+    }
+
+    @Override
+    public boolean existsById(int id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public List<Game> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Game> findBySquad(int squadId) {
+        return delegate.findBySquad(squadId);
+    }
+
+    @Override
+    public List<Game> findByOpponent(String opponent) {
+        return delegate.findByOpponent(opponent);
+    }
+
+    @Override
+    public List<Game> findGamesAfterDate(Date date) {
+        return delegate.findGamesAfterDate(date);
+    }
+
+    @Override
+    public List<Game> findGamesBeforeDate(Date date) {
+        return delegate.findGamesBeforeDate(date);
+    }
+
+    @Override
+    public List<Game> findGamesBetweenDates(Date startDate, Date endDate) {
+        return delegate.findGamesBetweenDates(startDate, endDate);
+    }
+
+    @Override
+    public List<Game> findGames(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit) {
+        return delegate.findGames(squadId, startDate, endDate, mostRecentFirst, limit);
+    }
+
+    @Override
+    public Stream<Game> streamGames(Integer squadId, Date startDate, Date endDate) {
+        return delegate.streamGames(squadId, startDate, endDate);
+    }
+
+    @Override
+    public int save(Game game) {
+        return delegate.save(game);
+    }
+
+    @Override
+    public boolean update(Game game) {
+        try {
+            return delegate.update(game);
+        } finally {
+            cache.games().invalidate(game.getGameId());
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            // Deleting a game also deletes its statistics, which players cache
+            cache.games().invalidate(id);
+            cache.players().invalidateAll();
+        }
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        try {
+            return delegate.deleteAll(ids);
+        } finally {
+            for (int id : ids) {
+                cache.games().invalidate(id);
+            }
+            cache.players().invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean addGameStats(GameStats stats) {
+        try {
+            return delegate.addGameStats(stats);
+        } finally {
+            invalidateStats(stats);
+        }
+    }
+
+    @Override
+    public boolean[] addGameStatsBatch(List<GameStats> statsList) {
+        try {
+            return delegate.addGameStatsBatch(statsList);
+        } finally {
+            for (GameStats stats : statsList) {
+                invalidateStats(stats);
+            }
+        }
+    }
+
+    @Override
+    public boolean upsertGameStats(GameStats stats) {
+        try {
+            return delegate.upsertGameStats(stats);
+        } finally {
+            invalidateStats(stats);
+        }
+    }
+
+    @Override
+    public int upsertGameStatsBatch(List<GameStats> statsList) {
+        try {
+            return delegate.upsertGameStatsBatch(statsList);
+        } finally {
+            for (GameStats stats : statsList) {
+                invalidateStats(stats);
+            }
+        }
+    }
+
+    @Override
+    public boolean updateGameStats(GameStats stats) {
+        try {
+            return delegate.updateGameStats(stats);
+        } finally {
+            invalidateStats(stats);
+        }
+    }
+
+    @Override
+    public List<GameStats> getGameStats(int gameId) {
+        return delegate.getGameStats(gameId);
+    }
+
+    @Override
+    public List<GameStats> getStatsByPlayer(int playerId) {
+        return delegate.getStatsByPlayer(playerId);
+    }
+
+    @Override
+    public List<GameStats> getStatsTimelineForPlayer(int playerId) {
+        return delegate.getStatsTimelineForPlayer(playerId);
+    }
+
+    @Override
+    public GameStats getPlayerGameStats(int gameId, int playerId) {
+        return delegate.getPlayerGameStats(gameId, playerId);
+    }
+
+    @Override
+    public List<Game> findUpcomingGames() {
+        return delegate.findUpcomingGames();
+    }
+
+    @Override
+    public List<Game> findRecentGames(int limit) {
+        return delegate.findRecentGames(limit);
+    }
+
+    @Override
+    public int[] getSquadRecord(int squadId) {
+        return delegate.getSquadRecord(squadId);
+    }
+
+    @Override
+    public Map<Integer, SquadRecord> getSquadRecords() {
+        return delegate.getSquadRecords();
+    }
+
+    // Helper method to drop the game and player that a statistics row belongs to
+    private void invalidateStats(GameStats stats) {
+        cache.games().invalidate(stats.getGameId());
+        CachingPlayerRepository.invalidatePlayer(cache, stats.getPlayerId());
+    }
+}
@@ -0,0 +1,222 @@
+package com.simplyrugby.repository.impl;
+
+import com.simplyrugby.domain.Player;
+import com.simplyrugby.domain.PlayerSkillSummary;
+import com.simplyrugby.repository.PlayerRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Player repository decorator that caches players looked up by ID.
+ * Only the SUMMARY and STATS fetch plans are cached: game statistics are written through the
+ * caching game repository, which drops the affected players, but training attendance is not,
+ * so plans that include attendance always go to the database.
+ */
+public class CachingPlayerRepository implements PlayerRepository {
+    private final PlayerRepository delegate;
+    private final RepositoryCache cache;
+
+    public CachingPlayerRepository(PlayerRepository delegate, RepositoryCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Player findById(int id) {
+        return findById(id, Fetch.FULL);
+    }
+
+    @Override
+    public Player findById(int id, Fetch fetch) {
+        if (fetch.includesAttendance()) {
+            return delegate.findById(id, fetch);
+        }
+        return cache.players().get(key(id, fetch), key -> delegate.findById(id, fetch));
+    }
+
+    @Override
+    public Player findById(int id, Fetch fetch, boolean allSeasons) {
+        // Only the open seasons' history is cached
+        return allSeasons ? delegate.findById(id, fetch, true) : findById(id, fetch);
+    }
+
+    @Override
+    public boolean existsById(int id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsAll(Collection<Integer> ids) {
+        return delegate.existsAll(ids);
+    }
+
+    @Override
+    public Player findByMemberId(int memberId) {
+        return delegate.findByMemberId(memberId);
+    }
+
+    @Override
+    public List<Player> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Player> findAll(Fetch fetch) {
+        return delegate.findAll(fetch);
+    }
+
+    @Override
+    public Stream<Player> streamAll(Fetch fetch) {
+        return delegate.streamAll(fetch);
+    }
+
+    @Override
+    public List<Player> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public List<Player> findByName(String name, Fetch fetch) {
+        return delegate.findByName(name, fetch);
+    }
+
+    @Override
+    public List<Player> findBySquad(int squadId) {
+        return delegate.findBySquad(squadId);
+    }
+
+    @Override
+    public List<Player> findBySquad(int squadId, Fetch fetch) {
+        return delegate.findBySquad(squadId, fetch);
+    }
+
+    @Override
+    public List<Player> findByPosition(String position) {
+        return delegate.findByPosition(position);
+    }
+
+    @Override
+    public List<Player> findByPosition(String position, Fetch fetch) {
+        return delegate.findByPosition(position, fetch);
+    }
+
+    @Override
+    public List<Player> findByAgeGrade(String ageGrade) {
+        return delegate.findByAgeGrade(ageGrade);
+    }
+
+    @Override
+    public List<Player> findByAgeGrade(String ageGrade, Fetch fetch) {
+        return delegate.findByAgeGrade(ageGrade, fetch);
+    }
+
+    @Override
+    public int save(Player player) {
+        try {
+            return delegate.save(player);
+        } finally {
+            // Squads list their players
+            cache.squads().invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean update(Player player) {
+        try {
+            return delegate.update(player);
+        } finally {
+            invalidatePlayer(cache, player.getPlayerId());
+            cache.squads().invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            // Deleting a player also deletes their game statistics
+            invalidatePlayer(cache, id);
+            cache.squads().invalidateAll();
+            cache.games().invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean assignToSquad(int playerId, int squadId) {
+        try {
+            return delegate.assignToSquad(playerId, squadId);
+        } finally {
+            invalidatePlayer(cache, playerId);
+            cache.squads().invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean removeFromSquad(int playerId) {
+        try {
+            return delegate.removeFromSquad(playerId);
+        } finally {
+            invalidatePlayer(cache, playerId);
+            cache.squads().invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean setEmergencyContact(int playerId, int emergencyContactId) {
+        try {
+            return delegate.setEmergencyContact(playerId, emergencyContactId);
+        } finally {
+            invalidatePlayer(cache, playerId);
+        }
+    }
+
+    @Override
+    public List<Player> findPlayersWithStatsByGame(int gameId) {
+        return delegate.findPlayersWithStatsByGame(gameId);
+    }
+
+    @Override
+    public List<Player> findPlayersWithAttendanceByTraining(int trainingId) {
+        return delegate.findPlayersWithAttendanceByTraining(trainingId);
+    }
+
+    @Override
+    public PlayerSkillSummary findSkillSummary(int playerId) {
+        return delegate.findSkillSummary(playerId);
+    }
+
+    @Override
+    public PlayerSkillSummary findSkillSummary(int playerId, boolean allSeasons) {
+        return delegate.findSkillSummary(playerId, allSeasons);
+    }
+
+    @Override
+    public List<PlayerSkillSummary> findSkillSummariesBySquad(int squadId) {
+        return delegate.findSkillSummariesBySquad(squadId);
+    }
+
+    @Override
+    public List<PlayerSkillSummary> findAllSkillSummaries() {
+        return delegate.findAllSkillSummaries();
+    }
+
+    /**
+     * Drops every cached fetch plan of a player.
+     *
+     * @param cache The shared caches
+     * @param playerId The player ID
+     */
+    static void invalidatePlayer(RepositoryCache cache, int playerId) {
+        for (Fetch fetch : Fetch.values()) {
+            cache.players().invalidate(key(playerId, fetch));
+        }
+    }
+
+    // Helper method to build the cache key for a player and fetch plan
+    private static String key(int playerId, Fetch fetch) {
+        return playerId + ":" + fetch.name();
+    }
+}
@@ -0,0 +1,52 @@
+package com.simplyrugby.repository.impl;
+
+import com.simplyrugby.domain.Season;
+import com.simplyrugby.repository.SeasonRepository;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Season repository decorator that keeps the entity cache consistent with archiving.
+ * Seasons themselves are not cached; archiving moves games and player history out of
+ * the live tables, so it drops the cached games and players.
+ */
+public class CachingSeasonRepository implements SeasonRepository {
+    private final SeasonRepository delegate;
+    private final RepositoryCache cache;
+
+    public CachingSeasonRepository(SeasonRepository delegate, RepositoryCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Season findById(int id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Season> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Season findByDate(Date date) {
+        return delegate.findByDate(date);
+    }
+
+    @Override
+    public int save(Season season) {
+        return delegate.save(season);
+    }
+
+    @Override
+    public boolean archive(int seasonId) {
+        try {
+            return delegate.archive(seasonId);
+        } finally {
+            cache.games().invalidateAll();
+            cache.players().invalidateAll();
+        }
+    }
+}
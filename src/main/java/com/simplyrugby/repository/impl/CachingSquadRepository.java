@@ -0,0 +1,153 @@
+package com.simplyrugby.repository.impl;
+
+import com.simplyrugby.domain.Squad;
+import com.simplyrugby.domain.SquadDashboard;
+import com.simplyrugby.repository.SquadRepository;
+
+import java.util.List;
+
+/**
+ * Squad repository decorator that caches squads looked up by ID.
+ * Squads embed their players and coaches, and players, coaches and games embed squads,
+ * so squad writes also drop those cached entities.
+ */
+public class CachingSquadRepository implements SquadRepository {
+    private final SquadRepository delegate;
+    private final RepositoryCache cache;
+
+    public CachingSquadRepository(SquadRepository delegate, RepositoryCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Squad findById(int id) {
+        return cache.squads().get(id, delegate::findById);
+    }
+
+    @Override
+    public boolean existsById(int id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public List<Squad> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Squad> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public List<Squad> findByAgeGrade(String ageGrade) {
+        return delegate.findByAgeGrade(ageGrade);
+    }
+
+    @Override
+    public List<Squad> findByCoach(int coachId) {
+        return delegate.findByCoach(coachId);
+    }
+
+    @Override
+    public Squad findByPlayer(int playerId) {
+        return delegate.findByPlayer(playerId);
+    }
+
+    @Override
+    public int save(Squad squad) {
+        return delegate.save(squad);
+    }
+
+    @Override
+    public boolean update(Squad squad) {
+        try {
+            return delegate.update(squad);
+        } finally {
+            invalidateSquad(squad.getSquadId());
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            invalidateSquad(id);
+        }
+    }
+
+    @Override
+    public boolean addPlayer(int squadId, int playerId) {
+        try {
+            return delegate.addPlayer(squadId, playerId);
+        } finally {
+            invalidateMembership(playerId);
+        }
+    }
+
+    @Override
+    public boolean removePlayer(int squadId, int playerId) {
+        try {
+            return delegate.removePlayer(squadId, playerId);
+        } finally {
+            invalidateMembership(playerId);
+        }
+    }
+
+    @Override
+    public boolean addCoach(int squadId, int coachId) {
+        try {
+            return delegate.addCoach(squadId, coachId);
+        } finally {
+            cache.squads().invalidate(squadId);
+            cache.coaches().invalidate(coachId);
+        }
+    }
+
+    @Override
+    public boolean removeCoach(int squadId, int coachId) {
+        try {
+            return delegate.removeCoach(squadId, coachId);
+        } finally {
+            cache.squads().invalidate(squadId);
+            cache.coaches().invalidate(coachId);
+        }
+    }
+
+    @Override
+    public int getPlayerCount(int squadId) {
+        return delegate.getPlayerCount(squadId);
+    }
+
+    @Override
+    public int getCoachCount(int squadId) {
+        return delegate.getCoachCount(squadId);
+    }
+
+    // Dashboards count rows owned by other repositories, so they are always read fresh
+    @Override
+    public SquadDashboard findDashboard(int squadId) {
+        return delegate.findDashboard(squadId);
+    }
+
+    @Override
+    public List<SquadDashboard> findAllDashboards() {
+        return delegate.findAllDashboards();
+    }
+
+    // Helper method to drop a squad and every cached entity that embeds squad details
+    private void invalidateSquad(int squadId) {
+        cache.squads().invalidate(squadId);
+        cache.players().invalidateAll();
+        cache.coaches().invalidateAll();
+        cache.games().invalidateAll();
+    }
+
+    // Helper method to drop entities affected by a player moving squad (the player may leave another squad)
+    private void invalidateMembership(int playerId) {
+        cache.squads().invalidateAll();
+        CachingPlayerRepository.invalidatePlayer(cache, playerId);
+    }
+}
@@ -0,0 +1,42 @@
+package com.simplyrugby.repository.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps the rows of a query by column position. {@link #compile(ResultSet)} looks up the index
+ * of every column the mapper reads once for a result set, and the mapper it returns reads each
+ * row by index, so a wide join doesn't repeat a label lookup for every column of every row.
+ * Queries mapped this way select an explicit column list, so each label names one column.
+ *
+ * @param <T> The mapped type
+ */
+@FunctionalInterface
+interface CompiledRowMapper<T> {
+
+    /**
+     * Resolve the columns this mapper reads against a result set
+     *
+     * @param rs The result set whose rows will be mapped
+     * @return A mapper for the rows of that result set
+     * @throws SQLException If a column the mapper reads isn't in the result set
+     */
+    StreamingQuery.RowMapper<T> compile(ResultSet rs) throws SQLException;
+
+    /**
+     * Map every remaining row of a result set
+     *
+     * @param rs The result set, positioned before the first row to map
+     * @return The mapped rows, in result order
+     */
+    default List<T> mapAll(ResultSet rs) throws SQLException {
+        StreamingQuery.RowMapper<T> mapper = compile(rs);
+        List<T> rows = new ArrayList<>();
+        while (rs.next()) {
+            rows.add(mapper.map(rs));
+        }
+        return rows;
+    }
+}
@@ -1,60 +1,483 @@
 package com.simplyrugby.repository.impl;
 
+import org.sqlite.SQLiteConfig;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Manages database connections for the application.
+ * Manages bounded pools of database connections for the application.
+ * <p>
+ * Connections are handed out as lease handles: calling {@code close()} on a
+ * handle returns the underlying connection to the pool instead of closing it.
+ * A thread that already holds a lease gets a nested handle on the same
+ * connection, so helper methods that open their own connection inside an
+ * outer call (or transaction) never wait on themselves.
+ * <p>
+ * When the {@link StorageProfile} splits reads from writes, writes go through
+ * a single writer connection and {@link #getReadConnection()} leases one of
+ * several read-only connections, so readers never wait on the writer.
  */
 public class ConnectionManager {
+    public static final int DEFAULT_POOL_SIZE = 4;
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 5000;
+
+    static {
+        try {
+            // Load the SQLite JDBC driver once for all pools
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new ExceptionInInitializerError("SQLite JDBC driver not found");
+        }
+    }
+
     private final String dbUrl;
-    private Connection connection;
-    
+    private final long maxWaitMillis;
+    private final StorageProfile profile;
+    private final Pool writers;
+    private final Pool readers;
+
     /**
-     * Creates a new ConnectionManager for the specified database.
-     * 
+     * Creates a new ConnectionManager for the specified database using the
+     * default pool size, wait time and storage profile.
+     *
      * @param dbName The name of the database file
      */
     public ConnectionManager(String dbName) {
+        this(dbName, DEFAULT_POOL_SIZE, DEFAULT_MAX_WAIT_MILLIS);
+    }
+
+    /**
+     * Creates a new ConnectionManager for the specified database using the
+     * default storage profile.
+     *
+     * @param dbName The name of the database file
+     * @param poolSize The maximum number of open connections
+     * @param maxWaitMillis How long a caller waits for a free connection before failing
+     */
+    public ConnectionManager(String dbName, int poolSize, long maxWaitMillis) {
+        this(dbName, poolSize, maxWaitMillis, StorageProfile.DEFAULT);
+    }
+
+    /**
+     * Creates a new ConnectionManager for the specified database.
+     *
+     * @param dbName The name of the database file
+     * @param poolSize The maximum number of open connections, or of reader
+     *                 connections when the profile splits reads from writes
+     * @param maxWaitMillis How long a caller waits for a free connection before failing
+     * @param profile The storage profile applied to every connection
+     */
+    public ConnectionManager(String dbName, int poolSize, long maxWaitMillis, StorageProfile profile) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        }
         this.dbUrl = "jdbc:sqlite:" + dbName;
+        this.maxWaitMillis = maxWaitMillis;
+        this.profile = profile;
+
+        if (profile.isSplitReadWrite()) {
+            this.writers = new Pool(1, false);
+            this.readers = new Pool(poolSize, true);
+        } else {
+            this.writers = new Pool(poolSize, false);
+            this.readers = null;
+        }
     }
-    
+
     /**
-     * Gets a connection to the database.
-     * If a connection already exists and is valid, it will be reused.
-     * 
+     * Gets a writable connection lease from the pool.
+     * Closing the returned connection gives it back to the pool.
+     *
      * @return A connection to the database
-     * @throws SQLException If a database access error occurs
+     * @throws SQLException If a database access error occurs or no connection
+     *                      became free within the configured wait time
      */
     public Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            try {
-                // Load the SQLite JDBC driver
-                Class.forName("org.sqlite.JDBC");
-                
-                // Create a new connection
-                connection = DriverManager.getConnection(dbUrl);
-                connection.setAutoCommit(true);
-            } catch (ClassNotFoundException e) {
-                throw new SQLException("SQLite JDBC driver not found", e);
-            }
+        return writers.lease();
+    }
+
+    /**
+     * Gets a connection lease for queries that do not modify the database.
+     * If the calling thread already holds the writer (for example inside a
+     * transaction) the read joins it so it sees its own uncommitted changes.
+     *
+     * @return A connection to the database, read-only when reads are split
+     * @throws SQLException If a database access error occurs or no connection
+     *                      became free within the configured wait time
+     */
+    public Connection getReadConnection() throws SQLException {
+        if (readers == null || writers.isHeldByCurrentThread()) {
+            return writers.lease();
         }
-        return connection;
+        return readers.lease();
     }
-    
+
     /**
-     * Closes the database connection if it is open.
+     * Closes every pooled connection. Leases still held are closed when they
+     * are released.
      */
     public void closeConnection() {
-        if (connection != null) {
+        if (readers != null) {
+            readers.shutdown();
+        }
+        writers.shutdown();
+    }
+
+    /**
+     * Gets a snapshot of the writer pool metrics. Without a read/write split
+     * this pool serves every lease.
+     *
+     * @return The current pool statistics
+     */
+    public PoolStats getStats() {
+        return writers.stats();
+    }
+
+    /**
+     * Gets a snapshot of the reader pool metrics.
+     *
+     * @return The reader pool statistics, or the shared pool statistics when
+     *         reads are not split from writes
+     */
+    public PoolStats getReaderStats() {
+        return readers != null ? readers.stats() : writers.stats();
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public StorageProfile getProfile() {
+        return profile;
+    }
+
+    private Connection openConnection(boolean readOnly) throws SQLException {
+        Connection connection;
+        if (readOnly) {
+            // The writer creates the file and switches the journal mode first
+            writers.warmUp();
+
+            SQLiteConfig config = new SQLiteConfig();
+            config.setReadOnly(true);
+            connection = DriverManager.getConnection(dbUrl, config.toProperties());
+        } else {
+            connection = DriverManager.getConnection(dbUrl);
+        }
+        profile.apply(connection, !readOnly);
+
+        // Enforce the schema's foreign keys so deletes cascade (SQLite leaves them off per connection)
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA foreign_keys = ON");
+        }
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Log the error but don't throw it
+            System.err.println("Error closing database connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A bounded set of physical connections with per-thread leases.
+     */
+    private final class Pool {
+        private final int size;
+        private final boolean readOnly;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition available = lock.newCondition();
+        private final Deque<Connection> idle = new ArrayDeque<>();
+        private final List<Connection> all = new ArrayList<>();
+        private final ThreadLocal<Lease> currentLease = new ThreadLocal<>();
+        private boolean shutdown;
+
+        private final AtomicLong leases = new AtomicLong();
+        private final AtomicLong waits = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+
+        private Pool(int size, boolean readOnly) {
+            this.size = size;
+            this.readOnly = readOnly;
+        }
+
+        private boolean isHeldByCurrentThread() {
+            return currentLease.get() != null;
+        }
+
+        private Connection lease() throws SQLException {
+            leases.incrementAndGet();
+
+            Lease lease = currentLease.get();
+            if (lease == null) {
+                lease = new Lease(acquire());
+                currentLease.set(lease);
+            }
+            lease.holders++;
+
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this, lease));
+        }
+
+        // Makes sure at least one connection has been opened
+        private void warmUp() throws SQLException {
+            lock.lock();
             try {
-                connection.close();
-                connection = null;
+                if (!all.isEmpty()) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            lease().close();
+        }
+
+        // Takes an idle connection, opens a new one or waits for one to be released
+        private Connection acquire() throws SQLException {
+            lock.lock();
+            try {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+                boolean waited = false;
+
+                while (true) {
+                    if (shutdown) {
+                        throw new SQLException("Connection pool has been shut down");
+                    }
+
+                    Connection connection = idle.pollFirst();
+                    if (connection != null) {
+                        if (!connection.isClosed()) {
+                            return connection;
+                        }
+                        all.remove(connection);
+                        continue;
+                    }
+
+                    if (all.size() < size) {
+                        Connection created = openConnection(readOnly);
+                        all.add(created);
+                        return created;
+                    }
+
+                    if (!waited) {
+                        waits.incrementAndGet();
+                        waited = true;
+                    }
+                    if (remaining <= 0) {
+                        timeouts.incrementAndGet();
+                        throw new SQLException("Timed out after " + maxWaitMillis +
+                                " ms waiting for a database connection");
+                    }
+                    try {
+                        remaining = available.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a database connection", e);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Returns a connection to the pool once its last holder has released it
+        private void release(Lease lease) {
+            if (--lease.holders > 0) {
+                return;
+            }
+            currentLease.remove();
+
+            Connection connection = lease.connection;
+            boolean reusable;
+            try {
+                if (!connection.getAutoCommit()) {
+                    // Never hand out a connection with a dangling transaction
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+                reusable = !connection.isClosed();
             } catch (SQLException e) {
-                // Log the error but don't throw it
-                System.err.println("Error closing database connection: " + e.getMessage());
+                reusable = false;
+            }
+
+            lock.lock();
+            try {
+                if (reusable && !shutdown) {
+                    idle.addFirst(connection);
+                } else {
+                    all.remove(connection);
+                    closeQuietly(connection);
+                }
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void shutdown() {
+            lock.lock();
+            try {
+                shutdown = true;
+                for (Connection connection : idle) {
+                    closeQuietly(connection);
+                    all.remove(connection);
+                }
+                idle.clear();
+                available.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private PoolStats stats() {
+            lock.lock();
+            try {
+                return new PoolStats(leases.get(), waits.get(), timeouts.get(),
+                        all.size(), idle.size(), size);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A physical connection checked out by one thread, shared by all of the
+     * handles that thread has open.
+     */
+    private static final class Lease {
+        private final Connection connection;
+        private int holders;
+
+        private Lease(Connection connection) {
+            this.connection = connection;
+        }
+    }
+
+    /**
+     * Backs a single lease handle: {@code close()} releases the lease and any
+     * other call is forwarded to the pooled connection.
+     */
+    private static final class LeaseHandler implements InvocationHandler {
+        private final Pool pool;
+        private final Lease lease;
+        private boolean closed;
+
+        private LeaseHandler(Pool pool, Lease lease) {
+            this.pool = pool;
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        pool.release(lease);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || lease.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + lease.connection + "]";
+                default:
+                    break;
             }
+
+            if (closed) {
+                throw new SQLException("Connection lease has already been released");
+            }
+            try {
+                return method.invoke(lease.connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Point-in-time connection pool metrics.
+     */
+    public static final class PoolStats {
+        private final long leases;
+        private final long waits;
+        private final long timeouts;
+        private final int openCount;
+        private final int idleCount;
+        private final int poolSize;
+
+        private PoolStats(long leases, long waits, long timeouts, int openCount, int idleCount, int poolSize) {
+            this.leases = leases;
+            this.waits = waits;
+            this.timeouts = timeouts;
+            this.openCount = openCount;
+            this.idleCount = idleCount;
+            this.poolSize = poolSize;
+        }
+
+        /** @return Total number of connection handles handed out */
+        public long getLeases() {
+            return leases;
+        }
+
+        /** @return Number of acquisitions that had to wait for a free connection */
+        public long getWaits() {
+            return waits;
+        }
+
+        /** @return Number of acquisitions that gave up after the maximum wait */
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        /** @return Number of physical connections currently open */
+        public int getOpenCount() {
+            return openCount;
+        }
+
+        /** @return Number of open connections not currently leased */
+        public int getIdleCount() {
+            return idleCount;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        @Override
+        public String toString() {
+            return "PoolStats{" +
+                    "leases=" + leases +
+                    ", waits=" + waits +
+                    ", timeouts=" + timeouts +
+                    ", open=" + openCount +
+                    ", idle=" + idleCount +
+                    ", poolSize=" + poolSize +
+                    '}';
         }
     }
-}
\ No newline at end of file
+}
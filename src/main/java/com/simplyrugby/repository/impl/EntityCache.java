@@ -0,0 +1,249 @@
+package com.simplyrugby.repository.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Size-bounded, least-recently-used cache of entities with a time-to-live.
+ * Used by the caching repository decorators; all methods are thread safe.
+ * <p>
+ * Entities are mutable, so the cache stores its own copy of each one and returns a new copy on
+ * every hit. Changes a caller makes to an entity it was given are never seen by other callers;
+ * they only reach the cache by being saved through the repository, which invalidates the entry.
+ *
+ * @param <K> The key type
+ * @param <V> The entity type
+ */
+public class EntityCache<K, V> {
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final UnaryOperator<V> copier;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // Bumped by every invalidation so a load that overlapped a write isn't cached
+    private long generation;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a cache.
+     *
+     * @param name The name reported in the cache statistics
+     * @param maxEntries The maximum number of entries before the least recently used is evicted
+     * @param ttlMillis How long an entry stays valid after it was loaded; 0 or less keeps entries until evicted
+     * @param copier Makes an independent deep copy of an entity
+     */
+    public EntityCache(String name, int maxEntries, long ttlMillis, UnaryOperator<V> copier) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis > 0 ? ttlMillis * 1_000_000L : 0;
+        this.copier = copier;
+
+        // Access order makes iteration start at the least recently used entry
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > EntityCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets a copy of a cached entity, loading and caching it on a miss.
+     * A loader result of null is returned but not cached, and neither is a result loaded while
+     * any entry was invalidated, since it may predate the write that caused the invalidation.
+     *
+     * @param key The key
+     * @param loader Loads the entity from the underlying repository
+     * @return The entity, which the caller may modify, or null if the loader found none
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (!entry.isExpired(System.nanoTime())) {
+                    hits++;
+                    return copier.apply(entry.value);
+                }
+                entries.remove(key);
+                evictions++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        // Load outside the lock so a slow query doesn't block other readers
+        V value = loader.apply(key);
+        if (value != null) {
+            V copy = copier.apply(value);
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(key, newEntry(copy));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Caches a copy of an entity, replacing any existing entry for the key.
+     *
+     * @param key The key
+     * @param value The entity
+     */
+    public void put(K key, V value) {
+        // Copy outside the lock; a squad copy includes its whole roster
+        V copy = copier.apply(value);
+        synchronized (this) {
+            entries.put(key, newEntry(copy));
+        }
+    }
+
+    /**
+     * Removes the entry for a key, if any.
+     *
+     * @param key The key
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every entry whose key matches the predicate.
+     *
+     * @param predicate Selects the keys to remove
+     */
+    public synchronized void invalidateIf(Predicate<? super K> predicate) {
+        generation++;
+        Iterator<K> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            if (predicate.test(keys.next())) {
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     *
+     * @return The current statistics
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(name, hits, misses, evictions, entries.size(), maxEntries);
+    }
+
+    // Helper method to wrap a value in an entry that expires one time-to-live from now
+    private Entry<V> newEntry(V value) {
+        long expiresAt = ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0;
+        return new Entry<>(value, expiresAt);
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * Point-in-time hit/miss counters for a cache.
+     */
+    public static final class CacheStats {
+        private final String name;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+        private final int maxEntries;
+
+        private CacheStats(String name, long hits, long misses, long evictions, int size, int maxEntries) {
+            this.name = name;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+            this.maxEntries = maxEntries;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /** @return Number of lookups served from the cache */
+        public long getHits() {
+            return hits;
+        }
+
+        /** @return Number of lookups that went to the underlying repository */
+        public long getMisses() {
+            return misses;
+        }
+
+        /** @return Number of entries dropped for size or age (explicit invalidations are not counted) */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /** @return Number of entries currently cached */
+        public int getSize() {
+            return size;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        /** @return Hits as a percentage of all lookups */
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups > 0 ? (double) hits / lookups * 100.0 : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheStats{" +
+                    "name='" + name + '\'' +
+                    ", hits=" + hits +
+                    ", misses=" + misses +
+                    ", evictions=" + evictions +
+                    ", size=" + size +
+                    ", maxEntries=" + maxEntries +
+                    '}';
+        }
+    }
+}
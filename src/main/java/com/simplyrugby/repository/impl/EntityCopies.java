@@ -0,0 +1,154 @@
+package com.simplyrugby.repository.impl;
+
+import com.simplyrugby.domain.Coach;
+import com.simplyrugby.domain.Game;
+import com.simplyrugby.domain.GameStats;
+import com.simplyrugby.domain.Member;
+import com.simplyrugby.domain.Player;
+import com.simplyrugby.domain.Squad;
+import com.simplyrugby.domain.TrainingAttendance;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Deep copies of the cached entities. The caches keep their own copy of each entity and hand
+ * out a fresh copy on every lookup, so a caller editing the entity it was given (for example
+ * before validation rejects the edit) never changes what later lookups see.
+ */
+final class EntityCopies {
+
+    private EntityCopies() {
+    }
+
+    static Player copy(Player player) {
+        Player copy = new Player();
+        copyMember(player, copy);
+        copy.setPlayerId(player.getPlayerId());
+        copy.setPosition(player.getPosition());
+        copy.setMedicalConditions(player.getMedicalConditions());
+        copy.setSquad(player.getSquad() != null ? copy(player.getSquad()) : null);
+        copy.setEmergencyContact(player.getEmergencyContact() != null ? copy(player.getEmergencyContact()) : null);
+
+        List<GameStats> stats = new ArrayList<>();
+        for (GameStats gameStats : player.getPlayerStats()) {
+            stats.add(copy(gameStats));
+        }
+        copy.setPlayerStats(stats);
+
+        List<TrainingAttendance> attendance = new ArrayList<>();
+        for (TrainingAttendance record : player.getTrainingAttendance()) {
+            attendance.add(copy(record));
+        }
+        copy.setTrainingAttendance(attendance);
+        return copy;
+    }
+
+    static Coach copy(Coach coach) {
+        Coach copy = new Coach();
+        copyMember(coach, copy);
+        copy.setCoachId(coach.getCoachId());
+        copy.setQualifications(coach.getQualifications());
+
+        List<Squad> squads = new ArrayList<>();
+        for (Squad squad : coach.getAssignedSquads()) {
+            squads.add(copy(squad));
+        }
+        copy.setAssignedSquads(squads);
+        return copy;
+    }
+
+    static Squad copy(Squad squad) {
+        Squad copy = new Squad();
+        copy.setSquadId(squad.getSquadId());
+        copy.setSquadName(squad.getSquadName());
+        copy.setAgeGrade(squad.getAgeGrade());
+
+        List<Player> players = new ArrayList<>();
+        for (Player player : squad.getPlayers()) {
+            players.add(copy(player));
+        }
+        copy.setPlayers(players);
+
+        List<Coach> coaches = new ArrayList<>();
+        for (Coach coach : squad.getCoaches()) {
+            coaches.add(copy(coach));
+        }
+        copy.setCoaches(coaches);
+        return copy;
+    }
+
+    static Game copy(Game game) {
+        Game copy = new Game();
+        copy.setGameId(game.getGameId());
+        copy.setDate(copy(game.getDate()));
+        copy.setOpponent(game.getOpponent());
+        if (game.hasScores()) {
+            copy.setScores(game.getHomeScore(), game.getAwayScore());
+        } else {
+            copy.setFinalScore(game.getFinalScore());
+        }
+        copy.setVenue(game.getVenue());
+        copy.setSquad(game.getSquad() != null ? copy(game.getSquad()) : null);
+
+        List<GameStats> stats = new ArrayList<>();
+        for (GameStats gameStats : game.getGameStats()) {
+            stats.add(copy(gameStats));
+        }
+        copy.setGameStats(stats);
+        return copy;
+    }
+
+    // Helper method to copy a plain member, such as an emergency contact
+    private static Member copy(Member member) {
+        Member copy = new Member();
+        copyMember(member, copy);
+        return copy;
+    }
+
+    // Helper method to copy the member fields shared by players and coaches
+    private static void copyMember(Member source, Member target) {
+        target.setMemberId(source.getMemberId());
+        target.setFirstName(source.getFirstName());
+        target.setLastName(source.getLastName());
+        target.setDateOfBirth(copy(source.getDateOfBirth()));
+        target.setEmail(source.getEmail());
+        target.setPhone(source.getPhone());
+        target.setAddress(source.getAddress());
+    }
+
+    // Helper method to copy a statistics row. The values were validated when the row was first
+    // mapped, so the range-checking setters accept them again.
+    private static GameStats copy(GameStats stats) {
+        GameStats copy = new GameStats();
+        copy.setGameStatsId(stats.getGameStatsId());
+        copy.setPlayerId(stats.getPlayerId());
+        copy.setGameId(stats.getGameId());
+        copy.setTackles(stats.getTackles());
+        copy.setPasses(stats.getPasses());
+        copy.setTries(stats.getTries());
+        copy.setKicks(stats.getKicks());
+        copy.setOverallRating(stats.getOverallRating());
+        copy.setAttended(stats.isAttended());
+        copy.setGameDate(copy(stats.getGameDate()));
+        return copy;
+    }
+
+    // Helper method to copy an attendance record
+    private static TrainingAttendance copy(TrainingAttendance attendance) {
+        TrainingAttendance copy = new TrainingAttendance();
+        copy.setAttendanceId(attendance.getAttendanceId());
+        copy.setPlayerId(attendance.getPlayerId());
+        copy.setTrainingId(attendance.getTrainingId());
+        copy.setTrainingDate(copy(attendance.getTrainingDate()));
+        copy.setPresent(attendance.isPresent());
+        copy.setPlayerNotes(attendance.getPlayerNotes());
+        return copy;
+    }
+
+    // Helper method to copy a mutable date
+    private static Date copy(Date date) {
+        return date != null ? new Date(date.getTime()) : null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.simplyrugby.repository.impl;
+
+import com.simplyrugby.domain.Coach;
+import com.simplyrugby.domain.Game;
+import com.simplyrugby.domain.Player;
+import com.simplyrugby.domain.Squad;
+
+import java.util.List;
+
+/**
+ * The entity caches shared by the caching repository decorators.
+ * Entities embed each other (a squad holds its players and coaches, a game its squad and stats),
+ * so the decorators share one instance and invalidate across caches on writes.
+ * Writes made through repositories that are not decorated (members, training attendance)
+ * are only picked up once the affected entries expire. For that reason existence checks, which
+ * services use to guard their writes, always go to the database rather than trusting an entry.
+ * Each lookup returns a private copy of the cached entity, so an edit that is never saved, or is
+ * rejected by validation, leaves the cache unchanged.
+ */
+public class RepositoryCache {
+    public static final int DEFAULT_MAX_ENTRIES = 500;
+    public static final long DEFAULT_TTL_MILLIS = 5 * 60 * 1000;
+
+    private final EntityCache<Integer, Squad> squads;
+    private final EntityCache<Integer, Coach> coaches;
+    private final EntityCache<Integer, Game> games;
+    private final EntityCache<String, Player> players;
+
+    /**
+     * Creates caches with the default size and time-to-live.
+     */
+    public RepositoryCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL_MILLIS);
+    }
+
+    /**
+     * Creates caches with an explicit size and time-to-live.
+     *
+     * @param maxEntries The maximum number of entries per entity cache
+     * @param ttlMillis How long an entry stays valid; 0 or less keeps entries until evicted or invalidated
+     */
+    public RepositoryCache(int maxEntries, long ttlMillis) {
+        this.squads = new EntityCache<>("squads", maxEntries, ttlMillis, EntityCopies::copy);
+        this.coaches = new EntityCache<>("coaches", maxEntries, ttlMillis, EntityCopies::copy);
+        this.games = new EntityCache<>("games", maxEntries, ttlMillis, EntityCopies::copy);
+        this.players = new EntityCache<>("players", maxEntries, ttlMillis, EntityCopies::copy);
+    }
+
+    EntityCache<Integer, Squad> squads() {
+        return squads;
+    }
+
+    EntityCache<Integer, Coach> coaches() {
+        return coaches;
+    }
+
+    EntityCache<Integer, Game> games() {
+        return games;
+    }
+
+    EntityCache<String, Player> players() {
+        return players;
+    }
+
+    /**
+     * Gets a snapshot of every cache's statistics.
+     *
+     * @return The statistics for the squad, coach, game and player caches
+     */
+    public List<EntityCache.CacheStats> getStats() {
+        return List.of(squads.getStats(), coaches.getStats(), games.getStats(), players.getStats());
+    }
+
+    /**
+     * Drops every cached entity, e.g. after the database was changed outside the repositories.
+     */
+    public void invalidateAll() {
+        squads.invalidateAll();
+        coaches.invalidateAll();
+        games.invalidateAll();
+        players.invalidateAll();
+    }
+}
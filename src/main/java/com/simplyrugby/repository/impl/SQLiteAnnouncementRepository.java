@@ -2,11 +2,10 @@ package com.simplyrugby.repository.impl;
 
 import com.simplyrugby.domain.Announcement;
 import com.simplyrugby.repository.AnnouncementRepository;
+import com.simplyrugby.util.DateCodec;
 import com.simplyrugby.util.RepositoryException;
 
 import java.sql.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -22,7 +21,7 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
     public Announcement findById(int id) {
         String sql = "SELECT * FROM Announcement WHERE announcementID = ?";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -36,13 +35,28 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
             throw new RepositoryException("Error finding announcement with ID: " + id, e);
         }
     }
+    
+    @Override
+    public boolean existsById(int id) {
+        String sql = "SELECT 1 FROM Announcement WHERE announcementID = ?";
+        
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RepositoryException("Error checking announcement with ID: " + id, e);
+        }
+    }
 
     @Override
     public List<Announcement> findAll() {
         List<Announcement> announcements = new ArrayList<>();
         String sql = "SELECT * FROM Announcement ORDER BY sentDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -60,7 +74,7 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
         List<Announcement> announcements = new ArrayList<>();
         String sql = "SELECT * FROM Announcement WHERE title LIKE ? ORDER BY sentDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, "%" + title + "%");
@@ -80,7 +94,7 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
         List<Announcement> announcements = new ArrayList<>();
         String sql = "SELECT * FROM Announcement WHERE sentBy = ? ORDER BY sentDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, sentBy);
@@ -100,7 +114,7 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
         List<Announcement> announcements = new ArrayList<>();
         String sql = "SELECT * FROM Announcement WHERE recipient = ? ORDER BY sentDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, recipient);
@@ -120,7 +134,7 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
         List<Announcement> announcements = new ArrayList<>();
         String sql = "SELECT * FROM Announcement WHERE isImportant = 1 ORDER BY sentDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -138,11 +152,10 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
         List<Announcement> announcements = new ArrayList<>();
         String sql = "SELECT * FROM Announcement WHERE sentDate > ? ORDER BY sentDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            pstmt.setString(1, sdf.format(date));
+            pstmt.setLong(1, DateCodec.toLocalEpochMillis(date));
 
             ResultSet rs = pstmt.executeQuery();
 
@@ -160,11 +173,10 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
         List<Announcement> announcements = new ArrayList<>();
         String sql = "SELECT * FROM Announcement WHERE sentDate < ? ORDER BY sentDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            pstmt.setString(1, sdf.format(date));
+            pstmt.setLong(1, DateCodec.toLocalEpochMillis(date));
 
             ResultSet rs = pstmt.executeQuery();
 
@@ -182,12 +194,11 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
         List<Announcement> announcements = new ArrayList<>();
         String sql = "SELECT * FROM Announcement WHERE sentDate BETWEEN ? AND ? ORDER BY sentDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            pstmt.setString(1, sdf.format(startDate));
-            pstmt.setString(2, sdf.format(endDate));
+            pstmt.setLong(1, DateCodec.toLocalEpochMillis(startDate));
+            pstmt.setLong(2, DateCodec.toLocalEpochMillis(endDate));
 
             ResultSet rs = pstmt.executeQuery();
 
@@ -211,8 +222,7 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
             pstmt.setString(1, announcement.getTitle());
             pstmt.setString(2, announcement.getContent());
 
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            pstmt.setString(3, sdf.format(announcement.getSentDate()));
+            pstmt.setLong(3, DateCodec.toLocalEpochMillis(announcement.getSentDate()));
 
             pstmt.setString(4, announcement.getSentBy());
             pstmt.setString(5, announcement.getRecipient());
@@ -247,8 +257,7 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
             pstmt.setString(1, announcement.getTitle());
             pstmt.setString(2, announcement.getContent());
 
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            pstmt.setString(3, sdf.format(announcement.getSentDate()));
+            pstmt.setLong(3, DateCodec.toLocalEpochMillis(announcement.getSentDate()));
 
             pstmt.setString(4, announcement.getSentBy());
             pstmt.setString(5, announcement.getRecipient());
@@ -283,7 +292,7 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
         List<Announcement> announcements = new ArrayList<>();
         String sql = "SELECT * FROM Announcement ORDER BY sentDate DESC LIMIT ?";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, limit);
@@ -305,14 +314,8 @@ public class SQLiteAnnouncementRepository implements AnnouncementRepository {
         announcement.setTitle(rs.getString("title"));
         announcement.setContent(rs.getString("content"));
 
-        // Parse date from string
-        try {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            Date sentDate = sdf.parse(rs.getString("sentDate"));
-            announcement.setSentDate(sentDate);
-        } catch (ParseException e) {
-            throw new SQLException("Error parsing sent date", e);
-        }
+        Date sentDate = DateCodec.fromLocalEpochMillis(rs.getLong("sentDate"));
+        announcement.setSentDate(sentDate);
 
         announcement.setSentBy(rs.getString("sentBy"));
         announcement.setRecipient(rs.getString("recipient"));
@@ -3,16 +3,20 @@ package com.simplyrugby.repository.impl;
 import com.simplyrugby.domain.Coach;
 import com.simplyrugby.domain.Squad;
 import com.simplyrugby.repository.CoachRepository;
+import com.simplyrugby.util.DateCodec;
 import com.simplyrugby.util.RepositoryException;
 
 import java.sql.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 public class SQLiteCoachRepository implements CoachRepository {
+    // Also used by the squad queries that load coaches
+    static final String COACH_COLUMNS =
+            "c.coachID, c.qualifications, m.memberID, m.firstName, m.lastName, m.dob, m.email, m.phone, m.address";
+    
+    static final CompiledRowMapper<Coach> COACH_ROWS = SQLiteCoachRepository::compileCoach;
+    
     private final ConnectionManager connectionManager;
     
     public SQLiteCoachRepository(ConnectionManager connectionManager) {
@@ -21,18 +25,18 @@ public class SQLiteCoachRepository implements CoachRepository {
     
     @Override
     public Coach findById(int id) {
-        String sql = "SELECT c.*, m.* FROM Coach c " +
+        String sql = "SELECT " + COACH_COLUMNS + " FROM Coach c " +
                      "JOIN Member m ON c.memberID = m.memberID " +
                      "WHERE c.coachID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, id);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                Coach coach = mapResultSetToCoach(rs);
+                Coach coach = COACH_ROWS.compile(rs).map(rs);
                 
                 // Load assigned squads
                 coach.setAssignedSquads(getAssignedSquads(conn, id));
@@ -45,20 +49,35 @@ public class SQLiteCoachRepository implements CoachRepository {
         }
     }
     
+    @Override
+    public boolean existsById(int id) {
+        String sql = "SELECT 1 FROM Coach WHERE coachID = ?";
+        
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RepositoryException("Error checking coach with ID: " + id, e);
+        }
+    }
+    
     @Override
     public Coach findByMemberId(int memberId) {
-        String sql = "SELECT c.*, m.* FROM Coach c " +
+        String sql = "SELECT " + COACH_COLUMNS + " FROM Coach c " +
                      "JOIN Member m ON c.memberID = m.memberID " +
                      "WHERE c.memberID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, memberId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                Coach coach = mapResultSetToCoach(rs);
+                Coach coach = COACH_ROWS.compile(rs).map(rs);
                 
                 // Load assigned squads
                 coach.setAssignedSquads(getAssignedSquads(conn, coach.getCoachId()));
@@ -74,17 +93,14 @@ public class SQLiteCoachRepository implements CoachRepository {
     @Override
     public List<Coach> findAll() {
         List<Coach> coaches = new ArrayList<>();
-        String sql = "SELECT c.*, m.* FROM Coach c " +
+        String sql = "SELECT " + COACH_COLUMNS + " FROM Coach c " +
                      "JOIN Member m ON c.memberID = m.memberID";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
-            while (rs.next()) {
-                Coach coach = mapResultSetToCoach(rs);
-                coaches.add(coach);
-            }
+            coaches.addAll(COACH_ROWS.mapAll(rs));
             
             // Load assigned squads for each coach
             for (Coach coach : coaches) {
@@ -100,11 +116,11 @@ public class SQLiteCoachRepository implements CoachRepository {
     @Override
     public List<Coach> findByName(String name) {
         List<Coach> coaches = new ArrayList<>();
-        String sql = "SELECT c.*, m.* FROM Coach c " +
+        String sql = "SELECT " + COACH_COLUMNS + " FROM Coach c " +
                      "JOIN Member m ON c.memberID = m.memberID " +
                      "WHERE m.firstName LIKE ? OR m.lastName LIKE ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             String searchPattern = "%" + name + "%";
@@ -113,10 +129,7 @@ public class SQLiteCoachRepository implements CoachRepository {
             
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Coach coach = mapResultSetToCoach(rs);
-                coaches.add(coach);
-            }
+            coaches.addAll(COACH_ROWS.mapAll(rs));
             
             // Load assigned squads for each coach
             for (Coach coach : coaches) {
@@ -132,21 +145,18 @@ public class SQLiteCoachRepository implements CoachRepository {
    @Override
     public List<Coach> findBySquad(int squadId) {
         List<Coach> coaches = new ArrayList<>();
-        String sql = "SELECT c.*, m.* FROM Coach c " +
+        String sql = "SELECT " + COACH_COLUMNS + " FROM Coach c " +
                      "JOIN Member m ON c.memberID = m.memberID " +
                      "JOIN CoachSquad cs ON c.coachID = cs.coachID " +
                      "WHERE cs.squadID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, squadId);
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Coach coach = mapResultSetToCoach(rs);
-                coaches.add(coach);
-            }
+            coaches.addAll(COACH_ROWS.mapAll(rs));
             
             // Load assigned squads for each coach
             for (Coach coach : coaches) {
@@ -221,6 +231,11 @@ public class SQLiteCoachRepository implements CoachRepository {
                 } catch (SQLException e) {
                     // Log autocommit reset error
                 }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    // Log connection release error
+                }
             }
         }
     }
@@ -271,77 +286,29 @@ public class SQLiteCoachRepository implements CoachRepository {
                 } catch (SQLException e) {
                     // Log autocommit reset error
                 }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    // Log connection release error
+                }
             }
         }
     }
     
     @Override
     public boolean delete(int id) {
-        Connection conn = null;
-        try {
-            conn = connectionManager.getConnection();
-            conn.setAutoCommit(false);
-            
-            // Get member ID first
-            int memberId;
-            try (PreparedStatement pstmt = conn.prepareStatement("SELECT memberID FROM Coach WHERE coachID = ?")) {
-                pstmt.setInt(1, id);
-                ResultSet rs = pstmt.executeQuery();
-                if (rs.next()) {
-                    memberId = rs.getInt("memberID");
-                } else {
-                    conn.rollback();
-                    return false;
-                }
-            }
-            
-            // Delete coach squad assignments
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM CoachSquad WHERE coachID = ?")) {
-                pstmt.setInt(1, id);
-                pstmt.executeUpdate();
-            }
-            
-            // Delete coach
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM Coach WHERE coachID = ?")) {
-                pstmt.setInt(1, id);
-                int affectedRows = pstmt.executeUpdate();
-                
-                if (affectedRows == 0) {
-                    conn.rollback();
-                    return false;
-                }
-            }
+        // Deleting the member cascades to the coach and their squad assignments
+        String sql = "DELETE FROM Member WHERE memberID = (SELECT memberID FROM Coach WHERE coachID = ?)";
+        
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            // Delete member
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM Member WHERE memberID = ?")) {
-                pstmt.setInt(1, memberId);
-                int affectedRows = pstmt.executeUpdate();
-                
-                if (affectedRows == 0) {
-                    conn.rollback();
-                    return false;
-                }
-            }
+            pstmt.setInt(1, id);
             
-            conn.commit();
-            return true;
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
         } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    // Log rollback error
-                }
-            }
             throw new RepositoryException("Error deleting coach", e);
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    // Log autocommit reset error
-                }
-            }
         }
     }
     
@@ -395,20 +362,17 @@ public class SQLiteCoachRepository implements CoachRepository {
     @Override
     public List<Coach> findByQualification(String qualification) {
         List<Coach> coaches = new ArrayList<>();
-        String sql = "SELECT c.*, m.* FROM Coach c " +
+        String sql = "SELECT " + COACH_COLUMNS + " FROM Coach c " +
                      "JOIN Member m ON c.memberID = m.memberID " +
                      "WHERE c.qualifications LIKE ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, "%" + qualification + "%");
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Coach coach = mapResultSetToCoach(rs);
-                coaches.add(coach);
-            }
+            coaches.addAll(COACH_ROWS.mapAll(rs));
             
             // Load assigned squads for each coach
             for (Coach coach : coaches) {
@@ -421,53 +385,49 @@ public class SQLiteCoachRepository implements CoachRepository {
         }
     }
     
-    // Helper method to map ResultSet to Coach object
-    private Coach mapResultSetToCoach(ResultSet rs) throws SQLException {
-        Coach coach = new Coach();
-        
-        // Set coach fields
-        coach.setCoachId(rs.getInt("coachID"));
-        coach.setQualifications(rs.getString("qualifications"));
-        
-        // Set member fields
-        coach.setMemberId(rs.getInt("memberID"));
-        coach.setFirstName(rs.getString("firstName"));
-        coach.setLastName(rs.getString("lastName"));
-        
-        // Parse date from string
-        try {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            Date dob = sdf.parse(rs.getString("dob"));
-            coach.setDateOfBirth(dob);
-        } catch (ParseException e) {
-            throw new SQLException("Error parsing date of birth", e);
-        }
-        
-        coach.setEmail(rs.getString("email"));
-        coach.setPhone(rs.getString("phone"));
-        coach.setAddress(rs.getString("address"));
+    // Helper method to compile the mapper of rows selecting COACH_COLUMNS
+    private static StreamingQuery.RowMapper<Coach> compileCoach(ResultSet rs) throws SQLException {
+        int coachIdColumn = rs.findColumn("coachID");
+        int qualificationsColumn = rs.findColumn("qualifications");
+        int memberIdColumn = rs.findColumn("memberID");
+        int firstNameColumn = rs.findColumn("firstName");
+        int lastNameColumn = rs.findColumn("lastName");
+        int dobColumn = rs.findColumn("dob");
+        int emailColumn = rs.findColumn("email");
+        int phoneColumn = rs.findColumn("phone");
+        int addressColumn = rs.findColumn("address");
         
-        return coach;
+        return row -> {
+            Coach coach = new Coach();
+            
+            // Set coach fields
+            coach.setCoachId(row.getInt(coachIdColumn));
+            coach.setQualifications(row.getString(qualificationsColumn));
+            
+            // Set member fields
+            coach.setMemberId(row.getInt(memberIdColumn));
+            coach.setFirstName(row.getString(firstNameColumn));
+            coach.setLastName(row.getString(lastNameColumn));
+            coach.setDateOfBirth(DateCodec.fromEpochDay(row.getLong(dobColumn)));
+            coach.setEmail(row.getString(emailColumn));
+            coach.setPhone(row.getString(phoneColumn));
+            coach.setAddress(row.getString(addressColumn));
+            
+            return coach;
+        };
     }
     
     // Helper method to get squads assigned to a coach
     private List<Squad> getAssignedSquads(Connection conn, int coachId) throws SQLException {
         List<Squad> squads = new ArrayList<>();
-        String sql = "SELECT s.* FROM Squad s " +
+        String sql = "SELECT " + SQLiteSquadRepository.SQUAD_COLUMNS + " FROM Squad s " +
                      "JOIN CoachSquad cs ON s.squadID = cs.squadID " +
                      "WHERE cs.coachID = ?";
         
         try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, coachId);
             ResultSet rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                Squad squad = new Squad();
-                squad.setSquadId(rs.getInt("squadID"));
-                squad.setSquadName(rs.getString("squadName"));
-                squad.setAgeGrade(rs.getString("ageGrade"));
-                squads.add(squad);
-            }
+            squads.addAll(SQLiteSquadRepository.SQUAD_ROWS.mapAll(rs));
         }
         
         return squads;
@@ -509,8 +469,7 @@ public class SQLiteCoachRepository implements CoachRepository {
             pstmt.setString(1, member.getFirstName());
             pstmt.setString(2, member.getLastName());
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(3, sdf.format(member.getDateOfBirth()));
+            pstmt.setLong(3, DateCodec.toEpochDay(member.getDateOfBirth()));
             
             pstmt.setString(4, member.getEmail());
             pstmt.setString(5, member.getPhone());
@@ -538,8 +497,7 @@ public class SQLiteCoachRepository implements CoachRepository {
             pstmt.setString(1, member.getFirstName());
             pstmt.setString(2, member.getLastName());
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(3, sdf.format(member.getDateOfBirth()));
+            pstmt.setLong(3, DateCodec.toEpochDay(member.getDateOfBirth()));
             
             pstmt.setString(4, member.getEmail());
             pstmt.setString(5, member.getPhone());
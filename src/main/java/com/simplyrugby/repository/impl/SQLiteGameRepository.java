@@ -3,17 +3,53 @@ package com.simplyrugby.repository.impl;
 import com.simplyrugby.domain.Game;
 import com.simplyrugby.domain.GameStats;
 import com.simplyrugby.domain.Squad;
+import com.simplyrugby.domain.SquadRecord;
 import com.simplyrugby.repository.GameRepository;
+import com.simplyrugby.util.DateCodec;
 import com.simplyrugby.util.RepositoryException;
 
 import java.sql.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class SQLiteGameRepository implements GameRepository {
+    // Comparisons with a NULL score are never true, so unscored games only count towards gamesPlayed.
+    // Also used by the squad dashboard query.
+    static final String RECORD_COLUMNS =
+            "COUNT(*) AS gamesPlayed, " +
+            "COALESCE(SUM(CASE WHEN homeScore > awayScore THEN 1 ELSE 0 END), 0) AS wins, " +
+            "COALESCE(SUM(CASE WHEN homeScore < awayScore THEN 1 ELSE 0 END), 0) AS losses, " +
+            "COALESCE(SUM(CASE WHEN homeScore = awayScore THEN 1 ELSE 0 END), 0) AS draws";
+    
+    // Columns replaced when a player's stats for a game are recorded again
+    private static final String STATS_UPSERT_CLAUSE =
+            "ON CONFLICT (gameID, playerID) DO UPDATE SET " +
+            "tackles = excluded.tackles, passes = excluded.passes, tries = excluded.tries, " +
+            "kicks = excluded.kicks, overallRating = excluded.overallRating, attended = excluded.attended";
+    
+    static final String STATS_COLUMNS =
+            "gs.gameStatsID, gs.playerID, gs.gameID, gs.tackles, gs.passes, gs.tries, gs.kicks, " +
+            "gs.overallRating, gs.attended";
+    
+    private static final String GAME_COLUMNS =
+            "g.gameID, g.date, g.opponent, g.finalScore, g.venue, g.squadID, g.homeScore, g.awayScore, " +
+            "s.squadName, s.ageGrade";
+    
+    // Also used by the player queries that load stats
+    static final CompiledRowMapper<GameStats> STATS_ROWS = SQLiteGameRepository::compileStats;
+    private static final CompiledRowMapper<Game> GAME_ROWS = SQLiteGameRepository::compileGame;
+    
+    // Keeps IN (...) lists well under SQLite's bound-parameter limit
+    private static final int MAX_IN_PARAMETERS = 500;
+    
     private final ConnectionManager connectionManager;
     
     public SQLiteGameRepository(ConnectionManager connectionManager) {
@@ -22,18 +58,18 @@ public class SQLiteGameRepository implements GameRepository {
 
     @Override
     public Game findById(int id) {
-        String sql = "SELECT g.*, s.squadName, s.ageGrade FROM Game g " +
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
                 "LEFT JOIN Squad s ON g.squadID = s.squadID " +
                 "WHERE g.gameID = ?";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
             ResultSet rs = pstmt.executeQuery();
 
             if (rs.next()) {
-                Game game = mapResultSetToGame(rs);
+                Game game = GAME_ROWS.compile(rs).map(rs);
 
                 // Load game stats using the public method
                 game.setGameStats(getGameStats(id));
@@ -45,21 +81,33 @@ public class SQLiteGameRepository implements GameRepository {
             throw new RepositoryException("Error finding game with ID: " + id, e);
         }
     }
+    
+    @Override
+    public boolean existsById(int id) {
+        String sql = "SELECT 1 FROM Game WHERE gameID = ?";
+        
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RepositoryException("Error checking game with ID: " + id, e);
+        }
+    }
 
     @Override
     public List<Game> findAll() {
         List<Game> games = new ArrayList<>();
-        String sql = "SELECT g.*, s.squadName, s.ageGrade FROM Game g " +
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
                 "LEFT JOIN Squad s ON g.squadID = s.squadID";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
-            while (rs.next()) {
-                Game game = mapResultSetToGame(rs);
-                games.add(game);
-            }
+            games.addAll(GAME_ROWS.mapAll(rs));
 
             // Load game stats for each game
             for (Game game : games) {
@@ -75,20 +123,17 @@ public class SQLiteGameRepository implements GameRepository {
     @Override
     public List<Game> findBySquad(int squadId) {
         List<Game> games = new ArrayList<>();
-        String sql = "SELECT g.*, s.squadName, s.ageGrade FROM Game g " +
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
                      "LEFT JOIN Squad s ON g.squadID = s.squadID " +
                      "WHERE g.squadID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, squadId);
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Game game = mapResultSetToGame(rs);
-                games.add(game);
-            }
+            games.addAll(GAME_ROWS.mapAll(rs));
             
             // Load game stats for each game
             for (Game game : games) {
@@ -104,20 +149,17 @@ public class SQLiteGameRepository implements GameRepository {
     @Override
     public List<Game> findByOpponent(String opponent) {
         List<Game> games = new ArrayList<>();
-        String sql = "SELECT g.*, s.squadName, s.ageGrade FROM Game g " +
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
                      "LEFT JOIN Squad s ON g.squadID = s.squadID " +
                      "WHERE g.opponent LIKE ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, "%" + opponent + "%");
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Game game = mapResultSetToGame(rs);
-                games.add(game);
-            }
+            games.addAll(GAME_ROWS.mapAll(rs));
             
             // Load game stats for each game
             for (Game game : games) {
@@ -133,22 +175,18 @@ public class SQLiteGameRepository implements GameRepository {
     @Override
     public List<Game> findGamesAfterDate(Date date) {
         List<Game> games = new ArrayList<>();
-        String sql = "SELECT g.*, s.squadName, s.ageGrade FROM Game g " +
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
                      "LEFT JOIN Squad s ON g.squadID = s.squadID " +
                      "WHERE g.date > ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(1, sdf.format(date));
+            pstmt.setLong(1, DateCodec.toEpochDay(date));
             
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Game game = mapResultSetToGame(rs);
-                games.add(game);
-            }
+            games.addAll(GAME_ROWS.mapAll(rs));
             
             // Load game stats for each game
             for (Game game : games) {
@@ -164,22 +202,18 @@ public class SQLiteGameRepository implements GameRepository {
     @Override
     public List<Game> findGamesBeforeDate(Date date) {
         List<Game> games = new ArrayList<>();
-        String sql = "SELECT g.*, s.squadName, s.ageGrade FROM Game g " +
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
                      "LEFT JOIN Squad s ON g.squadID = s.squadID " +
                      "WHERE g.date < ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(1, sdf.format(date));
+            pstmt.setLong(1, DateCodec.toEpochDay(date));
             
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Game game = mapResultSetToGame(rs);
-                games.add(game);
-            }
+            games.addAll(GAME_ROWS.mapAll(rs));
             
             // Load game stats for each game
             for (Game game : games) {
@@ -195,23 +229,19 @@ public class SQLiteGameRepository implements GameRepository {
     @Override
     public List<Game> findGamesBetweenDates(Date startDate, Date endDate) {
         List<Game> games = new ArrayList<>();
-        String sql = "SELECT g.*, s.squadName, s.ageGrade FROM Game g " +
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
                      "LEFT JOIN Squad s ON g.squadID = s.squadID " +
                      "WHERE g.date BETWEEN ? AND ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(1, sdf.format(startDate));
-            pstmt.setString(2, sdf.format(endDate));
+            pstmt.setLong(1, DateCodec.toEpochDay(startDate));
+            pstmt.setLong(2, DateCodec.toEpochDay(endDate));
             
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Game game = mapResultSetToGame(rs);
-                games.add(game);
-            }
+            games.addAll(GAME_ROWS.mapAll(rs));
             
             // Load game stats for each game
             for (Game game : games) {
@@ -224,25 +254,116 @@ public class SQLiteGameRepository implements GameRepository {
         }
     }
     
+    @Override
+    public List<Game> findGames(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit) {
+        List<Game> games = new ArrayList<>();
+        String direction = mostRecentFirst ? "DESC" : "ASC";
+        String selection = buildScheduleFilter(squadId, startDate, endDate) + " " +
+                           "ORDER BY g.date " + direction + ", g.gameID " + direction +
+                           (limit > 0 ? " LIMIT ?" : "");
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
+                     "LEFT JOIN Squad s ON g.squadID = s.squadID " +
+                     selection;
+        String statsSql = "SELECT " + STATS_COLUMNS + " FROM GameStats gs " +
+                          "WHERE gameID IN (SELECT g.gameID FROM Game g " + selection + ")";
+        
+        try (Connection conn = connectionManager.getReadConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int index = bindScheduleFilter(pstmt, 1, squadId, startDate, endDate);
+                if (limit > 0) {
+                    pstmt.setInt(index, limit);
+                }
+                ResultSet rs = pstmt.executeQuery();
+                
+                games.addAll(GAME_ROWS.mapAll(rs));
+            }
+            
+            // Load game stats for all selected games in one pass
+            if (!games.isEmpty()) {
+                Map<Integer, List<GameStats>> statsByGame = new HashMap<>();
+                try (PreparedStatement pstmt = conn.prepareStatement(statsSql)) {
+                    int index = bindScheduleFilter(pstmt, 1, squadId, startDate, endDate);
+                    if (limit > 0) {
+                        pstmt.setInt(index, limit);
+                    }
+                    ResultSet rs = pstmt.executeQuery();
+                    StreamingQuery.RowMapper<GameStats> statsRow = STATS_ROWS.compile(rs);
+                    
+                    while (rs.next()) {
+                        GameStats stats = statsRow.map(rs);
+                        
+                        statsByGame.computeIfAbsent(stats.getGameId(), k -> new ArrayList<>()).add(stats);
+                    }
+                }
+                
+                for (Game game : games) {
+                    game.setGameStats(statsByGame.getOrDefault(game.getGameId(), new ArrayList<>()));
+                }
+            }
+            
+            return games;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error finding games", e);
+        }
+    }
+
+    @Override
+    public Stream<Game> streamGames(Integer squadId, Date startDate, Date endDate) {
+        String filter = buildScheduleFilter(squadId, startDate, endDate);
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
+                     "LEFT JOIN Squad s ON g.squadID = s.squadID " +
+                     filter + " ORDER BY g.date, g.gameID";
+        // The stats cursor selects the same games in the same order, so each game's rows come next
+        String statsSql = "SELECT " + STATS_COLUMNS + " FROM GameStats gs JOIN Game g ON gs.gameID = g.gameID " +
+                          filter + " ORDER BY g.date, g.gameID";
+
+        StreamingQuery query = null;
+        try {
+            query = new StreamingQuery(connectionManager.getReadConnection());
+            PreparedStatement pstmt = query.prepare(sql);
+            bindScheduleFilter(pstmt, 1, squadId, startDate, endDate);
+            ResultSet rs = query.execute(pstmt);
+
+            PreparedStatement statsStmt = query.prepare(statsSql);
+            bindScheduleFilter(statsStmt, 1, squadId, startDate, endDate);
+            ResultSet statsRs = query.execute(statsStmt);
+            int gameIdColumn = statsRs.findColumn("gameID");
+            StreamingQuery.Children<GameStats> stats = new StreamingQuery.Children<>(statsRs,
+                    row -> row.getInt(gameIdColumn), STATS_ROWS.compile(statsRs));
+
+            StreamingQuery.RowMapper<Game> gameRow = GAME_ROWS.compile(rs);
+            return query.stream(rs, row -> {
+                Game game = gameRow.map(row);
+                game.setGameStats(stats.next(game.getGameId()));
+                return game;
+            }, "Error streaming games");
+        } catch (SQLException e) {
+            if (query != null) {
+                query.abandon(e);
+            }
+            throw new RepositoryException("Error streaming games", e);
+        }
+    }
+
     @Override
     public int save(Game game) {
-        String sql = "INSERT INTO Game (date, opponent, finalScore, venue, squadID) " +
-                     "VALUES (?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO Game (date, opponent, finalScore, homeScore, awayScore, venue, squadID) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, ?)";
         
         try (Connection conn = connectionManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(1, sdf.format(game.getDate()));
+            pstmt.setLong(1, DateCodec.toEpochDay(game.getDate()));
             
             pstmt.setString(2, game.getOpponent());
             pstmt.setString(3, game.getFinalScore());
-            pstmt.setString(4, game.getVenue());
+            bindScores(pstmt, 4, game);
+            pstmt.setString(6, game.getVenue());
             
             if (game.getSquad() != null) {
-                pstmt.setInt(5, game.getSquad().getSquadId());
+                pstmt.setInt(7, game.getSquad().getSquadId());
             } else {
-                pstmt.setNull(5, Types.INTEGER);
+                pstmt.setNull(7, Types.INTEGER);
             }
             
             int affectedRows = pstmt.executeUpdate();
@@ -265,26 +386,26 @@ public class SQLiteGameRepository implements GameRepository {
     
     @Override
     public boolean update(Game game) {
-        String sql = "UPDATE Game SET date = ?, opponent = ?, finalScore = ?, venue = ?, " +
-                     "squadID = ? WHERE gameID = ?";
+        String sql = "UPDATE Game SET date = ?, opponent = ?, finalScore = ?, homeScore = ?, awayScore = ?, " +
+                     "venue = ?, squadID = ? WHERE gameID = ?";
         
         try (Connection conn = connectionManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(1, sdf.format(game.getDate()));
+            pstmt.setLong(1, DateCodec.toEpochDay(game.getDate()));
             
             pstmt.setString(2, game.getOpponent());
             pstmt.setString(3, game.getFinalScore());
-            pstmt.setString(4, game.getVenue());
+            bindScores(pstmt, 4, game);
+            pstmt.setString(6, game.getVenue());
             
             if (game.getSquad() != null) {
-                pstmt.setInt(5, game.getSquad().getSquadId());
+                pstmt.setInt(7, game.getSquad().getSquadId());
             } else {
-                pstmt.setNull(5, Types.INTEGER);
+                pstmt.setNull(7, Types.INTEGER);
             }
             
-            pstmt.setInt(6, game.getGameId());
+            pstmt.setInt(8, game.getGameId());
             
             int affectedRows = pstmt.executeUpdate();
             return affectedRows > 0;
@@ -295,30 +416,50 @@ public class SQLiteGameRepository implements GameRepository {
     
     @Override
     public boolean delete(int id) {
+        // Foreign keys cascade to the game's stats
+        String sql = "DELETE FROM Game WHERE gameID = ?";
+        
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error deleting game", e);
+        }
+    }
+    
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        List<Integer> idList = new ArrayList<>(new HashSet<>(ids));
+        if (idList.isEmpty()) {
+            return 0;
+        }
+        
         Connection conn = null;
         try {
             conn = connectionManager.getConnection();
             conn.setAutoCommit(false);
             
-            // Delete game stats
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM GameStats WHERE gameID = ?")) {
-                pstmt.setInt(1, id);
-                pstmt.executeUpdate();
-            }
-            
-            // Delete game
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM Game WHERE gameID = ?")) {
-                pstmt.setInt(1, id);
-                int affectedRows = pstmt.executeUpdate();
+            // Foreign keys cascade each delete to the child rows
+            int deleted = 0;
+            for (int from = 0; from < idList.size(); from += MAX_IN_PARAMETERS) {
+                List<Integer> chunk = idList.subList(from, Math.min(from + MAX_IN_PARAMETERS, idList.size()));
+                String sql = "DELETE FROM Game WHERE gameID IN (" +
+                             String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
                 
-                if (affectedRows == 0) {
-                    conn.rollback();
-                    return false;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        pstmt.setInt(i + 1, chunk.get(i));
+                    }
+                    deleted += pstmt.executeUpdate();
                 }
             }
             
             conn.commit();
-            return true;
+            return deleted;
         } catch (SQLException e) {
             if (conn != null) {
                 try {
@@ -327,7 +468,7 @@ public class SQLiteGameRepository implements GameRepository {
                     // Log rollback error
                 }
             }
-            throw new RepositoryException("Error deleting game", e);
+            throw new RepositoryException("Error deleting games", e);
         } finally {
             if (conn != null) {
                 try {
@@ -335,6 +476,11 @@ public class SQLiteGameRepository implements GameRepository {
                 } catch (SQLException e) {
                     // Log autocommit reset error
                 }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    // Log connection release error
+                }
             }
         }
     }
@@ -347,14 +493,7 @@ public class SQLiteGameRepository implements GameRepository {
         try (Connection conn = connectionManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             
-            pstmt.setInt(1, stats.getPlayerId());
-            pstmt.setInt(2, stats.getGameId());
-            pstmt.setInt(3, stats.getTackles());
-            pstmt.setInt(4, stats.getPasses());
-            pstmt.setInt(5, stats.getTries());
-            pstmt.setInt(6, stats.getKicks());
-            pstmt.setInt(7, stats.getOverallRating());
-            pstmt.setBoolean(8, stats.isAttended());
+            bindGameStats(pstmt, stats);
             
             int affectedRows = pstmt.executeUpdate();
             
@@ -373,10 +512,161 @@ public class SQLiteGameRepository implements GameRepository {
         }
     }
     
+    @Override
+    public boolean[] addGameStatsBatch(List<GameStats> statsList) {
+        boolean[] results = new boolean[statsList.size()];
+        if (statsList.isEmpty()) {
+            return results;
+        }
+        
+        // Rows for a player already recorded in the game are skipped and reported as not added
+        String sql = "INSERT OR IGNORE INTO GameStats (playerID, gameID, tackles, passes, tries, kicks, " +
+                     "overallRating, attended) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        
+        Connection conn = null;
+        try {
+            conn = connectionManager.getConnection();
+            conn.setAutoCommit(false);
+            
+            int[] counts;
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (GameStats stats : statsList) {
+                    bindGameStats(pstmt, stats);
+                    pstmt.addBatch();
+                }
+                counts = pstmt.executeBatch();
+            }
+            
+            List<GameStats> added = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                results[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+                if (results[i]) {
+                    added.add(statsList.get(i));
+                }
+            }
+            
+            // Batched inserts don't report generated keys, so look the new IDs up per game
+            assignGameStatsIds(conn, added);
+            
+            conn.commit();
+            return results;
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    // Log rollback error
+                }
+            }
+            throw new RepositoryException("Error adding game stats batch", e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    // Log autocommit reset error
+                }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    // Log connection release error
+                }
+            }
+        }
+    }
+    
+    @Override
+    public boolean upsertGameStats(GameStats stats) {
+        // Insert-or-update in one statement; the EXISTS guards skip the write for an unknown player or game
+        String sql = "INSERT INTO GameStats (playerID, gameID, tackles, passes, tries, kicks, " +
+                     "overallRating, attended) " +
+                     "SELECT ?, ?, ?, ?, ?, ?, ?, ? " +
+                     "WHERE EXISTS (SELECT 1 FROM Player WHERE playerID = ?) " +
+                     "AND EXISTS (SELECT 1 FROM Game WHERE gameID = ?) " +
+                     STATS_UPSERT_CLAUSE + " RETURNING gameStatsID";
+        
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            bindGameStats(pstmt, stats);
+            pstmt.setInt(9, stats.getPlayerId());
+            pstmt.setInt(10, stats.getGameId());
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    stats.setGameStatsId(rs.getInt("gameStatsID"));
+                    return true;
+                }
+            }
+            
+            return false;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error recording game stats", e);
+        }
+    }
+    
+    @Override
+    public int upsertGameStatsBatch(List<GameStats> statsList) {
+        if (statsList.isEmpty()) {
+            return 0;
+        }
+        
+        String sql = "INSERT INTO GameStats (playerID, gameID, tackles, passes, tries, kicks, " +
+                     "overallRating, attended) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " + STATS_UPSERT_CLAUSE;
+        
+        Connection conn = null;
+        try {
+            conn = connectionManager.getConnection();
+            conn.setAutoCommit(false);
+            
+            int written = 0;
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (GameStats stats : statsList) {
+                    bindGameStats(pstmt, stats);
+                    pstmt.addBatch();
+                }
+                
+                for (int count : pstmt.executeBatch()) {
+                    if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                        written++;
+                    }
+                }
+            }
+            
+            // Batched statements don't report generated keys, so look the IDs up per game
+            assignGameStatsIds(conn, statsList);
+            
+            conn.commit();
+            return written;
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    // Log rollback error
+                }
+            }
+            throw new RepositoryException("Error recording game stats batch", e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    // Log autocommit reset error
+                }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    // Log connection release error
+                }
+            }
+        }
+    }
+    
     @Override
     public boolean updateGameStats(GameStats stats) {
         String sql = "UPDATE GameStats SET tackles = ?, passes = ?, tries = ?, kicks = ?, " +
-                     "overallRating = ?, attended = ? WHERE gameStatsID = ?";
+                     "overallRating = ?, attended = ? WHERE gameID = ? AND playerID = ?";
         
         try (Connection conn = connectionManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -387,7 +677,8 @@ public class SQLiteGameRepository implements GameRepository {
             pstmt.setInt(4, stats.getKicks());
             pstmt.setInt(5, stats.getOverallRating());
             pstmt.setBoolean(6, stats.isAttended());
-            pstmt.setInt(7, stats.getGameStatsId());
+            pstmt.setInt(7, stats.getGameId());
+            pstmt.setInt(8, stats.getPlayerId());
             
             int affectedRows = pstmt.executeUpdate();
             return affectedRows > 0;
@@ -399,26 +690,12 @@ public class SQLiteGameRepository implements GameRepository {
     // Private helper method that accepts a Connection
     private List<GameStats> getGameStatsInternal(Connection conn, int gameId) throws SQLException {
         List<GameStats> statsList = new ArrayList<>();
-        String sql = "SELECT * FROM GameStats WHERE gameID = ?";
+        String sql = "SELECT " + STATS_COLUMNS + " FROM GameStats gs WHERE gameID = ?";
 
         try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, gameId);
             ResultSet rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                GameStats stats = new GameStats();
-                stats.setGameStatsId(rs.getInt("gameStatsID"));
-                stats.setPlayerId(rs.getInt("playerID"));
-                stats.setGameId(rs.getInt("gameID"));
-                stats.setTackles(rs.getInt("tackles"));
-                stats.setPasses(rs.getInt("passes"));
-                stats.setTries(rs.getInt("tries"));
-                stats.setKicks(rs.getInt("kicks"));
-                stats.setOverallRating(rs.getInt("overallRating"));
-                stats.setAttended(rs.getBoolean("attended"));
-
-                statsList.add(stats);
-            }
+            statsList.addAll(STATS_ROWS.mapAll(rs));
         }
 
         return statsList;
@@ -427,7 +704,7 @@ public class SQLiteGameRepository implements GameRepository {
     // Public method implementation required by the interface
     @Override
     public List<GameStats> getGameStats(int gameId) {
-        try (Connection conn = connectionManager.getConnection()) {
+        try (Connection conn = connectionManager.getReadConnection()) {
             return getGameStatsInternal(conn, gameId);
         } catch (SQLException e) {
             throw new RepositoryException("Error getting game stats for game: " + gameId, e);
@@ -437,58 +714,67 @@ public class SQLiteGameRepository implements GameRepository {
     @Override
     public List<GameStats> getStatsByPlayer(int playerId) {
         List<GameStats> statsList = new ArrayList<>();
-        String sql = "SELECT * FROM GameStats WHERE playerID = ?";
+        String sql = "SELECT " + STATS_COLUMNS + " FROM GameStats gs WHERE playerID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, playerId);
+            ResultSet rs = pstmt.executeQuery();
+            statsList.addAll(STATS_ROWS.mapAll(rs));
+            
+            return statsList;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error getting player stats", e);
+        }
+    }
+    
+    @Override
+    public List<GameStats> getStatsTimelineForPlayer(int playerId) {
+        List<GameStats> statsList = new ArrayList<>();
+        String sql = "SELECT " + STATS_COLUMNS + ", g.date FROM GameStats gs " +
+                     "JOIN Game g ON gs.gameID = g.gameID " +
+                     "WHERE gs.playerID = ? " +
+                     "ORDER BY g.date ASC, gs.gameID ASC";
+        
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, playerId);
             ResultSet rs = pstmt.executeQuery();
+            StreamingQuery.RowMapper<GameStats> statsRow = STATS_ROWS.compile(rs);
+            int dateColumn = rs.findColumn("date");
             
             while (rs.next()) {
-                GameStats stats = new GameStats();
-                stats.setGameStatsId(rs.getInt("gameStatsID"));
-                stats.setPlayerId(rs.getInt("playerID"));
-                stats.setGameId(rs.getInt("gameID"));
-                stats.setTackles(rs.getInt("tackles"));
-                stats.setPasses(rs.getInt("passes"));
-                stats.setTries(rs.getInt("tries"));
-                stats.setKicks(rs.getInt("kicks"));
-                stats.setOverallRating(rs.getInt("overallRating"));
-                stats.setAttended(rs.getBoolean("attended"));
+                GameStats stats = statsRow.map(rs);
+                
+                // Set game date
+                stats.setGameDate(DateCodec.fromEpochDay(rs.getLong(dateColumn)));
                 
                 statsList.add(stats);
             }
             
             return statsList;
         } catch (SQLException e) {
-            throw new RepositoryException("Error getting player stats", e);
+            throw new RepositoryException("Error getting stats timeline for player: " + playerId, e);
         }
     }
     
     @Override
     public GameStats getPlayerGameStats(int gameId, int playerId) {
-        String sql = "SELECT * FROM GameStats WHERE gameID = ? AND playerID = ?";
+        String sql = "SELECT " + STATS_COLUMNS + " FROM GameStats gs WHERE gameID = ? AND playerID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, gameId);
             pstmt.setInt(2, playerId);
             
             ResultSet rs = pstmt.executeQuery();
+            StreamingQuery.RowMapper<GameStats> statsRow = STATS_ROWS.compile(rs);
             
             if (rs.next()) {
-                GameStats stats = new GameStats();
-                stats.setGameStatsId(rs.getInt("gameStatsID"));
-                stats.setPlayerId(rs.getInt("playerID"));
-                stats.setGameId(rs.getInt("gameID"));
-                stats.setTackles(rs.getInt("tackles"));
-                stats.setPasses(rs.getInt("passes"));
-                stats.setTries(rs.getInt("tries"));
-                stats.setKicks(rs.getInt("kicks"));
-                stats.setOverallRating(rs.getInt("overallRating"));
-                stats.setAttended(rs.getBoolean("attended"));
+                GameStats stats = statsRow.map(rs);
                 
                 return stats;
             }
@@ -502,19 +788,19 @@ public class SQLiteGameRepository implements GameRepository {
     @Override
     public List<Game> findUpcomingGames() {
         List<Game> games = new ArrayList<>();
-        String sql = "SELECT g.*, s.squadName, s.ageGrade FROM Game g " +
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
                      "LEFT JOIN Squad s ON g.squadID = s.squadID " +
-                     "WHERE g.date >= date('now') " +
+                     "WHERE g.date >= ? " +
                      "ORDER BY g.date ASC";
         
-        try (Connection conn = connectionManager.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            while (rs.next()) {
-                Game game = mapResultSetToGame(rs);
-                games.add(game);
-            }
+            // Today in local time; SQLite's date('now') would be the UTC day
+            pstmt.setLong(1, DateCodec.toEpochDay(new Date()));
+            ResultSet rs = pstmt.executeQuery();
+            
+            games.addAll(GAME_ROWS.mapAll(rs));
             
             // Load game stats for each game
             for (Game game : games) {
@@ -530,22 +816,20 @@ public class SQLiteGameRepository implements GameRepository {
     @Override
     public List<Game> findRecentGames(int limit) {
         List<Game> games = new ArrayList<>();
-        String sql = "SELECT g.*, s.squadName, s.ageGrade FROM Game g " +
+        String sql = "SELECT " + GAME_COLUMNS + " FROM Game g " +
                      "LEFT JOIN Squad s ON g.squadID = s.squadID " +
-                     "WHERE g.date < date('now') " +
+                     "WHERE g.date < ? " +
                      "ORDER BY g.date DESC " +
                      "LIMIT ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            pstmt.setInt(1, limit);
+            pstmt.setLong(1, DateCodec.toEpochDay(new Date()));
+            pstmt.setInt(2, limit);
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Game game = mapResultSetToGame(rs);
-                games.add(game);
-            }
+            games.addAll(GAME_ROWS.mapAll(rs));
             
             // Load game stats for each game
             for (Game game : games) {
@@ -560,72 +844,205 @@ public class SQLiteGameRepository implements GameRepository {
     
     @Override
     public int[] getSquadRecord(int squadId) {
-        int[] record = new int[3]; // [wins, losses, draws]
+        String sql = "SELECT squadID, " + RECORD_COLUMNS + " FROM Game WHERE squadID = ? GROUP BY squadID";
         
-        String sql = "SELECT finalScore FROM Game WHERE squadID = ?";
-        
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, squadId);
-            ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                String finalScore = rs.getString("finalScore");
-                
-                if (finalScore != null && !finalScore.isEmpty()) {
-                    try {
-                        String[] scores = finalScore.split(" - ");
-                        int ourScore = Integer.parseInt(scores[0]);
-                        int theirScore = Integer.parseInt(scores[1]);
-                        
-                        if (ourScore > theirScore) {
-                            record[0]++; // Win
-                        } else if (ourScore < theirScore) {
-                            record[1]++; // Loss
-                        } else {
-                            record[2]++; // Draw
-                        }
-                    } catch (Exception e) {
-                        // Skip games with invalid scores
-                    }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToSquadRecord(rs).toArray();
                 }
             }
             
-            return record;
+            return new int[3]; // No games: [0 wins, 0 losses, 0 draws]
         } catch (SQLException e) {
             throw new RepositoryException("Error getting squad record", e);
         }
     }
     
-    // Helper method to map ResultSet to Game object
-    private Game mapResultSetToGame(ResultSet rs) throws SQLException {
-        Game game = new Game();
-        game.setGameId(rs.getInt("gameID"));
+    @Override
+    public Map<Integer, SquadRecord> getSquadRecords() {
+        String sql = "SELECT squadID, " + RECORD_COLUMNS + " FROM Game " +
+                "WHERE squadID IS NOT NULL GROUP BY squadID ORDER BY squadID";
+        Map<Integer, SquadRecord> records = new LinkedHashMap<>();
         
-        // Parse date from string
-        try {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            Date gameDate = sdf.parse(rs.getString("date"));
-            game.setDate(gameDate);
-        } catch (ParseException e) {
-            throw new SQLException("Error parsing game date", e);
+        try (Connection conn = connectionManager.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            
+            while (rs.next()) {
+                SquadRecord record = mapResultSetToSquadRecord(rs);
+                records.put(record.getSquadId(), record);
+            }
+            
+            return records;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error getting squad records", e);
+        }
+    }
+    
+    // Helper method to bind the home and away scores, storing NULL when the game has no valid score
+    private void bindScores(PreparedStatement pstmt, int index, Game game) throws SQLException {
+        if (game.hasScores()) {
+            pstmt.setInt(index, game.getHomeScore());
+            pstmt.setInt(index + 1, game.getAwayScore());
+        } else {
+            pstmt.setNull(index, Types.INTEGER);
+            pstmt.setNull(index + 1, Types.INTEGER);
+        }
+    }
+    
+    // Helper method to map a row of RECORD_COLUMNS to a SquadRecord
+    private SquadRecord mapResultSetToSquadRecord(ResultSet rs) throws SQLException {
+        return new SquadRecord(
+                rs.getInt("squadID"),
+                rs.getInt("gamesPlayed"),
+                rs.getInt("wins"),
+                rs.getInt("losses"),
+                rs.getInt("draws"));
+    }
+    
+    // Helper method to bind the eight GameStats insert columns, in table order
+    private void bindGameStats(PreparedStatement pstmt, GameStats stats) throws SQLException {
+        pstmt.setInt(1, stats.getPlayerId());
+        pstmt.setInt(2, stats.getGameId());
+        pstmt.setInt(3, stats.getTackles());
+        pstmt.setInt(4, stats.getPasses());
+        pstmt.setInt(5, stats.getTries());
+        pstmt.setInt(6, stats.getKicks());
+        pstmt.setInt(7, stats.getOverallRating());
+        pstmt.setBoolean(8, stats.isAttended());
+    }
+    
+    // Helper method to set the IDs of stats rows written by a batch
+    private void assignGameStatsIds(Connection conn, List<GameStats> statsList) throws SQLException {
+        Map<Integer, List<GameStats>> byGame = new HashMap<>();
+        for (GameStats stats : statsList) {
+            byGame.computeIfAbsent(stats.getGameId(), id -> new ArrayList<>()).add(stats);
         }
         
-        game.setOpponent(rs.getString("opponent"));
-        game.setFinalScore(rs.getString("finalScore"));
-        game.setVenue(rs.getString("venue"));
-        
-        // Set squad if available
-        int squadId = rs.getInt("squadID");
-        if (!rs.wasNull()) {
-            Squad squad = new Squad();
-            squad.setSquadId(squadId);
-            squad.setSquadName(rs.getString("squadName"));
-            squad.setAgeGrade(rs.getString("ageGrade"));
-            game.setSquad(squad);
+        String sql = "SELECT playerID, gameStatsID FROM GameStats WHERE gameID = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (Map.Entry<Integer, List<GameStats>> entry : byGame.entrySet()) {
+                pstmt.setInt(1, entry.getKey());
+                
+                Map<Integer, Integer> idsByPlayer = new HashMap<>();
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        idsByPlayer.put(rs.getInt("playerID"), rs.getInt("gameStatsID"));
+                    }
+                }
+                
+                for (GameStats stats : entry.getValue()) {
+                    Integer id = idsByPlayer.get(stats.getPlayerId());
+                    if (id != null) {
+                        stats.setGameStatsId(id);
+                    }
+                }
+            }
+        }
+    }
+    
+    // Helper method to build a WHERE clause on Game g for an optional squad and date bounds
+    private String buildScheduleFilter(Integer squadId, Date startDate, Date endDate) {
+        List<String> conditions = new ArrayList<>();
+        if (squadId != null) {
+            conditions.add("g.squadID = ?");
         }
+        if (startDate != null) {
+            conditions.add("g.date >= ?");
+        }
+        if (endDate != null) {
+            conditions.add("g.date <= ?");
+        }
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+    
+    // Helper method to bind the parameters of a filter built by buildScheduleFilter, returning the next index
+    private int bindScheduleFilter(PreparedStatement pstmt, int index, Integer squadId, Date startDate, Date endDate)
+            throws SQLException {
+        if (squadId != null) {
+            pstmt.setInt(index++, squadId);
+        }
+        if (startDate != null) {
+            pstmt.setLong(index++, DateCodec.toEpochDay(startDate));
+        }
+        if (endDate != null) {
+            pstmt.setLong(index++, DateCodec.toEpochDay(endDate));
+        }
+        return index;
+    }
+    
+    // Helper method to compile the mapper of rows selecting STATS_COLUMNS
+    private static StreamingQuery.RowMapper<GameStats> compileStats(ResultSet rs) throws SQLException {
+        int gameStatsIdColumn = rs.findColumn("gameStatsID");
+        int playerIdColumn = rs.findColumn("playerID");
+        int gameIdColumn = rs.findColumn("gameID");
+        int tacklesColumn = rs.findColumn("tackles");
+        int passesColumn = rs.findColumn("passes");
+        int triesColumn = rs.findColumn("tries");
+        int kicksColumn = rs.findColumn("kicks");
+        int overallRatingColumn = rs.findColumn("overallRating");
+        int attendedColumn = rs.findColumn("attended");
         
-        return game;
+        return row -> {
+            GameStats stats = new GameStats();
+            stats.setGameStatsId(row.getInt(gameStatsIdColumn));
+            stats.setPlayerId(row.getInt(playerIdColumn));
+            stats.setGameId(row.getInt(gameIdColumn));
+            stats.setTackles(row.getInt(tacklesColumn));
+            stats.setPasses(row.getInt(passesColumn));
+            stats.setTries(row.getInt(triesColumn));
+            stats.setKicks(row.getInt(kicksColumn));
+            stats.setOverallRating(row.getInt(overallRatingColumn));
+            stats.setAttended(row.getBoolean(attendedColumn));
+            return stats;
+        };
+    }
+    
+    // Helper method to compile the mapper of rows selecting GAME_COLUMNS
+    private static StreamingQuery.RowMapper<Game> compileGame(ResultSet rs) throws SQLException {
+        int gameIdColumn = rs.findColumn("gameID");
+        int dateColumn = rs.findColumn("date");
+        int opponentColumn = rs.findColumn("opponent");
+        int finalScoreColumn = rs.findColumn("finalScore");
+        int venueColumn = rs.findColumn("venue");
+        int squadIdColumn = rs.findColumn("squadID");
+        int homeScoreColumn = rs.findColumn("homeScore");
+        int awayScoreColumn = rs.findColumn("awayScore");
+        int squadNameColumn = rs.findColumn("squadName");
+        int ageGradeColumn = rs.findColumn("ageGrade");
+        
+        return row -> {
+            Game game = new Game();
+            game.setGameId(row.getInt(gameIdColumn));
+            game.setDate(DateCodec.fromEpochDay(row.getLong(dateColumn)));
+            game.setOpponent(row.getString(opponentColumn));
+            // Prefer the integer score columns; fall back to the text for rows without a valid score
+            int homeScore = row.getInt(homeScoreColumn);
+            boolean hasHomeScore = !row.wasNull();
+            int awayScore = row.getInt(awayScoreColumn);
+            if (hasHomeScore && !row.wasNull()) {
+                game.setScores(homeScore, awayScore);
+            } else {
+                game.setFinalScore(row.getString(finalScoreColumn));
+            }
+            game.setVenue(row.getString(venueColumn));
+            
+            // Set squad if available
+            int squadId = row.getInt(squadIdColumn);
+            if (!row.wasNull()) {
+                Squad squad = new Squad();
+                squad.setSquadId(squadId);
+                squad.setSquadName(row.getString(squadNameColumn));
+                squad.setAgeGrade(row.getString(ageGradeColumn));
+                game.setSquad(squad);
+            }
+            
+            return game;
+        };
     }
-}
\ No newline at end of file
+}
@@ -2,11 +2,10 @@ package com.simplyrugby.repository.impl;
 
 import com.simplyrugby.domain.Member;
 import com.simplyrugby.repository.MemberRepository;
+import com.simplyrugby.util.DateCodec;
 import com.simplyrugby.util.RepositoryException;
 
 import java.sql.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -22,7 +21,7 @@ public class SQLiteMemberRepository implements MemberRepository {
     public Member findById(int id) {
         String sql = "SELECT * FROM Member WHERE memberID = ?";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -36,13 +35,28 @@ public class SQLiteMemberRepository implements MemberRepository {
             throw new RepositoryException("Error finding member with ID: " + id, e);
         }
     }
+    
+    @Override
+    public boolean existsById(int id) {
+        String sql = "SELECT 1 FROM Member WHERE memberID = ?";
+        
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RepositoryException("Error checking member with ID: " + id, e);
+        }
+    }
 
     @Override
     public List<Member> findAll() {
         List<Member> members = new ArrayList<>();
         String sql = "SELECT * FROM Member";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -60,7 +74,7 @@ public class SQLiteMemberRepository implements MemberRepository {
         List<Member> members = new ArrayList<>();
         String sql = "SELECT * FROM Member WHERE firstName LIKE ? OR lastName LIKE ?";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             String searchPattern = "%" + name + "%";
@@ -90,8 +104,7 @@ public class SQLiteMemberRepository implements MemberRepository {
             pstmt.setString(2, member.getLastName());
 
             // Format date as string
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(3, sdf.format(member.getDateOfBirth()));
+            pstmt.setLong(3, DateCodec.toEpochDay(member.getDateOfBirth()));
 
             pstmt.setString(4, member.getEmail());
             pstmt.setString(5, member.getPhone());
@@ -127,8 +140,7 @@ public class SQLiteMemberRepository implements MemberRepository {
             pstmt.setString(2, member.getLastName());
 
             // Format date as string
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(3, sdf.format(member.getDateOfBirth()));
+            pstmt.setLong(3, DateCodec.toEpochDay(member.getDateOfBirth()));
 
             pstmt.setString(4, member.getEmail());
             pstmt.setString(5, member.getPhone());
@@ -162,7 +174,7 @@ public class SQLiteMemberRepository implements MemberRepository {
     public Member findByEmail(String email) {
         String sql = "SELECT * FROM Member WHERE email = ?";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, email);
@@ -181,7 +193,7 @@ public class SQLiteMemberRepository implements MemberRepository {
     public Member findByPhone(String phone) {
         String sql = "SELECT * FROM Member WHERE phone = ?";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, phone);
@@ -203,14 +215,8 @@ public class SQLiteMemberRepository implements MemberRepository {
         member.setFirstName(rs.getString("firstName"));
         member.setLastName(rs.getString("lastName"));
 
-        // Parse date from string
-        try {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            Date dob = sdf.parse(rs.getString("dob"));
-            member.setDateOfBirth(dob);
-        } catch (ParseException e) {
-            throw new SQLException("Error parsing date of birth", e);
-        }
+        Date dob = DateCodec.fromEpochDay(rs.getLong("dob"));
+        member.setDateOfBirth(dob);
 
         member.setEmail(rs.getString("email"));
         member.setPhone(rs.getString("phone"));
@@ -1,20 +1,53 @@
 package com.simplyrugby.repository.impl;
 
 import com.simplyrugby.domain.Player;
+import com.simplyrugby.domain.PlayerSkillSummary;
 import com.simplyrugby.domain.Squad;
 import com.simplyrugby.domain.GameStats;
 import com.simplyrugby.domain.TrainingAttendance;
 import com.simplyrugby.repository.PlayerRepository;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
+import com.simplyrugby.util.DateCodec;
 import com.simplyrugby.util.RepositoryException;
 
 import java.sql.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class SQLitePlayerRepository implements PlayerRepository {
+    // Keeps IN (...) lists well under SQLite's bound-parameter limit
+    private static final int MAX_IN_PARAMETERS = 500;
+    
+    // Summary rows of archived seasons are left out unless all seasons are requested
+    private static final String OPEN_SEASONS_FILTER =
+            "pss.seasonID NOT IN (SELECT seasonID FROM Season WHERE archived = 1)";
+    
+    // Player, member and emergency contact columns; the member's own memberID is the only one selected
+    // under that label. Also used by the squad repository.
+    static final String PLAYER_COLUMNS =
+            "p.playerID, p.position, p.medicalConditions, " +
+            "m.memberID, m.firstName, m.lastName, m.dob, m.email, m.phone, m.address, " +
+            "ec.memberID AS ecID, ec.firstName AS ecFirstName, ec.lastName AS ecLastName, " +
+            "ec.email AS ecEmail, ec.phone AS ecPhone";
+    
+    private static final String ATTENDANCE_COLUMNS =
+            "ta.attendanceID, ta.playerID, ta.trainingID, ta.present, ta.playerNotes";
+    
+    static final CompiledRowMapper<Player> PLAYER_ROWS = SQLitePlayerRepository::compilePlayer;
+    private static final CompiledRowMapper<Player> PLAYER_WITH_SQUAD_ROWS =
+            SQLitePlayerRepository::compilePlayerWithSquad;
+    private static final CompiledRowMapper<TrainingAttendance> ATTENDANCE_ROWS =
+            SQLitePlayerRepository::compileAttendance;
+    private static final CompiledRowMapper<TrainingAttendance> DATED_ATTENDANCE_ROWS =
+            SQLitePlayerRepository::compileDatedAttendance;
+    
     private final ConnectionManager connectionManager;
     
     public SQLitePlayerRepository(ConnectionManager connectionManager) {
@@ -23,29 +56,34 @@ public class SQLitePlayerRepository implements PlayerRepository {
     
     @Override
     public Player findById(int id) {
-        String sql = "SELECT p.*, m.*, s.squadID, s.squadName, s.ageGrade, " +
-                     "ec.memberID as ecID, ec.firstName as ecFirstName, ec.lastName as ecLastName, " +
-                     "ec.email as ecEmail, ec.phone as ecPhone " +
+        return findById(id, Fetch.FULL);
+    }
+    
+    @Override
+    public Player findById(int id, Fetch fetch) {
+        return findById(id, fetch, false);
+    }
+    
+    @Override
+    public Player findById(int id, Fetch fetch, boolean allSeasons) {
+        String sql = "SELECT " + PLAYER_COLUMNS + ", " + SQLiteSquadRepository.SQUAD_COLUMNS + " " +
                      "FROM Player p " +
                      "JOIN Member m ON p.memberID = m.memberID " +
                      "LEFT JOIN Squad s ON p.squadID = s.squadID " +
                      "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID " +
                      "WHERE p.playerID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, id);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                Player player = mapResultSetToPlayer(rs);
-                
-                // Load player stats
-                player.setPlayerStats(getPlayerStats(conn, id));
+                Player player = PLAYER_WITH_SQUAD_ROWS.compile(rs).map(rs);
                 
-                // Load training attendance
-                player.setTrainingAttendance(getPlayerTrainingAttendance(conn, id));
+                // Load player stats and training attendance
+                loadStatsAndAttendance(conn, List.of(player), fetch, allSeasons);
                 
                 return player;
             }
@@ -55,31 +93,70 @@ public class SQLitePlayerRepository implements PlayerRepository {
         }
     }
     
+    @Override
+    public boolean existsById(int id) {
+        String sql = "SELECT 1 FROM Player WHERE playerID = ?";
+        
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RepositoryException("Error checking player with ID: " + id, e);
+        }
+    }
+    
+    @Override
+    public boolean existsAll(Collection<Integer> ids) {
+        Set<Integer> distinctIds = new HashSet<>(ids);
+        if (distinctIds.isEmpty()) {
+            return true;
+        }
+        List<Integer> idList = new ArrayList<>(distinctIds);
+        
+        try (Connection conn = connectionManager.getReadConnection()) {
+            int found = 0;
+            for (int from = 0; from < idList.size(); from += MAX_IN_PARAMETERS) {
+                List<Integer> chunk = idList.subList(from, Math.min(from + MAX_IN_PARAMETERS, idList.size()));
+                String sql = "SELECT COUNT(*) FROM Player WHERE playerID IN (" +
+                             String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+                
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    bindIds(pstmt, chunk);
+                    ResultSet rs = pstmt.executeQuery();
+                    if (rs.next()) {
+                        found += rs.getInt(1);
+                    }
+                }
+            }
+            return found == idList.size();
+        } catch (SQLException e) {
+            throw new RepositoryException("Error checking players: " + ids, e);
+        }
+    }
+    
     @Override
     public Player findByMemberId(int memberId) {
-        String sql = "SELECT p.*, m.*, s.squadID, s.squadName, s.ageGrade, " +
-                     "ec.memberID as ecID, ec.firstName as ecFirstName, ec.lastName as ecLastName, " +
-                     "ec.email as ecEmail, ec.phone as ecPhone " +
+        String sql = "SELECT " + PLAYER_COLUMNS + ", " + SQLiteSquadRepository.SQUAD_COLUMNS + " " +
                      "FROM Player p " +
                      "JOIN Member m ON p.memberID = m.memberID " +
                      "LEFT JOIN Squad s ON p.squadID = s.squadID " +
                      "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID " +
                      "WHERE p.memberID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, memberId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                Player player = mapResultSetToPlayer(rs);
-                
-                // Load player stats
-                player.setPlayerStats(getPlayerStats(conn, player.getPlayerId()));
+                Player player = PLAYER_WITH_SQUAD_ROWS.compile(rs).map(rs);
                 
-                // Load training attendance
-                player.setTrainingAttendance(getPlayerTrainingAttendance(conn, player.getPlayerId()));
+                // Load player stats and training attendance
+                loadStatsAndAttendance(conn, List.of(player), Fetch.FULL, false);
                 
                 return player;
             }
@@ -91,49 +168,96 @@ public class SQLitePlayerRepository implements PlayerRepository {
     
     @Override
     public List<Player> findAll() {
+        return findAll(Fetch.FULL);
+    }
+    
+    @Override
+    public List<Player> findAll(Fetch fetch) {
         List<Player> players = new ArrayList<>();
-        String sql = "SELECT p.*, m.*, s.squadID, s.squadName, s.ageGrade, " +
-                     "ec.memberID as ecID, ec.firstName as ecFirstName, ec.lastName as ecLastName, " +
-                     "ec.email as ecEmail, ec.phone as ecPhone " +
+        String sql = "SELECT " + PLAYER_COLUMNS + ", " + SQLiteSquadRepository.SQUAD_COLUMNS + " " +
                      "FROM Player p " +
                      "JOIN Member m ON p.memberID = m.memberID " +
                      "LEFT JOIN Squad s ON p.squadID = s.squadID " +
                      "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
-            while (rs.next()) {
-                Player player = mapResultSetToPlayer(rs);
-                players.add(player);
-            }
+            players.addAll(PLAYER_WITH_SQUAD_ROWS.mapAll(rs));
             
-            // Load stats and attendance for each player
-            for (Player player : players) {
-                player.setPlayerStats(getPlayerStats(conn, player.getPlayerId()));
-                player.setTrainingAttendance(getPlayerTrainingAttendance(conn, player.getPlayerId()));
-            }
+            // Load the requested stats and attendance for all players in one pass
+            loadStatsAndAttendance(conn, players, fetch, false);
             
             return players;
         } catch (SQLException e) {
             throw new RepositoryException("Error finding all players", e);
         }
     }
-    
+
+    @Override
+    public Stream<Player> streamAll(Fetch fetch) {
+        String from = "FROM Player p JOIN Member m ON p.memberID = m.memberID ";
+        String sql = "SELECT " + PLAYER_COLUMNS + ", " + SQLiteSquadRepository.SQUAD_COLUMNS + " " +
+                     from +
+                     "LEFT JOIN Squad s ON p.squadID = s.squadID " +
+                     "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID " +
+                     "ORDER BY p.playerID";
+        // The history cursors follow the players in player ID order, limited to the streamed players
+        String streamedPlayers = "(SELECT p.playerID " + from + ")";
+        String statsSql = "SELECT " + SQLiteGameRepository.STATS_COLUMNS + " FROM GameStats gs " +
+                          "WHERE gs.playerID IN " + streamedPlayers + " ORDER BY gs.playerID";
+        String attendanceSql = "SELECT " + ATTENDANCE_COLUMNS + ", t.date FROM TrainingAttendance ta " +
+                               "JOIN Training t ON ta.trainingID = t.trainingID " +
+                               "WHERE ta.playerID IN " + streamedPlayers + " ORDER BY ta.playerID";
+
+        StreamingQuery query = null;
+        try {
+            query = new StreamingQuery(connectionManager.getReadConnection());
+            ResultSet rs = query.execute(query.prepare(sql));
+
+            StreamingQuery.Children<GameStats> stats = fetch.includesStats()
+                    ? children(query.execute(query.prepare(statsSql)), SQLiteGameRepository.STATS_ROWS)
+                    : null;
+            StreamingQuery.Children<TrainingAttendance> attendance = fetch.includesAttendance()
+                    ? children(query.execute(query.prepare(attendanceSql)), DATED_ATTENDANCE_ROWS)
+                    : null;
+
+            StreamingQuery.RowMapper<Player> playerRow = PLAYER_WITH_SQUAD_ROWS.compile(rs);
+            return query.stream(rs, row -> {
+                Player player = playerRow.map(row);
+                if (stats != null) {
+                    player.setPlayerStats(stats.next(player.getPlayerId()));
+                }
+                if (attendance != null) {
+                    player.setTrainingAttendance(attendance.next(player.getPlayerId()));
+                }
+                return player;
+            }, "Error streaming players");
+        } catch (SQLException e) {
+            if (query != null) {
+                query.abandon(e);
+            }
+            throw new RepositoryException("Error streaming players", e);
+        }
+    }
+
     @Override
     public List<Player> findByName(String name) {
+        return findByName(name, Fetch.FULL);
+    }
+    
+    @Override
+    public List<Player> findByName(String name, Fetch fetch) {
         List<Player> players = new ArrayList<>();
-        String sql = "SELECT p.*, m.*, s.squadID, s.squadName, s.ageGrade, " +
-                     "ec.memberID as ecID, ec.firstName as ecFirstName, ec.lastName as ecLastName, " +
-                     "ec.email as ecEmail, ec.phone as ecPhone " +
+        String sql = "SELECT " + PLAYER_COLUMNS + ", " + SQLiteSquadRepository.SQUAD_COLUMNS + " " +
                      "FROM Player p " +
                      "JOIN Member m ON p.memberID = m.memberID " +
                      "LEFT JOIN Squad s ON p.squadID = s.squadID " +
                      "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID " +
                      "WHERE m.firstName LIKE ? OR m.lastName LIKE ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             String searchPattern = "%" + name + "%";
@@ -142,16 +266,10 @@ public class SQLitePlayerRepository implements PlayerRepository {
             
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Player player = mapResultSetToPlayer(rs);
-                players.add(player);
-            }
+            players.addAll(PLAYER_WITH_SQUAD_ROWS.mapAll(rs));
             
-            // Load stats and attendance for each player
-            for (Player player : players) {
-                player.setPlayerStats(getPlayerStats(conn, player.getPlayerId()));
-                player.setTrainingAttendance(getPlayerTrainingAttendance(conn, player.getPlayerId()));
-            }
+            // Load the requested stats and attendance for all players in one pass
+            loadStatsAndAttendance(conn, players, fetch, false);
             
             return players;
         } catch (SQLException e) {
@@ -161,32 +279,29 @@ public class SQLitePlayerRepository implements PlayerRepository {
     
     @Override
     public List<Player> findBySquad(int squadId) {
+        return findBySquad(squadId, Fetch.FULL);
+    }
+    
+    @Override
+    public List<Player> findBySquad(int squadId, Fetch fetch) {
         List<Player> players = new ArrayList<>();
-        String sql = "SELECT p.*, m.*, s.squadID, s.squadName, s.ageGrade, " +
-                     "ec.memberID as ecID, ec.firstName as ecFirstName, ec.lastName as ecLastName, " +
-                     "ec.email as ecEmail, ec.phone as ecPhone " +
+        String sql = "SELECT " + PLAYER_COLUMNS + ", " + SQLiteSquadRepository.SQUAD_COLUMNS + " " +
                      "FROM Player p " +
                      "JOIN Member m ON p.memberID = m.memberID " +
                      "LEFT JOIN Squad s ON p.squadID = s.squadID " +
                      "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID " +
                      "WHERE p.squadID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, squadId);
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Player player = mapResultSetToPlayer(rs);
-                players.add(player);
-            }
+            players.addAll(PLAYER_WITH_SQUAD_ROWS.mapAll(rs));
             
-            // Load stats and attendance for each player
-            for (Player player : players) {
-                player.setPlayerStats(getPlayerStats(conn, player.getPlayerId()));
-                player.setTrainingAttendance(getPlayerTrainingAttendance(conn, player.getPlayerId()));
-            }
+            // Load the requested stats and attendance for all players in one pass
+            loadStatsAndAttendance(conn, players, fetch, false);
             
             return players;
         } catch (SQLException e) {
@@ -196,32 +311,29 @@ public class SQLitePlayerRepository implements PlayerRepository {
     
     @Override
     public List<Player> findByPosition(String position) {
+        return findByPosition(position, Fetch.FULL);
+    }
+    
+    @Override
+    public List<Player> findByPosition(String position, Fetch fetch) {
         List<Player> players = new ArrayList<>();
-        String sql = "SELECT p.*, m.*, s.squadID, s.squadName, s.ageGrade, " +
-                     "ec.memberID as ecID, ec.firstName as ecFirstName, ec.lastName as ecLastName, " +
-                     "ec.email as ecEmail, ec.phone as ecPhone " +
+        String sql = "SELECT " + PLAYER_COLUMNS + ", " + SQLiteSquadRepository.SQUAD_COLUMNS + " " +
                      "FROM Player p " +
                      "JOIN Member m ON p.memberID = m.memberID " +
                      "LEFT JOIN Squad s ON p.squadID = s.squadID " +
                      "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID " +
                      "WHERE p.position = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, position);
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Player player = mapResultSetToPlayer(rs);
-                players.add(player);
-            }
+            players.addAll(PLAYER_WITH_SQUAD_ROWS.mapAll(rs));
             
-            // Load stats and attendance for each player
-            for (Player player : players) {
-                player.setPlayerStats(getPlayerStats(conn, player.getPlayerId()));
-                player.setTrainingAttendance(getPlayerTrainingAttendance(conn, player.getPlayerId()));
-            }
+            // Load the requested stats and attendance for all players in one pass
+            loadStatsAndAttendance(conn, players, fetch, false);
             
             return players;
         } catch (SQLException e) {
@@ -231,32 +343,29 @@ public class SQLitePlayerRepository implements PlayerRepository {
     
     @Override
     public List<Player> findByAgeGrade(String ageGrade) {
+        return findByAgeGrade(ageGrade, Fetch.FULL);
+    }
+    
+    @Override
+    public List<Player> findByAgeGrade(String ageGrade, Fetch fetch) {
         List<Player> players = new ArrayList<>();
-        String sql = "SELECT p.*, m.*, s.squadID, s.squadName, s.ageGrade, " +
-                     "ec.memberID as ecID, ec.firstName as ecFirstName, ec.lastName as ecLastName, " +
-                     "ec.email as ecEmail, ec.phone as ecPhone " +
+        String sql = "SELECT " + PLAYER_COLUMNS + ", " + SQLiteSquadRepository.SQUAD_COLUMNS + " " +
                      "FROM Player p " +
                      "JOIN Member m ON p.memberID = m.memberID " +
                      "LEFT JOIN Squad s ON p.squadID = s.squadID " +
                      "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID " +
                      "WHERE s.ageGrade = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, ageGrade);
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Player player = mapResultSetToPlayer(rs);
-                players.add(player);
-            }
+            players.addAll(PLAYER_WITH_SQUAD_ROWS.mapAll(rs));
             
-            // Load stats and attendance for each player
-            for (Player player : players) {
-                player.setPlayerStats(getPlayerStats(conn, player.getPlayerId()));
-                player.setTrainingAttendance(getPlayerTrainingAttendance(conn, player.getPlayerId()));
-            }
+            // Load the requested stats and attendance for all players in one pass
+            loadStatsAndAttendance(conn, players, fetch, false);
             
             return players;
         } catch (SQLException e) {
@@ -337,6 +446,11 @@ public class SQLitePlayerRepository implements PlayerRepository {
                 } catch (SQLException e) {
                     // Log autocommit reset error
                 }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    // Log connection release error
+                }
             }
         }
     }
@@ -399,83 +513,29 @@ public class SQLitePlayerRepository implements PlayerRepository {
                 } catch (SQLException e) {
                     // Log autocommit reset error
                 }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    // Log connection release error
+                }
             }
         }
     }
     
     @Override
     public boolean delete(int id) {
-        Connection conn = null;
-        try {
-            conn = connectionManager.getConnection();
-            conn.setAutoCommit(false);
-            
-            // Get member ID first
-            int memberId;
-            try (PreparedStatement pstmt = conn.prepareStatement("SELECT memberID FROM Player WHERE playerID = ?")) {
-                pstmt.setInt(1, id);
-                ResultSet rs = pstmt.executeQuery();
-                if (rs.next()) {
-                    memberId = rs.getInt("memberID");
-                } else {
-                    conn.rollback();
-                    return false;
-                }
-            }
-            
-            // Delete game stats for player
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM GameStats WHERE playerID = ?")) {
-                pstmt.setInt(1, id);
-                pstmt.executeUpdate();
-            }
-            
-            // Delete training attendance for player
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM TrainingAttendance WHERE playerID = ?")) {
-                pstmt.setInt(1, id);
-                pstmt.executeUpdate();
-            }
-            
-            // Delete player
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM Player WHERE playerID = ?")) {
-                pstmt.setInt(1, id);
-                int affectedRows = pstmt.executeUpdate();
-                
-                if (affectedRows == 0) {
-                    conn.rollback();
-                    return false;
-                }
-            }
+        // Deleting the member cascades to the player and on to their game stats and training attendance
+        String sql = "DELETE FROM Member WHERE memberID = (SELECT memberID FROM Player WHERE playerID = ?)";
+        
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            // Delete member
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM Member WHERE memberID = ?")) {
-                pstmt.setInt(1, memberId);
-                int affectedRows = pstmt.executeUpdate();
-                
-                if (affectedRows == 0) {
-                    conn.rollback();
-                    return false;
-                }
-            }
+            pstmt.setInt(1, id);
             
-            conn.commit();
-            return true;
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
         } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    // Log rollback error
-                }
-            }
             throw new RepositoryException("Error deleting player", e);
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    // Log autocommit reset error
-                }
-            }
         }
     }
     
@@ -532,10 +592,10 @@ public class SQLitePlayerRepository implements PlayerRepository {
    @Override
     public List<Player> findPlayersWithStatsByGame(int gameId) {
         List<Player> players = new ArrayList<>();
-        String sql = "SELECT p.*, m.*, s.squadID, s.squadName, s.ageGrade, " +
-                     "ec.memberID as ecID, ec.firstName as ecFirstName, ec.lastName as ecLastName, " +
-                     "ec.email as ecEmail, ec.phone as ecPhone, " +
-                     "gs.* " +
+        String sql = "SELECT " + PLAYER_COLUMNS + ", " + SQLiteSquadRepository.SQUAD_COLUMNS + ", " +
+                     // The stats' playerID is the player's, already selected
+                     "gs.gameStatsID, gs.gameID, gs.tackles, gs.passes, gs.tries, gs.kicks, " +
+                     "gs.overallRating, gs.attended " +
                      "FROM GameStats gs " +
                      "JOIN Player p ON gs.playerID = p.playerID " +
                      "JOIN Member m ON p.memberID = m.memberID " +
@@ -543,29 +603,19 @@ public class SQLitePlayerRepository implements PlayerRepository {
                      "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID " +
                      "WHERE gs.gameID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, gameId);
             ResultSet rs = pstmt.executeQuery();
             
+            StreamingQuery.RowMapper<Player> playerRow = PLAYER_WITH_SQUAD_ROWS.compile(rs);
+            StreamingQuery.RowMapper<GameStats> statsRow = SQLiteGameRepository.STATS_ROWS.compile(rs);
             while (rs.next()) {
-                Player player = mapResultSetToPlayer(rs);
-                
-                // Create game stats
-                GameStats stats = new GameStats();
-                stats.setGameStatsId(rs.getInt("gameStatsID"));
-                stats.setPlayerId(rs.getInt("playerID"));
-                stats.setGameId(rs.getInt("gameID"));
-                stats.setTackles(rs.getInt("tackles"));
-                stats.setPasses(rs.getInt("passes"));
-                stats.setTries(rs.getInt("tries"));
-                stats.setKicks(rs.getInt("kicks"));
-                stats.setOverallRating(rs.getInt("overallRating"));
-                stats.setAttended(rs.getBoolean("attended"));
+                Player player = playerRow.map(rs);
                 
                 // Add game stats to player
-                player.addGameStats(stats);
+                player.addGameStats(statsRow.map(rs));
                 
                 players.add(player);
             }
@@ -579,10 +629,9 @@ public class SQLitePlayerRepository implements PlayerRepository {
     @Override
     public List<Player> findPlayersWithAttendanceByTraining(int trainingId) {
         List<Player> players = new ArrayList<>();
-        String sql = "SELECT p.*, m.*, s.squadID, s.squadName, s.ageGrade, " +
-                     "ec.memberID as ecID, ec.firstName as ecFirstName, ec.lastName as ecLastName, " +
-                     "ec.email as ecEmail, ec.phone as ecPhone, " +
-                     "ta.* " +
+        String sql = "SELECT " + PLAYER_COLUMNS + ", " + SQLiteSquadRepository.SQUAD_COLUMNS + ", " +
+                     // The attendance's playerID is the player's, already selected
+                     "ta.attendanceID, ta.trainingID, ta.present, ta.playerNotes " +
                      "FROM TrainingAttendance ta " +
                      "JOIN Player p ON ta.playerID = p.playerID " +
                      "JOIN Member m ON p.memberID = m.memberID " +
@@ -590,25 +639,19 @@ public class SQLitePlayerRepository implements PlayerRepository {
                      "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID " +
                      "WHERE ta.trainingID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, trainingId);
             ResultSet rs = pstmt.executeQuery();
             
+            StreamingQuery.RowMapper<Player> playerRow = PLAYER_WITH_SQUAD_ROWS.compile(rs);
+            StreamingQuery.RowMapper<TrainingAttendance> attendanceRow = ATTENDANCE_ROWS.compile(rs);
             while (rs.next()) {
-                Player player = mapResultSetToPlayer(rs);
-                
-                // Create training attendance
-                TrainingAttendance attendance = new TrainingAttendance();
-                attendance.setAttendanceId(rs.getInt("attendanceID"));
-                attendance.setPlayerId(rs.getInt("playerID"));
-                attendance.setTrainingId(rs.getInt("trainingID"));
-                attendance.setPresent(rs.getBoolean("present"));
-                attendance.setPlayerNotes(rs.getString("playerNotes"));
+                Player player = playerRow.map(rs);
                 
                 // Add training attendance to player
-                player.addTrainingAttendance(attendance);
+                player.addTrainingAttendance(attendanceRow.map(rs));
                 
                 players.add(player);
             }
@@ -619,119 +662,280 @@ public class SQLitePlayerRepository implements PlayerRepository {
         }
     }
     
-    // Helper method to map ResultSet to Player object
-    private Player mapResultSetToPlayer(ResultSet rs) throws SQLException {
-        Player player = new Player();
-        
-        // Set player fields
-        player.setPlayerId(rs.getInt("playerID"));
-        player.setPosition(rs.getString("position"));
-        player.setMedicalConditions(rs.getString("medicalConditions"));
-        
-        // Set member fields
-        player.setMemberId(rs.getInt("memberID"));
-        player.setFirstName(rs.getString("firstName"));
-        player.setLastName(rs.getString("lastName"));
-        
-        // Parse date from string
-        try {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            Date dob = sdf.parse(rs.getString("dob"));
-            player.setDateOfBirth(dob);
-        } catch (ParseException e) {
-            throw new SQLException("Error parsing date of birth", e);
+    @Override
+    public PlayerSkillSummary findSkillSummary(int playerId) {
+        return findSkillSummary(playerId, false);
+    }
+    
+    @Override
+    public PlayerSkillSummary findSkillSummary(int playerId, boolean allSeasons) {
+        try (Connection conn = connectionManager.getReadConnection()) {
+            List<PlayerSkillSummary> summaries = querySkillSummaries(conn, allSeasons, "playerID = ?", playerId);
+            return summaries.isEmpty() ? null : summaries.get(0);
+        } catch (SQLException e) {
+            throw new RepositoryException("Error getting skill summary for player: " + playerId, e);
         }
-        
-        player.setEmail(rs.getString("email"));
-        player.setPhone(rs.getString("phone"));
-        player.setAddress(rs.getString("address"));
-        
-        // Set squad if available
-        int squadId = rs.getInt("squadID");
-        if (!rs.wasNull()) {
-            Squad squad = new Squad();
-            squad.setSquadId(squadId);
-            squad.setSquadName(rs.getString("squadName"));
-            squad.setAgeGrade(rs.getString("ageGrade"));
-            player.setSquad(squad);
+    }
+    
+    @Override
+    public List<PlayerSkillSummary> findSkillSummariesBySquad(int squadId) {
+        try (Connection conn = connectionManager.getReadConnection()) {
+            return querySkillSummaries(conn, false, "squadID = ?", squadId);
+        } catch (SQLException e) {
+            throw new RepositoryException("Error getting skill summaries for squad: " + squadId, e);
         }
-        
-        // Set emergency contact if available
-        int ecId = rs.getInt("ecID");
-        if (!rs.wasNull()) {
-            com.simplyrugby.domain.Member emergencyContact = new com.simplyrugby.domain.Member();
-            emergencyContact.setMemberId(ecId);
-            emergencyContact.setFirstName(rs.getString("ecFirstName"));
-            emergencyContact.setLastName(rs.getString("ecLastName"));
-            emergencyContact.setEmail(rs.getString("ecEmail"));
-            emergencyContact.setPhone(rs.getString("ecPhone"));
-            player.setEmergencyContact(emergencyContact);
+    }
+    
+    @Override
+    public List<PlayerSkillSummary> findAllSkillSummaries() {
+        try (Connection conn = connectionManager.getReadConnection()) {
+            return querySkillSummaries(conn, false, null);
+        } catch (SQLException e) {
+            throw new RepositoryException("Error getting skill summaries", e);
         }
-        
-        return player;
     }
     
-    // Helper method to get player stats
-    private List<GameStats> getPlayerStats(Connection conn, int playerId) throws SQLException {
-        List<GameStats> stats = new ArrayList<>();
-        String sql = "SELECT * FROM GameStats WHERE playerID = ?";
+    // Helper method to total the season summaries of players matching a Player filter
+    private List<PlayerSkillSummary> querySkillSummaries(Connection conn, boolean allSeasons, String playerFilter,
+                                                         int... params) throws SQLException {
+        // PlayerSeasonSummary holds one row of running totals per player and season, so this reads
+        // a handful of rows per player instead of their whole game and training history
+        String sql = "SELECT p.playerID, p.squadID, m.firstName, m.lastName, " +
+                     "SUM(pss.gamesAttended) AS gamesAttended, SUM(pss.tacklesTotal) AS tacklesTotal, " +
+                     "SUM(pss.passesTotal) AS passesTotal, SUM(pss.triesTotal) AS triesTotal, " +
+                     "SUM(pss.kicksTotal) AS kicksTotal, SUM(pss.ratingTotal) AS ratingTotal, " +
+                     "SUM(pss.sessionsRecorded) AS sessionsRecorded, SUM(pss.sessionsPresent) AS sessionsPresent " +
+                     "FROM Player p " +
+                     "JOIN Member m ON p.memberID = m.memberID " +
+                     "LEFT JOIN PlayerSeasonSummary pss ON pss.playerID = p.playerID" +
+                     (allSeasons ? "" : " AND " + OPEN_SEASONS_FILTER) + " " +
+                     (playerFilter == null ? "" : "WHERE p." + playerFilter + " ") +
+                     "GROUP BY p.playerID " +
+                     "ORDER BY p.playerID";
         
+        List<PlayerSkillSummary> summaries = new ArrayList<>();
         try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setInt(1, playerId);
+            int index = 1;
+            for (int param : params) {
+                pstmt.setInt(index++, param);
+            }
             ResultSet rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                GameStats gameStats = new GameStats();
-                gameStats.setGameStatsId(rs.getInt("gameStatsID"));
-                gameStats.setPlayerId(rs.getInt("playerID"));
-                gameStats.setGameId(rs.getInt("gameID"));
-                gameStats.setTackles(rs.getInt("tackles"));
-                gameStats.setPasses(rs.getInt("passes"));
-                gameStats.setTries(rs.getInt("tries"));
-                gameStats.setKicks(rs.getInt("kicks"));
-                gameStats.setOverallRating(rs.getInt("overallRating"));
-                gameStats.setAttended(rs.getBoolean("attended"));
-                
-                stats.add(gameStats);
+                int gamesAttended = rs.getInt("gamesAttended");
+                summaries.add(new PlayerSkillSummary(
+                        rs.getInt("playerID"),
+                        rs.getString("firstName"),
+                        rs.getString("lastName"),
+                        rs.getInt("squadID"),
+                        gamesAttended,
+                        average(rs.getLong("tacklesTotal"), gamesAttended),
+                        average(rs.getLong("passesTotal"), gamesAttended),
+                        average(rs.getLong("triesTotal"), gamesAttended),
+                        average(rs.getLong("kicksTotal"), gamesAttended),
+                        average(rs.getLong("ratingTotal"), gamesAttended),
+                        rs.getInt("sessionsRecorded"),
+                        rs.getInt("sessionsPresent")));
             }
         }
         
-        return stats;
+        return summaries;
+    }
+    
+    // Helper method to turn a season total into a per-game average
+    private static double average(long total, int games) {
+        return games > 0 ? (double) total / games : 0.0;
+    }
+    
+    // Helper method to compile the mapper of rows selecting PLAYER_COLUMNS
+    private static StreamingQuery.RowMapper<Player> compilePlayer(ResultSet rs) throws SQLException {
+        int playerIdColumn = rs.findColumn("playerID");
+        int positionColumn = rs.findColumn("position");
+        int medicalConditionsColumn = rs.findColumn("medicalConditions");
+        int memberIdColumn = rs.findColumn("memberID");
+        int firstNameColumn = rs.findColumn("firstName");
+        int lastNameColumn = rs.findColumn("lastName");
+        int dobColumn = rs.findColumn("dob");
+        int emailColumn = rs.findColumn("email");
+        int phoneColumn = rs.findColumn("phone");
+        int addressColumn = rs.findColumn("address");
+        int ecIdColumn = rs.findColumn("ecID");
+        int ecFirstNameColumn = rs.findColumn("ecFirstName");
+        int ecLastNameColumn = rs.findColumn("ecLastName");
+        int ecEmailColumn = rs.findColumn("ecEmail");
+        int ecPhoneColumn = rs.findColumn("ecPhone");
+        
+        return row -> {
+            Player player = new Player();
+            
+            // Set player fields
+            player.setPlayerId(row.getInt(playerIdColumn));
+            player.setPosition(row.getString(positionColumn));
+            player.setMedicalConditions(row.getString(medicalConditionsColumn));
+            
+            // Set member fields
+            player.setMemberId(row.getInt(memberIdColumn));
+            player.setFirstName(row.getString(firstNameColumn));
+            player.setLastName(row.getString(lastNameColumn));
+            player.setDateOfBirth(DateCodec.fromEpochDay(row.getLong(dobColumn)));
+            player.setEmail(row.getString(emailColumn));
+            player.setPhone(row.getString(phoneColumn));
+            player.setAddress(row.getString(addressColumn));
+            
+            // Set emergency contact if available
+            int ecId = row.getInt(ecIdColumn);
+            if (!row.wasNull()) {
+                com.simplyrugby.domain.Member emergencyContact = new com.simplyrugby.domain.Member();
+                emergencyContact.setMemberId(ecId);
+                emergencyContact.setFirstName(row.getString(ecFirstNameColumn));
+                emergencyContact.setLastName(row.getString(ecLastNameColumn));
+                emergencyContact.setEmail(row.getString(ecEmailColumn));
+                emergencyContact.setPhone(row.getString(ecPhoneColumn));
+                player.setEmergencyContact(emergencyContact);
+            }
+            
+            return player;
+        };
     }
     
-    // Helper method to get player training attendance
-    private List<TrainingAttendance> getPlayerTrainingAttendance(Connection conn, int playerId) throws SQLException {
-        List<TrainingAttendance> attendance = new ArrayList<>();
-        String sql = "SELECT ta.*, t.date FROM TrainingAttendance ta " +
-                     "JOIN Training t ON ta.trainingID = t.trainingID " +
-                     "WHERE ta.playerID = ?";
+    // Helper method to compile the mapper of rows selecting PLAYER_COLUMNS and the squad columns
+    private static StreamingQuery.RowMapper<Player> compilePlayerWithSquad(ResultSet rs) throws SQLException {
+        StreamingQuery.RowMapper<Player> playerRow = compilePlayer(rs);
+        int squadIdColumn = rs.findColumn("squadID");
+        int squadNameColumn = rs.findColumn("squadName");
+        int ageGradeColumn = rs.findColumn("ageGrade");
         
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setInt(1, playerId);
-            ResultSet rs = pstmt.executeQuery();
+        return row -> {
+            Player player = playerRow.map(row);
+            
+            // Set squad if available
+            int squadId = row.getInt(squadIdColumn);
+            if (!row.wasNull()) {
+                Squad squad = new Squad();
+                squad.setSquadId(squadId);
+                squad.setSquadName(row.getString(squadNameColumn));
+                squad.setAgeGrade(row.getString(ageGradeColumn));
+                player.setSquad(squad);
+            }
             
-            while (rs.next()) {
-                TrainingAttendance ta = new TrainingAttendance();
-                ta.setAttendanceId(rs.getInt("attendanceID"));
-                ta.setPlayerId(rs.getInt("playerID"));
-                ta.setTrainingId(rs.getInt("trainingID"));
-                ta.setPresent(rs.getBoolean("present"));
-                ta.setPlayerNotes(rs.getString("playerNotes"));
-                
-                // Set training date
-                try {
-                    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-                    Date trainingDate = sdf.parse(rs.getString("date"));
-                    ta.setTrainingDate(trainingDate);
-                } catch (ParseException e) {
-                    throw new SQLException("Error parsing training date", e);
+            return player;
+        };
+    }
+    
+    // Helper method to load stats and attendance for a set of players, one query per table
+    private void loadStatsAndAttendance(Connection conn, List<Player> players, Fetch fetch, boolean allSeasons)
+            throws SQLException {
+        if (players.isEmpty() || fetch == Fetch.SUMMARY) {
+            return;
+        }
+        
+        Map<Integer, Player> playersById = new HashMap<>();
+        for (Player player : players) {
+            playersById.put(player.getPlayerId(), player);
+        }
+        List<Integer> playerIds = new ArrayList<>(playersById.keySet());
+        
+        Map<Integer, List<GameStats>> statsByPlayer = new HashMap<>();
+        Map<Integer, List<TrainingAttendance>> attendanceByPlayer = new HashMap<>();
+        
+        for (int from = 0; from < playerIds.size(); from += MAX_IN_PARAMETERS) {
+            List<Integer> chunk = playerIds.subList(from, Math.min(from + MAX_IN_PARAMETERS, playerIds.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            
+            if (fetch.includesStats()) {
+                String statsSql = "SELECT " + SQLiteGameRepository.STATS_COLUMNS + " FROM " +
+                                  historyTable("GameStats", allSeasons) + " gs " +
+                                  "WHERE gs.playerID IN (" + placeholders + ")";
+                try (PreparedStatement pstmt = conn.prepareStatement(statsSql)) {
+                    bindIds(pstmt, chunk);
+                    ResultSet rs = pstmt.executeQuery();
+                    StreamingQuery.RowMapper<GameStats> statsRow = SQLiteGameRepository.STATS_ROWS.compile(rs);
+                    
+                    while (rs.next()) {
+                        GameStats gameStats = statsRow.map(rs);
+                        statsByPlayer.computeIfAbsent(gameStats.getPlayerId(), k -> new ArrayList<>()).add(gameStats);
+                    }
+                }
+            }
+            
+            if (fetch.includesAttendance()) {
+                String attendanceSql = "SELECT " + ATTENDANCE_COLUMNS + ", t.date FROM " +
+                                       historyTable("TrainingAttendance", allSeasons) +
+                                       " ta JOIN " + historyTable("Training", allSeasons) +
+                                       " t ON ta.trainingID = t.trainingID " +
+                                       "WHERE ta.playerID IN (" + placeholders + ")";
+                try (PreparedStatement pstmt = conn.prepareStatement(attendanceSql)) {
+                    bindIds(pstmt, chunk);
+                    ResultSet rs = pstmt.executeQuery();
+                    StreamingQuery.RowMapper<TrainingAttendance> attendanceRow = DATED_ATTENDANCE_ROWS.compile(rs);
+                    
+                    while (rs.next()) {
+                        TrainingAttendance ta = attendanceRow.map(rs);
+                        attendanceByPlayer.computeIfAbsent(ta.getPlayerId(), k -> new ArrayList<>()).add(ta);
+                    }
                 }
-                
-                attendance.add(ta);
             }
         }
         
-        return attendance;
+        for (Player player : players) {
+            if (fetch.includesStats()) {
+                player.setPlayerStats(statsByPlayer.getOrDefault(player.getPlayerId(), new ArrayList<>()));
+            }
+            if (fetch.includesAttendance()) {
+                player.setTrainingAttendance(attendanceByPlayer.getOrDefault(player.getPlayerId(), new ArrayList<>()));
+            }
+        }
+    }
+    
+    // Helper method to read from the live table, or from the view that adds the archived seasons' rows
+    private static String historyTable(String table, boolean allSeasons) {
+        return allSeasons ? table + "AllSeasons" : table;
+    }
+    
+    // Helper method to bind a list of IDs to consecutive parameters
+    private void bindIds(PreparedStatement pstmt, List<Integer> ids) throws SQLException {
+        for (int i = 0; i < ids.size(); i++) {
+            pstmt.setInt(i + 1, ids.get(i));
+        }
+    }
+    
+    // Helper method to compile the mapper of rows selecting ATTENDANCE_COLUMNS
+    private static StreamingQuery.RowMapper<TrainingAttendance> compileAttendance(ResultSet rs) throws SQLException {
+        int attendanceIdColumn = rs.findColumn("attendanceID");
+        int playerIdColumn = rs.findColumn("playerID");
+        int trainingIdColumn = rs.findColumn("trainingID");
+        int presentColumn = rs.findColumn("present");
+        int playerNotesColumn = rs.findColumn("playerNotes");
+        
+        return row -> {
+            TrainingAttendance ta = new TrainingAttendance();
+            ta.setAttendanceId(row.getInt(attendanceIdColumn));
+            ta.setPlayerId(row.getInt(playerIdColumn));
+            ta.setTrainingId(row.getInt(trainingIdColumn));
+            ta.setPresent(row.getBoolean(presentColumn));
+            ta.setPlayerNotes(row.getString(playerNotesColumn));
+            return ta;
+        };
+    }
+    
+    // Helper method to compile the mapper of attendance rows that also select the training date
+    private static StreamingQuery.RowMapper<TrainingAttendance> compileDatedAttendance(ResultSet rs)
+            throws SQLException {
+        StreamingQuery.RowMapper<TrainingAttendance> attendanceRow = compileAttendance(rs);
+        int dateColumn = rs.findColumn("date");
+        
+        return row -> {
+            TrainingAttendance ta = attendanceRow.map(row);
+            ta.setTrainingDate(DateCodec.fromEpochDay(row.getLong(dateColumn)));
+            return ta;
+        };
+    }
+    
+    // Helper method to walk a player-ordered history result set alongside the streamed players
+    private static <C> StreamingQuery.Children<C> children(ResultSet rs, CompiledRowMapper<C> mapper)
+            throws SQLException {
+        int playerIdColumn = rs.findColumn("playerID");
+        return new StreamingQuery.Children<>(rs, row -> row.getInt(playerIdColumn), mapper.compile(rs));
     }
     
     // Helper method to insert a new member
@@ -743,8 +947,7 @@ public class SQLitePlayerRepository implements PlayerRepository {
             pstmt.setString(1, member.getFirstName());
             pstmt.setString(2, member.getLastName());
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(3, sdf.format(member.getDateOfBirth()));
+            pstmt.setLong(3, DateCodec.toEpochDay(member.getDateOfBirth()));
             
             pstmt.setString(4, member.getEmail());
             pstmt.setString(5, member.getPhone());
@@ -772,8 +975,7 @@ public class SQLitePlayerRepository implements PlayerRepository {
             pstmt.setString(1, member.getFirstName());
             pstmt.setString(2, member.getLastName());
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(3, sdf.format(member.getDateOfBirth()));
+            pstmt.setLong(3, DateCodec.toEpochDay(member.getDateOfBirth()));
             
             pstmt.setString(4, member.getEmail());
             pstmt.setString(5, member.getPhone());
@@ -2,11 +2,10 @@ package com.simplyrugby.repository.impl;
 
 import com.simplyrugby.domain.Report;
 import com.simplyrugby.repository.ReportRepository;
+import com.simplyrugby.util.DateCodec;
 import com.simplyrugby.util.RepositoryException;
 
 import java.sql.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -22,7 +21,7 @@ public class SQLiteReportRepository implements ReportRepository {
     public Report findById(int id) {
         String sql = "SELECT * FROM Report WHERE reportID = ?";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -36,13 +35,28 @@ public class SQLiteReportRepository implements ReportRepository {
             throw new RepositoryException("Error finding report with ID: " + id, e);
         }
     }
+    
+    @Override
+    public boolean existsById(int id) {
+        String sql = "SELECT 1 FROM Report WHERE reportID = ?";
+        
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RepositoryException("Error checking report with ID: " + id, e);
+        }
+    }
 
     @Override
     public List<Report> findAll() {
         List<Report> reports = new ArrayList<>();
         String sql = "SELECT * FROM Report ORDER BY generatedDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -60,7 +74,7 @@ public class SQLiteReportRepository implements ReportRepository {
         List<Report> reports = new ArrayList<>();
         String sql = "SELECT * FROM Report WHERE title LIKE ? ORDER BY generatedDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, "%" + title + "%");
@@ -80,7 +94,7 @@ public class SQLiteReportRepository implements ReportRepository {
         List<Report> reports = new ArrayList<>();
         String sql = "SELECT * FROM Report WHERE reportType = ? ORDER BY generatedDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, reportType);
@@ -100,7 +114,7 @@ public class SQLiteReportRepository implements ReportRepository {
         List<Report> reports = new ArrayList<>();
         String sql = "SELECT * FROM Report WHERE generatedBy = ? ORDER BY generatedDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, generatedBy);
@@ -120,11 +134,10 @@ public class SQLiteReportRepository implements ReportRepository {
         List<Report> reports = new ArrayList<>();
         String sql = "SELECT * FROM Report WHERE generatedDate > ? ORDER BY generatedDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            pstmt.setString(1, sdf.format(date));
+            pstmt.setLong(1, DateCodec.toLocalEpochMillis(date));
 
             ResultSet rs = pstmt.executeQuery();
 
@@ -142,11 +155,10 @@ public class SQLiteReportRepository implements ReportRepository {
         List<Report> reports = new ArrayList<>();
         String sql = "SELECT * FROM Report WHERE generatedDate < ? ORDER BY generatedDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            pstmt.setString(1, sdf.format(date));
+            pstmt.setLong(1, DateCodec.toLocalEpochMillis(date));
 
             ResultSet rs = pstmt.executeQuery();
 
@@ -164,12 +176,11 @@ public class SQLiteReportRepository implements ReportRepository {
         List<Report> reports = new ArrayList<>();
         String sql = "SELECT * FROM Report WHERE generatedDate BETWEEN ? AND ? ORDER BY generatedDate DESC";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            pstmt.setString(1, sdf.format(startDate));
-            pstmt.setString(2, sdf.format(endDate));
+            pstmt.setLong(1, DateCodec.toLocalEpochMillis(startDate));
+            pstmt.setLong(2, DateCodec.toLocalEpochMillis(endDate));
 
             ResultSet rs = pstmt.executeQuery();
 
@@ -193,8 +204,7 @@ public class SQLiteReportRepository implements ReportRepository {
             pstmt.setString(1, report.getTitle());
             pstmt.setString(2, report.getContent());
 
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            pstmt.setString(3, sdf.format(report.getGeneratedDate()));
+            pstmt.setLong(3, DateCodec.toLocalEpochMillis(report.getGeneratedDate()));
 
             pstmt.setString(4, report.getGeneratedBy());
             pstmt.setString(5, report.getReportType());
@@ -228,8 +238,7 @@ public class SQLiteReportRepository implements ReportRepository {
             pstmt.setString(1, report.getTitle());
             pstmt.setString(2, report.getContent());
 
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            pstmt.setString(3, sdf.format(report.getGeneratedDate()));
+            pstmt.setLong(3, DateCodec.toLocalEpochMillis(report.getGeneratedDate()));
 
             pstmt.setString(4, report.getGeneratedBy());
             pstmt.setString(5, report.getReportType());
@@ -263,7 +272,7 @@ public class SQLiteReportRepository implements ReportRepository {
         List<Report> reports = new ArrayList<>();
         String sql = "SELECT * FROM Report ORDER BY generatedDate DESC LIMIT ?";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, limit);
@@ -285,14 +294,8 @@ public class SQLiteReportRepository implements ReportRepository {
         report.setTitle(rs.getString("title"));
         report.setContent(rs.getString("content"));
 
-        // Parse date from string
-        try {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            Date generatedDate = sdf.parse(rs.getString("generatedDate"));
-            report.setGeneratedDate(generatedDate);
-        } catch (ParseException e) {
-            throw new SQLException("Error parsing generated date", e);
-        }
+        Date generatedDate = DateCodec.fromLocalEpochMillis(rs.getLong("generatedDate"));
+        report.setGeneratedDate(generatedDate);
 
         report.setGeneratedBy(rs.getString("generatedBy"));
         report.setReportType(rs.getString("reportType"));
@@ -0,0 +1,197 @@
+package com.simplyrugby.repository.impl;
+
+import com.simplyrugby.domain.Season;
+import com.simplyrugby.repository.SeasonRepository;
+import com.simplyrugby.util.DateCodec;
+import com.simplyrugby.util.RepositoryException;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class SQLiteSeasonRepository implements SeasonRepository {
+    // Each statement takes the season ID as its only parameter. Games and sessions are copied first, their
+    // child rows follow by joining the archived parents, and deleting the live parents cascades to the children.
+    private static final String[] ARCHIVE_STATEMENTS = {
+            "INSERT INTO GameArchive (gameID, date, opponent, finalScore, venue, squadID, homeScore, awayScore, " +
+                    "seasonID) " +
+                    "SELECT g.gameID, g.date, g.opponent, g.finalScore, g.venue, g.squadID, g.homeScore, " +
+                    "g.awayScore, s.seasonID " +
+                    "FROM Game g JOIN Season s ON g.date BETWEEN s.startDate AND s.endDate " +
+                    "WHERE s.seasonID = ?",
+            "INSERT INTO GameStatsArchive (gameStatsID, playerID, gameID, tackles, passes, tries, kicks, " +
+                    "overallRating, attended) " +
+                    "SELECT gs.gameStatsID, gs.playerID, gs.gameID, gs.tackles, gs.passes, gs.tries, gs.kicks, " +
+                    "gs.overallRating, gs.attended " +
+                    "FROM GameStats gs JOIN GameArchive ga ON gs.gameID = ga.gameID " +
+                    "WHERE ga.seasonID = ?",
+            "INSERT INTO TrainingArchive (trainingID, date, squadID, focusAreas, coachNotes, seasonID) " +
+                    "SELECT t.trainingID, t.date, t.squadID, t.focusAreas, t.coachNotes, s.seasonID " +
+                    "FROM Training t JOIN Season s ON t.date BETWEEN s.startDate AND s.endDate " +
+                    "WHERE s.seasonID = ?",
+            "INSERT INTO TrainingAttendanceArchive (attendanceID, playerID, trainingID, present, playerNotes) " +
+                    "SELECT ta.attendanceID, ta.playerID, ta.trainingID, ta.present, ta.playerNotes " +
+                    "FROM TrainingAttendance ta JOIN TrainingArchive tr ON ta.trainingID = tr.trainingID " +
+                    "WHERE tr.seasonID = ?",
+            "DELETE FROM Game WHERE gameID IN (SELECT gameID FROM GameArchive WHERE seasonID = ?)",
+            "DELETE FROM Training WHERE trainingID IN (SELECT trainingID FROM TrainingArchive WHERE seasonID = ?)"
+    };
+
+    private final ConnectionManager connectionManager;
+
+    public SQLiteSeasonRepository(ConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @Override
+    public Season findById(int id) {
+        String sql = "SELECT * FROM Season WHERE seasonID = ?";
+
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, id);
+            ResultSet rs = pstmt.executeQuery();
+
+            if (rs.next()) {
+                return mapResultSetToSeason(rs);
+            }
+            return null;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error finding season with ID: " + id, e);
+        }
+    }
+
+    @Override
+    public List<Season> findAll() {
+        List<Season> seasons = new ArrayList<>();
+        String sql = "SELECT * FROM Season ORDER BY startDate";
+
+        try (Connection conn = connectionManager.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+
+            while (rs.next()) {
+                seasons.add(mapResultSetToSeason(rs));
+            }
+
+            return seasons;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error finding all seasons", e);
+        }
+    }
+
+    @Override
+    public Season findByDate(Date date) {
+        String sql = "SELECT * FROM Season WHERE ? BETWEEN startDate AND endDate";
+
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, DateCodec.toEpochDay(date));
+            ResultSet rs = pstmt.executeQuery();
+
+            if (rs.next()) {
+                return mapResultSetToSeason(rs);
+            }
+            return null;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error finding season for date", e);
+        }
+    }
+
+    @Override
+    public int save(Season season) {
+        String sql = "INSERT INTO Season (name, startDate, endDate, archived) VALUES (?, ?, ?, ?)";
+
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            pstmt.setString(1, season.getName());
+            pstmt.setLong(2, DateCodec.toEpochDay(season.getStartDate()));
+            pstmt.setLong(3, DateCodec.toEpochDay(season.getEndDate()));
+            pstmt.setBoolean(4, season.isArchived());
+
+            int affectedRows = pstmt.executeUpdate();
+
+            if (affectedRows > 0) {
+                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        int seasonId = generatedKeys.getInt(1);
+                        season.setSeasonId(seasonId);
+                        return seasonId;
+                    }
+                }
+            }
+
+            throw new RepositoryException("Creating season failed, no ID obtained.");
+        } catch (SQLException e) {
+            throw new RepositoryException("Error saving season", e);
+        }
+    }
+
+    @Override
+    public boolean archive(int seasonId) {
+        Connection conn = null;
+        try {
+            conn = connectionManager.getConnection();
+            conn.setAutoCommit(false);
+
+            // Claim the season first so a second archive of the same season does nothing
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "UPDATE Season SET archived = 1 WHERE seasonID = ? AND archived = 0")) {
+                pstmt.setInt(1, seasonId);
+                if (pstmt.executeUpdate() == 0) {
+                    conn.rollback();
+                    return false;
+                }
+            }
+
+            for (String sql : ARCHIVE_STATEMENTS) {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, seasonId);
+                    pstmt.executeUpdate();
+                }
+            }
+
+            conn.commit();
+            return true;
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    // Log rollback error
+                }
+            }
+            throw new RepositoryException("Error archiving season: " + seasonId, e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    // Log autocommit reset error
+                }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    // Log connection release error
+                }
+            }
+        }
+    }
+
+    // Helper method to map ResultSet to Season object
+    private Season mapResultSetToSeason(ResultSet rs) throws SQLException {
+        Season season = new Season();
+        season.setSeasonId(rs.getInt("seasonID"));
+        season.setName(rs.getString("name"));
+
+        season.setStartDate(DateCodec.fromEpochDay(rs.getLong("startDate")));
+        season.setEndDate(DateCodec.fromEpochDay(rs.getLong("endDate")));
+
+        season.setArchived(rs.getBoolean("archived"));
+        return season;
+    }
+}
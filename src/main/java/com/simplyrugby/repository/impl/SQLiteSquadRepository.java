@@ -3,17 +3,21 @@ package com.simplyrugby.repository.impl;
 import com.simplyrugby.domain.Coach;
 import com.simplyrugby.domain.Player;
 import com.simplyrugby.domain.Squad;
+import com.simplyrugby.domain.SquadDashboard;
+import com.simplyrugby.domain.SquadRecord;
 import com.simplyrugby.repository.SquadRepository;
 import com.simplyrugby.util.RepositoryException;
 
 import java.sql.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 public class SQLiteSquadRepository implements SquadRepository {
+    // Also used by the player, coach and game queries that load squads
+    static final String SQUAD_COLUMNS = "s.squadID, s.squadName, s.ageGrade";
+    
+    static final CompiledRowMapper<Squad> SQUAD_ROWS = SQLiteSquadRepository::compileSquad;
+    
     private final ConnectionManager connectionManager;
     
     public SQLiteSquadRepository(ConnectionManager connectionManager) {
@@ -22,16 +26,16 @@ public class SQLiteSquadRepository implements SquadRepository {
     
     @Override
     public Squad findById(int id) {
-        String sql = "SELECT * FROM Squad WHERE squadID = ?";
+        String sql = "SELECT " + SQUAD_COLUMNS + " FROM Squad s WHERE squadID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, id);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                Squad squad = mapResultSetToSquad(rs);
+                Squad squad = SQUAD_ROWS.compile(rs).map(rs);
                 
                 // Load players
                 squad.setPlayers(getPlayersInSquad(conn, id));
@@ -47,19 +51,31 @@ public class SQLiteSquadRepository implements SquadRepository {
         }
     }
     
+    @Override
+    public boolean existsById(int id) {
+        String sql = "SELECT 1 FROM Squad WHERE squadID = ?";
+        
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RepositoryException("Error checking squad with ID: " + id, e);
+        }
+    }
+    
     @Override
     public List<Squad> findAll() {
         List<Squad> squads = new ArrayList<>();
-        String sql = "SELECT * FROM Squad";
+        String sql = "SELECT " + SQUAD_COLUMNS + " FROM Squad s";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
-            while (rs.next()) {
-                Squad squad = mapResultSetToSquad(rs);
-                squads.add(squad);
-            }
+            squads.addAll(SQUAD_ROWS.mapAll(rs));
             
             // Load players and coaches for each squad
             for (Squad squad : squads) {
@@ -76,18 +92,15 @@ public class SQLiteSquadRepository implements SquadRepository {
     @Override
     public List<Squad> findByName(String name) {
         List<Squad> squads = new ArrayList<>();
-        String sql = "SELECT * FROM Squad WHERE squadName LIKE ?";
+        String sql = "SELECT " + SQUAD_COLUMNS + " FROM Squad s WHERE squadName LIKE ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, "%" + name + "%");
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Squad squad = mapResultSetToSquad(rs);
-                squads.add(squad);
-            }
+            squads.addAll(SQUAD_ROWS.mapAll(rs));
             
             // Load players and coaches for each squad
             for (Squad squad : squads) {
@@ -104,18 +117,15 @@ public class SQLiteSquadRepository implements SquadRepository {
     @Override
     public List<Squad> findByAgeGrade(String ageGrade) {
         List<Squad> squads = new ArrayList<>();
-        String sql = "SELECT * FROM Squad WHERE ageGrade = ?";
+        String sql = "SELECT " + SQUAD_COLUMNS + " FROM Squad s WHERE ageGrade = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, ageGrade);
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Squad squad = mapResultSetToSquad(rs);
-                squads.add(squad);
-            }
+            squads.addAll(SQUAD_ROWS.mapAll(rs));
             
             // Load players and coaches for each squad
             for (Squad squad : squads) {
@@ -132,20 +142,17 @@ public class SQLiteSquadRepository implements SquadRepository {
     @Override
     public List<Squad> findByCoach(int coachId) {
         List<Squad> squads = new ArrayList<>();
-        String sql = "SELECT s.* FROM Squad s " +
+        String sql = "SELECT " + SQUAD_COLUMNS + " FROM Squad s " +
                      "JOIN CoachSquad cs ON s.squadID = cs.squadID " +
                      "WHERE cs.coachID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, coachId);
             ResultSet rs = pstmt.executeQuery();
             
-            while (rs.next()) {
-                Squad squad = mapResultSetToSquad(rs);
-                squads.add(squad);
-            }
+            squads.addAll(SQUAD_ROWS.mapAll(rs));
             
             // Load players and coaches for each squad
             for (Squad squad : squads) {
@@ -161,18 +168,18 @@ public class SQLiteSquadRepository implements SquadRepository {
     
     @Override
     public Squad findByPlayer(int playerId) {
-        String sql = "SELECT s.* FROM Squad s " +
+        String sql = "SELECT " + SQUAD_COLUMNS + " FROM Squad s " +
                      "JOIN Player p ON s.squadID = p.squadID " +
                      "WHERE p.playerID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, playerId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                Squad squad = mapResultSetToSquad(rs);
+                Squad squad = SQUAD_ROWS.compile(rs).map(rs);
                 
                 // Load players
                 squad.setPlayers(getPlayersInSquad(conn, squad.getSquadId()));
@@ -236,65 +243,19 @@ public class SQLiteSquadRepository implements SquadRepository {
     
     @Override
     public boolean delete(int id) {
-        Connection conn = null;
-        try {
-            conn = connectionManager.getConnection();
-            conn.setAutoCommit(false);
-            
-            // Remove squad from players
-            try (PreparedStatement pstmt = conn.prepareStatement("UPDATE Player SET squadID = NULL WHERE squadID = ?")) {
-                pstmt.setInt(1, id);
-                pstmt.executeUpdate();
-            }
-            
-            // Delete coach squad assignments
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM CoachSquad WHERE squadID = ?")) {
-                pstmt.setInt(1, id);
-                pstmt.executeUpdate();
-            }
-            
-            // Delete games associated with squad
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM Game WHERE squadID = ?")) {
-                pstmt.setInt(1, id);
-                pstmt.executeUpdate();
-            }
-            
-            // Delete training sessions associated with squad
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM Training WHERE squadID = ?")) {
-                pstmt.setInt(1, id);
-                pstmt.executeUpdate();
-            }
+        // Foreign keys cascade to the squad's games, training sessions (and their stats and attendance)
+        // and coach assignments, and unassign its players
+        String sql = "DELETE FROM Squad WHERE squadID = ?";
+        
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            // Delete squad
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM Squad WHERE squadID = ?")) {
-                pstmt.setInt(1, id);
-                int affectedRows = pstmt.executeUpdate();
-                
-                if (affectedRows == 0) {
-                    conn.rollback();
-                    return false;
-                }
-            }
+            pstmt.setInt(1, id);
             
-            conn.commit();
-            return true;
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
         } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    // Log rollback error
-                }
-            }
             throw new RepositoryException("Error deleting squad", e);
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                } catch (SQLException e) {
-                    // Log autocommit reset error
-                }
-            }
         }
     }
     
@@ -383,7 +344,7 @@ public class SQLiteSquadRepository implements SquadRepository {
     public int getPlayerCount(int squadId) {
         String sql = "SELECT COUNT(*) FROM Player WHERE squadID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, squadId);
@@ -402,7 +363,7 @@ public class SQLiteSquadRepository implements SquadRepository {
     public int getCoachCount(int squadId) {
         String sql = "SELECT COUNT(*) FROM CoachSquad WHERE squadID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, squadId);
@@ -417,21 +378,109 @@ public class SQLiteSquadRepository implements SquadRepository {
         }
     }
     
-    // Helper method to map ResultSet to Squad object
-    private Squad mapResultSetToSquad(ResultSet rs) throws SQLException {
-        Squad squad = new Squad();
-        squad.setSquadId(rs.getInt("squadID"));
-        squad.setSquadName(rs.getString("squadName"));
-        squad.setAgeGrade(rs.getString("ageGrade"));
-        return squad;
+    @Override
+    public SquadDashboard findDashboard(int squadId) {
+        try (Connection conn = connectionManager.getReadConnection()) {
+            List<SquadDashboard> dashboards = queryDashboards(conn, squadId);
+            return dashboards.isEmpty() ? null : dashboards.get(0);
+        } catch (SQLException e) {
+            throw new RepositoryException("Error getting squad dashboard", e);
+        }
+    }
+    
+    @Override
+    public List<SquadDashboard> findAllDashboards() {
+        try (Connection conn = connectionManager.getReadConnection()) {
+            return queryDashboards(conn, null);
+        } catch (SQLException e) {
+            throw new RepositoryException("Error getting squad dashboards", e);
+        }
+    }
+    
+    // Helper method to count dashboard figures for one squad, or every squad when squadId is null
+    private List<SquadDashboard> queryDashboards(Connection conn, Integer squadId) throws SQLException {
+        // Each figure is grouped per squad before joining so the counts don't multiply each other;
+        // the squad filter is repeated inside every subquery so a single squad only reads its own rows
+        String filter = squadId == null ? "" : "WHERE squadID = ? ";
+        String sql = "SELECT s.squadID, s.squadName, s.ageGrade, " +
+                     "COALESCE(p.playerCount, 0) AS playerCount, " +
+                     "COALESCE(c.coachCount, 0) AS coachCount, " +
+                     "COALESCE(g.gamesPlayed, 0) AS gamesPlayed, COALESCE(g.wins, 0) AS wins, " +
+                     "COALESCE(g.losses, 0) AS losses, COALESCE(g.draws, 0) AS draws, " +
+                     "COALESCE(t.sessionsHeld, 0) AS sessionsHeld, " +
+                     "COALESCE(a.attendanceRecorded, 0) AS attendanceRecorded, " +
+                     "COALESCE(a.attendancePresent, 0) AS attendancePresent " +
+                     "FROM Squad s " +
+                     "LEFT JOIN (SELECT squadID, COUNT(*) AS playerCount FROM Player " + filter +
+                     "GROUP BY squadID) p ON p.squadID = s.squadID " +
+                     "LEFT JOIN (SELECT squadID, COUNT(*) AS coachCount FROM CoachSquad " + filter +
+                     "GROUP BY squadID) c ON c.squadID = s.squadID " +
+                     "LEFT JOIN (SELECT squadID, " + SQLiteGameRepository.RECORD_COLUMNS + " FROM Game " + filter +
+                     "GROUP BY squadID) g ON g.squadID = s.squadID " +
+                     "LEFT JOIN (SELECT squadID, COUNT(*) AS sessionsHeld FROM Training " + filter +
+                     "GROUP BY squadID) t ON t.squadID = s.squadID " +
+                     "LEFT JOIN (SELECT tr.squadID, COUNT(*) AS attendanceRecorded, " +
+                     "SUM(CASE WHEN ta.present = 1 THEN 1 ELSE 0 END) AS attendancePresent " +
+                     "FROM TrainingAttendance ta JOIN Training tr ON ta.trainingID = tr.trainingID " +
+                     (squadId == null ? "" : "WHERE tr.squadID = ? ") +
+                     "GROUP BY tr.squadID) a ON a.squadID = s.squadID " +
+                     (squadId == null ? "" : "WHERE s.squadID = ? ") +
+                     "ORDER BY s.squadID";
+        
+        List<SquadDashboard> dashboards = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            if (squadId != null) {
+                // One parameter per subquery plus the outer filter
+                for (int index = 1; index <= 6; index++) {
+                    pstmt.setInt(index, squadId);
+                }
+            }
+            ResultSet rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                int id = rs.getInt("squadID");
+                SquadRecord record = new SquadRecord(
+                        id,
+                        rs.getInt("gamesPlayed"),
+                        rs.getInt("wins"),
+                        rs.getInt("losses"),
+                        rs.getInt("draws"));
+                
+                dashboards.add(new SquadDashboard(
+                        id,
+                        rs.getString("squadName"),
+                        rs.getString("ageGrade"),
+                        rs.getInt("playerCount"),
+                        rs.getInt("coachCount"),
+                        record,
+                        rs.getInt("sessionsHeld"),
+                        rs.getInt("attendanceRecorded"),
+                        rs.getInt("attendancePresent")));
+            }
+        }
+        
+        return dashboards;
+    }
+    
+    // Helper method to compile the mapper of rows selecting SQUAD_COLUMNS
+    private static StreamingQuery.RowMapper<Squad> compileSquad(ResultSet rs) throws SQLException {
+        int squadIdColumn = rs.findColumn("squadID");
+        int squadNameColumn = rs.findColumn("squadName");
+        int ageGradeColumn = rs.findColumn("ageGrade");
+        
+        return row -> {
+            Squad squad = new Squad();
+            squad.setSquadId(row.getInt(squadIdColumn));
+            squad.setSquadName(row.getString(squadNameColumn));
+            squad.setAgeGrade(row.getString(ageGradeColumn));
+            return squad;
+        };
     }
     
     // Helper method to get players in a squad
     private List<Player> getPlayersInSquad(Connection conn, int squadId) throws SQLException {
         List<Player> players = new ArrayList<>();
-        String sql = "SELECT p.*, m.*, " +
-                     "ec.memberID as ecID, ec.firstName as ecFirstName, ec.lastName as ecLastName, " +
-                     "ec.email as ecEmail, ec.phone as ecPhone " +
+        String sql = "SELECT " + SQLitePlayerRepository.PLAYER_COLUMNS + " " +
                      "FROM Player p " +
                      "JOIN Member m ON p.memberID = m.memberID " +
                      "LEFT JOIN Member ec ON p.emergencyContactID = ec.memberID " +
@@ -440,47 +489,7 @@ public class SQLiteSquadRepository implements SquadRepository {
         try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, squadId);
             ResultSet rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                Player player = new Player();
-                
-                // Set player fields
-                player.setPlayerId(rs.getInt("playerID"));
-                player.setPosition(rs.getString("position"));
-                player.setMedicalConditions(rs.getString("medicalConditions"));
-                
-                // Set member fields
-                player.setMemberId(rs.getInt("memberID"));
-                player.setFirstName(rs.getString("firstName"));
-                player.setLastName(rs.getString("lastName"));
-                
-                // Parse date from string
-                try {
-                    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-                    Date dob = sdf.parse(rs.getString("dob"));
-                    player.setDateOfBirth(dob);
-                } catch (ParseException e) {
-                    throw new SQLException("Error parsing date of birth", e);
-                }
-                
-                player.setEmail(rs.getString("email"));
-                player.setPhone(rs.getString("phone"));
-                player.setAddress(rs.getString("address"));
-                
-                // Set emergency contact if available
-                int ecId = rs.getInt("ecID");
-                if (!rs.wasNull()) {
-                    com.simplyrugby.domain.Member emergencyContact = new com.simplyrugby.domain.Member();
-                    emergencyContact.setMemberId(ecId);
-                    emergencyContact.setFirstName(rs.getString("ecFirstName"));
-                    emergencyContact.setLastName(rs.getString("ecLastName"));
-                    emergencyContact.setEmail(rs.getString("ecEmail"));
-                    emergencyContact.setPhone(rs.getString("ecPhone"));
-                    player.setEmergencyContact(emergencyContact);
-                }
-                
-                players.add(player);
-            }
+            players.addAll(SQLitePlayerRepository.PLAYER_ROWS.mapAll(rs));
         }
         
         return players;
@@ -489,7 +498,7 @@ public class SQLiteSquadRepository implements SquadRepository {
     // Helper method to get coaches for a squad
     private List<Coach> getCoachesForSquad(Connection conn, int squadId) throws SQLException {
         List<Coach> coaches = new ArrayList<>();
-        String sql = "SELECT c.*, m.* " +
+        String sql = "SELECT " + SQLiteCoachRepository.COACH_COLUMNS + " " +
                      "FROM Coach c " +
                      "JOIN Member m ON c.memberID = m.memberID " +
                      "JOIN CoachSquad cs ON c.coachID = cs.coachID " +
@@ -498,36 +507,9 @@ public class SQLiteSquadRepository implements SquadRepository {
         try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, squadId);
             ResultSet rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                Coach coach = new Coach();
-                
-                // Set coach fields
-                coach.setCoachId(rs.getInt("coachID"));
-                coach.setQualifications(rs.getString("qualifications"));
-                
-                // Set member fields
-                coach.setMemberId(rs.getInt("memberID"));
-                coach.setFirstName(rs.getString("firstName"));
-                coach.setLastName(rs.getString("lastName"));
-                
-                // Parse date from string
-                try {
-                    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-                    Date dob = sdf.parse(rs.getString("dob"));
-                    coach.setDateOfBirth(dob);
-                } catch (ParseException e) {
-                    throw new SQLException("Error parsing date of birth", e);
-                }
-                
-                coach.setEmail(rs.getString("email"));
-                coach.setPhone(rs.getString("phone"));
-                coach.setAddress(rs.getString("address"));
-                
-                coaches.add(coach);
-            }
+            coaches.addAll(SQLiteCoachRepository.COACH_ROWS.mapAll(rs));
         }
         
         return coaches;
     }
-}
\ No newline at end of file
+}
@@ -4,16 +4,28 @@ import com.simplyrugby.domain.Training;
 import com.simplyrugby.domain.TrainingAttendance;
 import com.simplyrugby.domain.Squad;
 import com.simplyrugby.repository.TrainingRepository;
+import com.simplyrugby.util.DateCodec;
 import com.simplyrugby.util.RepositoryException;
 
 import java.sql.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 public class SQLiteTrainingRepository implements TrainingRepository {
+    // The unique (trainingID, playerID) index turns a repeat recording into an update
+    private static final String ATTENDANCE_UPSERT_CLAUSE =
+            "ON CONFLICT (trainingID, playerID) DO UPDATE SET " +
+            "present = excluded.present, playerNotes = excluded.playerNotes";
+    
+    // Keeps IN (...) lists well under SQLite's bound-parameter limit
+    private static final int MAX_IN_PARAMETERS = 500;
+    
     private final ConnectionManager connectionManager;
     
     public SQLiteTrainingRepository(ConnectionManager connectionManager) {
@@ -27,7 +39,7 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                 "LEFT JOIN Squad s ON t.squadID = s.squadID " +
                 "WHERE t.trainingID = ?";
 
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -48,13 +60,28 @@ public class SQLiteTrainingRepository implements TrainingRepository {
         }
     }
     
+    @Override
+    public boolean existsById(int id) {
+        String sql = "SELECT 1 FROM Training WHERE trainingID = ?";
+        
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RepositoryException("Error checking training session with ID: " + id, e);
+        }
+    }
+    
     @Override
     public List<Training> findAll() {
         List<Training> trainings = new ArrayList<>();
         String sql = "SELECT t.*, s.squadName, s.ageGrade FROM Training t " +
                      "LEFT JOIN Squad s ON t.squadID = s.squadID";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -81,7 +108,7 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                      "LEFT JOIN Squad s ON t.squadID = s.squadID " +
                      "WHERE t.squadID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, squadId);
@@ -103,6 +130,74 @@ public class SQLiteTrainingRepository implements TrainingRepository {
         }
     }
     
+    @Override
+    public List<Training> findBySquadBetweenDates(int squadId, Date startDate, Date endDate) {
+        return findTraining(squadId, startDate, endDate, false, 0);
+    }
+    
+    @Override
+    public List<Training> findTraining(Integer squadId, Date startDate, Date endDate,
+                                       boolean mostRecentFirst, int limit) {
+        return findTraining(squadId, startDate, endDate, mostRecentFirst, limit, false);
+    }
+    
+    @Override
+    public List<Training> findTraining(Integer squadId, Date startDate, Date endDate,
+                                       boolean mostRecentFirst, int limit, boolean allSeasons) {
+        List<Training> trainings = new ArrayList<>();
+        String trainingTable = historyTable("Training", allSeasons);
+        String direction = mostRecentFirst ? "DESC" : "ASC";
+        String selection = buildScheduleFilter(squadId, startDate, endDate) + " " +
+                           "ORDER BY t.date " + direction + ", t.trainingID " + direction +
+                           (limit > 0 ? " LIMIT ?" : "");
+        String sql = "SELECT t.*, s.squadName, s.ageGrade FROM " + trainingTable + " t " +
+                     "LEFT JOIN Squad s ON t.squadID = s.squadID " +
+                     selection;
+        String attendanceSql = "SELECT ta.*, t.date FROM " + historyTable("TrainingAttendance", allSeasons) + " ta " +
+                               "JOIN " + trainingTable + " t ON ta.trainingID = t.trainingID " +
+                               "WHERE ta.trainingID IN (SELECT t.trainingID FROM " + trainingTable + " t " +
+                               selection + ")";
+        
+        try (Connection conn = connectionManager.getReadConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int index = bindScheduleFilter(pstmt, 1, squadId, startDate, endDate);
+                if (limit > 0) {
+                    pstmt.setInt(index, limit);
+                }
+                ResultSet rs = pstmt.executeQuery();
+                
+                while (rs.next()) {
+                    trainings.add(mapResultSetToTraining(rs));
+                }
+            }
+            
+            // Load attendance records for all selected sessions in one pass
+            if (!trainings.isEmpty()) {
+                Map<Integer, List<TrainingAttendance>> recordsByTraining = new HashMap<>();
+                try (PreparedStatement pstmt = conn.prepareStatement(attendanceSql)) {
+                    int index = bindScheduleFilter(pstmt, 1, squadId, startDate, endDate);
+                    if (limit > 0) {
+                        pstmt.setInt(index, limit);
+                    }
+                    ResultSet rs = pstmt.executeQuery();
+                    
+                    while (rs.next()) {
+                        TrainingAttendance attendance = mapResultSetToAttendance(rs);
+                        recordsByTraining.computeIfAbsent(attendance.getTrainingId(), k -> new ArrayList<>()).add(attendance);
+                    }
+                }
+                
+                for (Training training : trainings) {
+                    training.setAttendanceRecords(recordsByTraining.getOrDefault(training.getTrainingId(), new ArrayList<>()));
+                }
+            }
+            
+            return trainings;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error finding trainings", e);
+        }
+    }
+    
     @Override
     public List<Training> findTrainingAfterDate(Date date) {
         List<Training> trainings = new ArrayList<>();
@@ -110,11 +205,10 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                      "LEFT JOIN Squad s ON t.squadID = s.squadID " +
                      "WHERE t.date > ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(1, sdf.format(date));
+            pstmt.setLong(1, DateCodec.toEpochDay(date));
             
             ResultSet rs = pstmt.executeQuery();
             
@@ -141,11 +235,10 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                      "LEFT JOIN Squad s ON t.squadID = s.squadID " +
                      "WHERE t.date < ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(1, sdf.format(date));
+            pstmt.setLong(1, DateCodec.toEpochDay(date));
             
             ResultSet rs = pstmt.executeQuery();
             
@@ -172,12 +265,11 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                      "LEFT JOIN Squad s ON t.squadID = s.squadID " +
                      "WHERE t.date BETWEEN ? AND ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(1, sdf.format(startDate));
-            pstmt.setString(2, sdf.format(endDate));
+            pstmt.setLong(1, DateCodec.toEpochDay(startDate));
+            pstmt.setLong(2, DateCodec.toEpochDay(endDate));
             
             ResultSet rs = pstmt.executeQuery();
             
@@ -205,8 +297,7 @@ public class SQLiteTrainingRepository implements TrainingRepository {
         try (Connection conn = connectionManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(1, sdf.format(training.getDate()));
+            pstmt.setLong(1, DateCodec.toEpochDay(training.getDate()));
             
             if (training.getSquad() != null) {
                 pstmt.setInt(2, training.getSquad().getSquadId());
@@ -243,8 +334,7 @@ public class SQLiteTrainingRepository implements TrainingRepository {
         try (Connection conn = connectionManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            pstmt.setString(1, sdf.format(training.getDate()));
+            pstmt.setLong(1, DateCodec.toEpochDay(training.getDate()));
             
             if (training.getSquad() != null) {
                 pstmt.setInt(2, training.getSquad().getSquadId());
@@ -265,30 +355,50 @@ public class SQLiteTrainingRepository implements TrainingRepository {
     
     @Override
     public boolean delete(int id) {
+        // Foreign keys cascade to the session's attendance records
+        String sql = "DELETE FROM Training WHERE trainingID = ?";
+        
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error deleting training", e);
+        }
+    }
+    
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        List<Integer> idList = new ArrayList<>(new HashSet<>(ids));
+        if (idList.isEmpty()) {
+            return 0;
+        }
+        
         Connection conn = null;
         try {
             conn = connectionManager.getConnection();
             conn.setAutoCommit(false);
             
-            // Delete attendance records
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM TrainingAttendance WHERE trainingID = ?")) {
-                pstmt.setInt(1, id);
-                pstmt.executeUpdate();
-            }
-            
-            // Delete training
-            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM Training WHERE trainingID = ?")) {
-                pstmt.setInt(1, id);
-                int affectedRows = pstmt.executeUpdate();
+            // Foreign keys cascade each delete to the child rows
+            int deleted = 0;
+            for (int from = 0; from < idList.size(); from += MAX_IN_PARAMETERS) {
+                List<Integer> chunk = idList.subList(from, Math.min(from + MAX_IN_PARAMETERS, idList.size()));
+                String sql = "DELETE FROM Training WHERE trainingID IN (" +
+                             String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
                 
-                if (affectedRows == 0) {
-                    conn.rollback();
-                    return false;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        pstmt.setInt(i + 1, chunk.get(i));
+                    }
+                    deleted += pstmt.executeUpdate();
                 }
             }
             
             conn.commit();
-            return true;
+            return deleted;
         } catch (SQLException e) {
             if (conn != null) {
                 try {
@@ -297,7 +407,7 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                     // Log rollback error
                 }
             }
-            throw new RepositoryException("Error deleting training", e);
+            throw new RepositoryException("Error deleting training sessions", e);
         } finally {
             if (conn != null) {
                 try {
@@ -305,6 +415,11 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                 } catch (SQLException e) {
                     // Log autocommit reset error
                 }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    // Log connection release error
+                }
             }
         }
     }
@@ -339,17 +454,111 @@ public class SQLiteTrainingRepository implements TrainingRepository {
         }
     }
     
+    @Override
+    public boolean upsertAttendance(TrainingAttendance attendance) {
+        // Insert-or-update in one statement; the EXISTS guards skip the write for an unknown player or session
+        String sql = "INSERT INTO TrainingAttendance (playerID, trainingID, present, playerNotes) " +
+                     "SELECT ?, ?, ?, ? " +
+                     "WHERE EXISTS (SELECT 1 FROM Player WHERE playerID = ?) " +
+                     "AND EXISTS (SELECT 1 FROM Training WHERE trainingID = ?) " +
+                     ATTENDANCE_UPSERT_CLAUSE + " RETURNING attendanceID";
+        
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, attendance.getPlayerId());
+            pstmt.setInt(2, attendance.getTrainingId());
+            pstmt.setBoolean(3, attendance.isPresent());
+            pstmt.setString(4, attendance.getPlayerNotes());
+            pstmt.setInt(5, attendance.getPlayerId());
+            pstmt.setInt(6, attendance.getTrainingId());
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    attendance.setAttendanceId(rs.getInt("attendanceID"));
+                    return true;
+                }
+            }
+            
+            return false;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error recording attendance", e);
+        }
+    }
+    
+    @Override
+    public int upsertAttendanceBatch(List<TrainingAttendance> attendanceList) {
+        if (attendanceList.isEmpty()) {
+            return 0;
+        }
+        
+        String sql = "INSERT INTO TrainingAttendance (playerID, trainingID, present, playerNotes) " +
+                     "VALUES (?, ?, ?, ?) " + ATTENDANCE_UPSERT_CLAUSE;
+        
+        Connection conn = null;
+        try {
+            conn = connectionManager.getConnection();
+            conn.setAutoCommit(false);
+            
+            int written = 0;
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (TrainingAttendance attendance : attendanceList) {
+                    pstmt.setInt(1, attendance.getPlayerId());
+                    pstmt.setInt(2, attendance.getTrainingId());
+                    pstmt.setBoolean(3, attendance.isPresent());
+                    pstmt.setString(4, attendance.getPlayerNotes());
+                    pstmt.addBatch();
+                }
+                
+                for (int count : pstmt.executeBatch()) {
+                    if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                        written++;
+                    }
+                }
+            }
+            
+            // Batched statements don't report generated keys, so look the IDs up per session
+            assignAttendanceIds(conn, attendanceList);
+            
+            conn.commit();
+            return written;
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    // Log rollback error
+                }
+            }
+            throw new RepositoryException("Error recording attendance batch", e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    // Log autocommit reset error
+                }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    // Log connection release error
+                }
+            }
+        }
+    }
+    
     @Override
     public boolean updateAttendance(TrainingAttendance attendance) {
         String sql = "UPDATE TrainingAttendance SET present = ?, playerNotes = ? " +
-                     "WHERE attendanceID = ?";
+                     "WHERE trainingID = ? AND playerID = ?";
         
         try (Connection conn = connectionManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setBoolean(1, attendance.isPresent());
             pstmt.setString(2, attendance.getPlayerNotes());
-            pstmt.setInt(3, attendance.getAttendanceId());
+            pstmt.setInt(3, attendance.getTrainingId());
+            pstmt.setInt(4, attendance.getPlayerId());
             
             int affectedRows = pstmt.executeUpdate();
             return affectedRows > 0;
@@ -379,13 +588,8 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                 attendance.setPlayerNotes(rs.getString("playerNotes"));
 
                 // Set training date
-                try {
-                    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-                    Date trainingDate = sdf.parse(rs.getString("date"));
-                    attendance.setTrainingDate(trainingDate);
-                } catch (ParseException e) {
-                    throw new SQLException("Error parsing training date", e);
-                }
+                Date trainingDate = DateCodec.fromEpochDay(rs.getLong("date"));
+                attendance.setTrainingDate(trainingDate);
 
                 records.add(attendance);
             }
@@ -397,7 +601,7 @@ public class SQLiteTrainingRepository implements TrainingRepository {
     // Public method implementation required by the interface
     @Override
     public List<TrainingAttendance> getAttendanceRecords(int trainingId) {
-        try (Connection conn = connectionManager.getConnection()) {
+        try (Connection conn = connectionManager.getReadConnection()) {
             return getAttendanceRecordsInternal(conn, trainingId);
         } catch (SQLException e) {
             throw new RepositoryException("Error getting attendance records for training: " + trainingId, e);
@@ -406,12 +610,17 @@ public class SQLiteTrainingRepository implements TrainingRepository {
     
     @Override
     public List<TrainingAttendance> getAttendanceByPlayer(int playerId) {
+        return getAttendanceByPlayer(playerId, false);
+    }
+    
+    @Override
+    public List<TrainingAttendance> getAttendanceByPlayer(int playerId, boolean allSeasons) {
         List<TrainingAttendance> records = new ArrayList<>();
-        String sql = "SELECT ta.*, t.date FROM TrainingAttendance ta " +
-                     "JOIN Training t ON ta.trainingID = t.trainingID " +
+        String sql = "SELECT ta.*, t.date FROM " + historyTable("TrainingAttendance", allSeasons) + " ta " +
+                     "JOIN " + historyTable("Training", allSeasons) + " t ON ta.trainingID = t.trainingID " +
                      "WHERE ta.playerID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, playerId);
@@ -426,13 +635,8 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                 attendance.setPlayerNotes(rs.getString("playerNotes"));
                 
                 // Set training date
-                try {
-                    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-                    Date trainingDate = sdf.parse(rs.getString("date"));
-                    attendance.setTrainingDate(trainingDate);
-                } catch (ParseException e) {
-                    throw new SQLException("Error parsing training date", e);
-                }
+                Date trainingDate = DateCodec.fromEpochDay(rs.getLong("date"));
+                attendance.setTrainingDate(trainingDate);
                 
                 records.add(attendance);
             }
@@ -449,7 +653,7 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                      "JOIN Training t ON ta.trainingID = t.trainingID " +
                      "WHERE ta.trainingID = ? AND ta.playerID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, trainingId);
@@ -466,13 +670,8 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                 attendance.setPlayerNotes(rs.getString("playerNotes"));
                 
                 // Set training date
-                try {
-                    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-                    Date trainingDate = sdf.parse(rs.getString("date"));
-                    attendance.setTrainingDate(trainingDate);
-                } catch (ParseException e) {
-                    throw new SQLException("Error parsing training date", e);
-                }
+                Date trainingDate = DateCodec.fromEpochDay(rs.getLong("date"));
+                attendance.setTrainingDate(trainingDate);
                 
                 return attendance;
             }
@@ -488,12 +687,15 @@ public class SQLiteTrainingRepository implements TrainingRepository {
         List<Training> trainings = new ArrayList<>();
         String sql = "SELECT t.*, s.squadName, s.ageGrade FROM Training t " +
                      "LEFT JOIN Squad s ON t.squadID = s.squadID " +
-                     "WHERE t.date >= date('now') " +
+                     "WHERE t.date >= ? " +
                      "ORDER BY t.date ASC";
         
-        try (Connection conn = connectionManager.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            // Today in local time; SQLite's date('now') would be the UTC day
+            pstmt.setLong(1, DateCodec.toEpochDay(new Date()));
+            ResultSet rs = pstmt.executeQuery();
             
             while (rs.next()) {
                 Training training = mapResultSetToTraining(rs);
@@ -516,14 +718,15 @@ public class SQLiteTrainingRepository implements TrainingRepository {
         List<Training> trainings = new ArrayList<>();
         String sql = "SELECT t.*, s.squadName, s.ageGrade FROM Training t " +
                      "LEFT JOIN Squad s ON t.squadID = s.squadID " +
-                     "WHERE t.date < date('now') " +
+                     "WHERE t.date < ? " +
                      "ORDER BY t.date DESC " +
                      "LIMIT ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            pstmt.setInt(1, limit);
+            pstmt.setLong(1, DateCodec.toEpochDay(new Date()));
+            pstmt.setInt(2, limit);
             ResultSet rs = pstmt.executeQuery();
             
             while (rs.next()) {
@@ -549,7 +752,7 @@ public class SQLiteTrainingRepository implements TrainingRepository {
                      "LEFT JOIN Squad s ON t.squadID = s.squadID " +
                      "WHERE t.focusAreas LIKE ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, "%" + focusArea + "%");
@@ -576,7 +779,7 @@ public class SQLiteTrainingRepository implements TrainingRepository {
         String sql = "SELECT COUNT(*) as total, SUM(CASE WHEN present = 1 THEN 1 ELSE 0 END) as present " +
                      "FROM TrainingAttendance WHERE trainingID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, trainingId);
@@ -599,10 +802,17 @@ public class SQLiteTrainingRepository implements TrainingRepository {
     
     @Override
     public double getPlayerAttendanceRate(int playerId) {
-        String sql = "SELECT COUNT(*) as total, SUM(CASE WHEN present = 1 THEN 1 ELSE 0 END) as present " +
-                     "FROM TrainingAttendance WHERE playerID = ?";
+        return getPlayerAttendanceRate(playerId, false);
+    }
+    
+    @Override
+    public double getPlayerAttendanceRate(int playerId, boolean allSeasons) {
+        // Read the running totals kept per season rather than counting the player's attendance rows
+        String sql = "SELECT SUM(sessionsRecorded) as total, SUM(sessionsPresent) as present " +
+                     "FROM PlayerSeasonSummary WHERE playerID = ?" +
+                     (allSeasons ? "" : " AND seasonID NOT IN (SELECT seasonID FROM Season WHERE archived = 1)");
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, playerId);
@@ -623,19 +833,118 @@ public class SQLiteTrainingRepository implements TrainingRepository {
         }
     }
     
+    @Override
+    public Map<Integer, Integer> getAttendedCountsBySquad(int squadId, Date startDate, Date endDate) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        String sql = "SELECT ta.playerID, COUNT(*) AS attended FROM TrainingAttendance ta " +
+                     "JOIN Training t ON ta.trainingID = t.trainingID " +
+                     buildScheduleFilter(squadId, startDate, endDate) + " AND ta.present = 1 " +
+                     "GROUP BY ta.playerID";
+        
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            bindScheduleFilter(pstmt, 1, squadId, startDate, endDate);
+            ResultSet rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                counts.put(rs.getInt("playerID"), rs.getInt("attended"));
+            }
+            
+            return counts;
+        } catch (SQLException e) {
+            throw new RepositoryException("Error counting attendance for squad: " + squadId, e);
+        }
+    }
+    
+    // Helper method to set the attendance IDs of the rows written by a batch
+    private void assignAttendanceIds(Connection conn, List<TrainingAttendance> attendanceList) throws SQLException {
+        Map<Integer, List<TrainingAttendance>> byTraining = new HashMap<>();
+        for (TrainingAttendance attendance : attendanceList) {
+            byTraining.computeIfAbsent(attendance.getTrainingId(), id -> new ArrayList<>()).add(attendance);
+        }
+        
+        String sql = "SELECT playerID, attendanceID FROM TrainingAttendance WHERE trainingID = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (Map.Entry<Integer, List<TrainingAttendance>> entry : byTraining.entrySet()) {
+                pstmt.setInt(1, entry.getKey());
+                
+                Map<Integer, Integer> idsByPlayer = new HashMap<>();
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        idsByPlayer.put(rs.getInt("playerID"), rs.getInt("attendanceID"));
+                    }
+                }
+                
+                for (TrainingAttendance attendance : entry.getValue()) {
+                    Integer id = idsByPlayer.get(attendance.getPlayerId());
+                    if (id != null) {
+                        attendance.setAttendanceId(id);
+                    }
+                }
+            }
+        }
+    }
+    
+    // Helper method to read from the live table, or from the view that adds the archived seasons' rows
+    private static String historyTable(String table, boolean allSeasons) {
+        return allSeasons ? table + "AllSeasons" : table;
+    }
+    
+    // Helper method to build a WHERE clause on Training t for an optional squad and date bounds
+    private String buildScheduleFilter(Integer squadId, Date startDate, Date endDate) {
+        List<String> conditions = new ArrayList<>();
+        if (squadId != null) {
+            conditions.add("t.squadID = ?");
+        }
+        if (startDate != null) {
+            conditions.add("t.date >= ?");
+        }
+        if (endDate != null) {
+            conditions.add("t.date <= ?");
+        }
+        // Always emit a WHERE so callers can append further conditions
+        return conditions.isEmpty() ? "WHERE 1 = 1" : "WHERE " + String.join(" AND ", conditions);
+    }
+    
+    // Helper method to bind the parameters of a filter built by buildScheduleFilter, returning the next index
+    private int bindScheduleFilter(PreparedStatement pstmt, int index, Integer squadId, Date startDate, Date endDate)
+            throws SQLException {
+        if (squadId != null) {
+            pstmt.setInt(index++, squadId);
+        }
+        if (startDate != null) {
+            pstmt.setLong(index++, DateCodec.toEpochDay(startDate));
+        }
+        if (endDate != null) {
+            pstmt.setLong(index++, DateCodec.toEpochDay(endDate));
+        }
+        return index;
+    }
+    
+    // Helper method to map ResultSet to TrainingAttendance object
+    private TrainingAttendance mapResultSetToAttendance(ResultSet rs) throws SQLException {
+        TrainingAttendance attendance = new TrainingAttendance();
+        attendance.setAttendanceId(rs.getInt("attendanceID"));
+        attendance.setPlayerId(rs.getInt("playerID"));
+        attendance.setTrainingId(rs.getInt("trainingID"));
+        attendance.setPresent(rs.getBoolean("present"));
+        attendance.setPlayerNotes(rs.getString("playerNotes"));
+        
+        // Set training date
+        Date trainingDate = DateCodec.fromEpochDay(rs.getLong("date"));
+        attendance.setTrainingDate(trainingDate);
+        
+        return attendance;
+    }
+    
     // Helper method to map ResultSet to Training object
     private Training mapResultSetToTraining(ResultSet rs) throws SQLException {
         Training training = new Training();
         training.setTrainingId(rs.getInt("trainingID"));
         
-        // Parse date from string
-        try {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            Date trainingDate = sdf.parse(rs.getString("date"));
-            training.setDate(trainingDate);
-        } catch (ParseException e) {
-            throw new SQLException("Error parsing training date", e);
-        }
+        Date trainingDate = DateCodec.fromEpochDay(rs.getLong("date"));
+        training.setDate(trainingDate);
         
         training.setFocusAreas(rs.getString("focusAreas"));
         training.setCoachNotes(rs.getString("coachNotes"));
@@ -19,7 +19,7 @@ public class SQLiteUserRepository implements UserRepository {
     public User findById(int id) {
         String sql = "SELECT * FROM User WHERE userID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, id);
@@ -34,12 +34,27 @@ public class SQLiteUserRepository implements UserRepository {
         }
     }
     
+    @Override
+    public boolean existsById(int id) {
+        String sql = "SELECT 1 FROM User WHERE userID = ?";
+        
+        try (Connection conn = connectionManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setInt(1, id);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RepositoryException("Error checking user with ID: " + id, e);
+        }
+    }
+    
     @Override
     public List<User> findAll() {
         List<User> users = new ArrayList<>();
         String sql = "SELECT * FROM User";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -56,7 +71,7 @@ public class SQLiteUserRepository implements UserRepository {
     public User findByUsername(String username) {
         String sql = "SELECT * FROM User WHERE username = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, username);
@@ -76,7 +91,7 @@ public class SQLiteUserRepository implements UserRepository {
         List<User> users = new ArrayList<>();
         String sql = "SELECT * FROM User WHERE role = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, role);
@@ -95,7 +110,7 @@ public class SQLiteUserRepository implements UserRepository {
     public User findByMemberId(int memberId) {
         String sql = "SELECT * FROM User WHERE memberID = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, memberId);
@@ -191,7 +206,7 @@ public class SQLiteUserRepository implements UserRepository {
     public String authenticate(String username, String password) {
         String sql = "SELECT role FROM User WHERE username = ? AND password = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, username);
@@ -229,7 +244,7 @@ public class SQLiteUserRepository implements UserRepository {
     public boolean isUsernameTaken(String username) {
         String sql = "SELECT 1 FROM User WHERE username = ?";
         
-        try (Connection conn = connectionManager.getConnection();
+        try (Connection conn = connectionManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, username);
@@ -0,0 +1,117 @@
+package com.simplyrugby.repository.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQLite storage settings applied to every connection the
+ * {@link ConnectionManager} opens.
+ */
+public class StorageProfile {
+    /**
+     * Plain SQLite defaults: rollback journal and a single shared pool.
+     */
+    public static final StorageProfile DEFAULT = new StorageProfile(
+            null, null, 0, 0, null, false);
+
+    /**
+     * Write-ahead logging with relaxed syncing, memory-mapped I/O, a larger
+     * page cache and in-memory temp tables. Reads go to read-only connections
+     * so report generation never queues behind the writer.
+     */
+    public static final StorageProfile TUNED = new StorageProfile(
+            "WAL", "NORMAL", 256L * 1024 * 1024, -64 * 1024, "MEMORY", true);
+
+    private final String journalMode;
+    private final String synchronous;
+    private final long mmapSize;
+    private final int cacheSize;
+    private final String tempStore;
+    private final boolean splitReadWrite;
+
+    /**
+     * Creates a storage profile.
+     *
+     * @param journalMode The journal_mode pragma, or null to keep the SQLite default
+     * @param synchronous The synchronous pragma, or null to keep the SQLite default
+     * @param mmapSize The mmap_size pragma in bytes, or 0 to keep the SQLite default
+     * @param cacheSize The cache_size pragma (negative values are KiB), or 0 to keep the SQLite default
+     * @param tempStore The temp_store pragma, or null to keep the SQLite default
+     * @param splitReadWrite True to use one writer connection and a pool of read-only readers
+     */
+    public StorageProfile(String journalMode, String synchronous, long mmapSize, int cacheSize,
+                          String tempStore, boolean splitReadWrite) {
+        this.journalMode = journalMode;
+        this.synchronous = synchronous;
+        this.mmapSize = mmapSize;
+        this.cacheSize = cacheSize;
+        this.tempStore = tempStore;
+        this.splitReadWrite = splitReadWrite;
+    }
+
+    public String getJournalMode() {
+        return journalMode;
+    }
+
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    public long getMmapSize() {
+        return mmapSize;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public String getTempStore() {
+        return tempStore;
+    }
+
+    public boolean isSplitReadWrite() {
+        return splitReadWrite;
+    }
+
+    /**
+     * Applies the profile's pragmas to a newly opened connection.
+     * The journal mode is persistent in the database file, so it is only set
+     * from writable connections.
+     *
+     * @param conn The connection to configure
+     * @param writable Whether the connection may write to the database
+     * @throws SQLException If a pragma cannot be applied
+     */
+    void apply(Connection conn, boolean writable) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (writable && journalMode != null) {
+                stmt.execute("PRAGMA journal_mode=" + journalMode);
+            }
+            if (synchronous != null) {
+                stmt.execute("PRAGMA synchronous=" + synchronous);
+            }
+            if (mmapSize > 0) {
+                stmt.execute("PRAGMA mmap_size=" + mmapSize);
+            }
+            if (cacheSize != 0) {
+                stmt.execute("PRAGMA cache_size=" + cacheSize);
+            }
+            if (tempStore != null) {
+                stmt.execute("PRAGMA temp_store=" + tempStore);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StorageProfile{" +
+                "journalMode=" + journalMode +
+                ", synchronous=" + synchronous +
+                ", mmapSize=" + mmapSize +
+                ", cacheSize=" + cacheSize +
+                ", tempStore=" + tempStore +
+                ", splitReadWrite=" + splitReadWrite +
+                '}';
+    }
+}
@@ -0,0 +1,199 @@
+package com.simplyrugby.repository.impl;
+
+import com.simplyrugby.util.RepositoryException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Owns a connection and the statements and result sets opened on it while their rows are
+ * streamed, so a query can be handed to the caller as a lazily mapped {@link Stream}.
+ * Closing the stream closes everything the query opened, in reverse order, and returns
+ * the connection to the pool. Streams must be closed, e.g. with try-with-resources, and
+ * consumed on the thread that opened them since the connection lease belongs to that thread.
+ */
+final class StreamingQuery implements AutoCloseable {
+    // Rows requested from the driver at a time; small enough to keep a club-wide scan in constant memory
+    static final int FETCH_SIZE = 256;
+
+    /**
+     * Maps the current row of a result set without advancing it.
+     *
+     * @param <T> The mapped type
+     */
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Reads a key from the current row of a result set without advancing it.
+     */
+    @FunctionalInterface
+    interface KeyReader {
+        int read(ResultSet rs) throws SQLException;
+    }
+
+    private final Connection connection;
+    private final Deque<AutoCloseable> resources = new ArrayDeque<>();
+
+    /**
+     * Takes ownership of a connection; it is closed with the query.
+     *
+     * @param connection The connection the query's statements run on
+     */
+    StreamingQuery(Connection connection) {
+        this.connection = connection;
+        resources.push(connection);
+    }
+
+    /**
+     * Prepare a statement that reads {@link #FETCH_SIZE} rows at a time
+     *
+     * @param sql The SQL to prepare
+     * @return The prepared statement, closed with the query
+     */
+    PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement pstmt = connection.prepareStatement(sql);
+        resources.push(pstmt);
+        pstmt.setFetchSize(FETCH_SIZE);
+        return pstmt;
+    }
+
+    /**
+     * Execute a prepared statement
+     *
+     * @param pstmt A statement from {@link #prepare(String)}, with its parameters bound
+     * @return The result set, closed with the query
+     */
+    ResultSet execute(PreparedStatement pstmt) throws SQLException {
+        ResultSet rs = pstmt.executeQuery();
+        resources.push(rs);
+        return rs;
+    }
+
+    /**
+     * Stream the rows of a result set, mapping each row as it is reached. Closing the
+     * stream closes this query.
+     *
+     * @param rs A result set from {@link #execute(PreparedStatement)}
+     * @param mapper Maps each row
+     * @param errorMessage The message of the RepositoryException thrown if reading a row fails
+     * @return An ordered stream of the mapped rows
+     */
+    <T> Stream<T> stream(ResultSet rs, RowMapper<T> mapper, String errorMessage) {
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!rs.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(rs));
+                    return true;
+                } catch (SQLException e) {
+                    throw new RepositoryException(errorMessage, e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(rows, false).onClose(() -> {
+            try {
+                close();
+            } catch (SQLException e) {
+                throw new RepositoryException(errorMessage, e);
+            }
+        });
+    }
+
+    /**
+     * Close everything the query opened, most recent first. Every resource is closed even if
+     * an earlier one fails; later failures are added to the first as suppressed exceptions.
+     */
+    @Override
+    public void close() throws SQLException {
+        SQLException failure = null;
+        while (!resources.isEmpty()) {
+            try {
+                resources.pop().close();
+            } catch (Exception e) {
+                SQLException closeError = e instanceof SQLException ? (SQLException) e : new SQLException(e);
+                if (failure == null) {
+                    failure = closeError;
+                } else {
+                    failure.addSuppressed(closeError);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Close the query after opening it failed, adding any close error to the original failure
+     *
+     * @param cause The error that stopped the query from being opened
+     */
+    void abandon(SQLException cause) {
+        try {
+            close();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Walks a second result set alongside the streamed one, e.g. a player's game statistics
+     * next to the players. Both must be ordered the same way by the key, and every child row
+     * must belong to a parent row of the streamed result, so each parent's children are the
+     * next run of rows with its key.
+     *
+     * @param <C> The mapped child type
+     */
+    static final class Children<C> {
+        private final ResultSet rs;
+        private final KeyReader key;
+        private final RowMapper<C> mapper;
+        private boolean hasRow;
+
+        /**
+         * @param rs A result set from {@link #execute(PreparedStatement)}
+         * @param key Reads the parent key of a child row
+         * @param mapper Maps each child row
+         */
+        Children(ResultSet rs, KeyReader key, RowMapper<C> mapper) throws SQLException {
+            this.rs = rs;
+            this.key = key;
+            this.mapper = mapper;
+            this.hasRow = rs.next();
+        }
+
+        /**
+         * Take the next run of child rows if it belongs to the given parent
+         *
+         * @param parentKey The key of the parent row being mapped
+         * @return The parent's children, or an empty list if it has none
+         */
+        List<C> next(int parentKey) throws SQLException {
+            List<C> children = new ArrayList<>();
+            while (hasRow && key.read(rs) == parentKey) {
+                children.add(mapper.map(rs));
+                hasRow = rs.next();
+            }
+            return children;
+        }
+    }
+}
@@ -2,11 +2,15 @@ package com.simplyrugby.service;
 
 import com.simplyrugby.domain.Game;
 import com.simplyrugby.domain.GameStats;
+import com.simplyrugby.domain.SquadRecord;
 import com.simplyrugby.util.EntityNotFoundException;
 import com.simplyrugby.util.ValidationException;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Service interface for Game entity operations.
@@ -70,6 +74,32 @@ public interface GameService {
      */
     List<Game> getGamesBetweenDates(Date startDate, Date endDate);
 
+    /**
+     * Get games matching an optional squad and date range, ordered by date and optionally limited
+     *
+     * @param squadId The squad ID, or null for all squads
+     * @param startDate The earliest game date to include, or null for no lower bound
+     * @param endDate The latest game date to include, or null for no upper bound
+     * @param mostRecentFirst True to order from the latest game, false from the earliest
+     * @param limit The maximum number of games to return, or 0 for no limit
+     * @return List of matching games
+     * @throws EntityNotFoundException If a squad ID is given and the squad doesn't exist
+     */
+    List<Game> getGames(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit);
+
+    /**
+     * Stream games matching an optional squad and date range from the earliest, each with its
+     * statistics, without loading them all into memory. The stream must be closed, e.g. with
+     * try-with-resources.
+     *
+     * @param squadId The squad ID, or null for all squads
+     * @param startDate The earliest game date to include, or null for no lower bound
+     * @param endDate The latest game date to include, or null for no upper bound
+     * @return Stream of matching games
+     * @throws EntityNotFoundException If a squad ID is given and the squad doesn't exist
+     */
+    Stream<Game> streamGames(Integer squadId, Date startDate, Date endDate);
+
     /**
      * Add a new game
      *
@@ -98,6 +128,14 @@ public interface GameService {
      */
     boolean deleteGame(int id);
 
+    /**
+     * Delete several games and their records in one transaction, e.g. when archiving an old season
+     *
+     * @param ids The game IDs to delete; IDs that don't exist are ignored
+     * @return The number of games deleted
+     */
+    int deleteGames(Collection<Integer> ids);
+
     /**
      * Add game statistics for a player
      *
@@ -108,6 +146,18 @@ public interface GameService {
      */
     boolean addGameStats(GameStats stats);
 
+    /**
+     * Add game statistics for several players in one transaction.
+     * Every row is validated before anything is written.
+     *
+     * @param statsList The game statistics to add
+     * @return Per-row results, in list order: true if the row was added, false if the player
+     *         already had statistics for the game
+     * @throws ValidationException     If any row is invalid or a player appears twice for the same game
+     * @throws EntityNotFoundException If any player or game doesn't exist
+     */
+    boolean[] addGameStatsBatch(List<GameStats> statsList);
+
     /**
      * Update game statistics for a player
      *
@@ -118,6 +168,29 @@ public interface GameService {
      */
     boolean updateGameStats(GameStats stats);
 
+    /**
+     * Record game statistics for a player, replacing any statistics already
+     * recorded for that player and game
+     *
+     * @param stats The game statistics to record
+     * @return True if the statistics were recorded
+     * @throws ValidationException     If the statistics data is invalid
+     * @throws EntityNotFoundException If the player or game doesn't exist
+     */
+    boolean recordGameStats(GameStats stats);
+
+    /**
+     * Record game statistics for several players in one transaction, replacing any
+     * statistics already recorded for the same player and game.
+     * Every row is validated before anything is written.
+     *
+     * @param statsList The game statistics to record
+     * @return The number of rows written
+     * @throws ValidationException     If any row is invalid or a player appears twice for the same game
+     * @throws EntityNotFoundException If any player or game doesn't exist
+     */
+    int recordGameStatsBatch(List<GameStats> statsList);
+
     /**
      * Get game statistics for a specific game
      *
@@ -136,6 +209,16 @@ public interface GameService {
      */
     List<GameStats> getStatsByPlayer(int playerId);
 
+    /**
+     * Get game statistics for a specific player with each game's date,
+     * ordered from the earliest game to the latest
+     *
+     * @param playerId The player ID
+     * @return List of game statistics with their game dates set
+     * @throws EntityNotFoundException If the player doesn't exist
+     */
+    List<GameStats> getStatsTimelineForPlayer(int playerId);
+
     /**
      * Get game statistics for a specific player in a specific game
      *
@@ -165,6 +248,13 @@ public interface GameService {
      */
     int[] getSquadRecord(int squadId);
 
+    /**
+     * Get the win/loss/draw records of every squad that has games
+     *
+     * @return Map of squad ID to the squad's record, in squad ID order
+     */
+    Map<Integer, SquadRecord> getSquadRecords();
+
     /**
      * Validate game data
      *
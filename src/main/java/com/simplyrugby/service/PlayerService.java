@@ -2,11 +2,14 @@ package com.simplyrugby.service;
 
 import com.simplyrugby.domain.GameStats;
 import com.simplyrugby.domain.Player;
+import com.simplyrugby.domain.PlayerSkillSummary;
 import com.simplyrugby.domain.TrainingAttendance;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
 import com.simplyrugby.util.EntityNotFoundException;
 import com.simplyrugby.util.ValidationException;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PlayerService {
     /**
@@ -16,6 +19,25 @@ public interface PlayerService {
      * @throws EntityNotFoundException If the player does not exist
      */
     Player getPlayerById(int id);
+
+    /**
+     * Get a player by ID, loading only the requested history
+     * @param id The player ID
+     * @param fetch The history to load with the player
+     * @return The player
+     * @throws EntityNotFoundException If the player does not exist
+     */
+    Player getPlayerById(int id, Fetch fetch);
+
+    /**
+     * Get a player by ID, loading only the requested history, optionally from archived seasons too
+     * @param id The player ID
+     * @param fetch The history to load with the player
+     * @param allSeasons True to also load history from archived seasons
+     * @return The player
+     * @throws EntityNotFoundException If the player does not exist
+     */
+    Player getPlayerById(int id, Fetch fetch, boolean allSeasons);
     
     /**
      * Get all players
@@ -23,6 +45,21 @@ public interface PlayerService {
      */
     List<Player> getAllPlayers();
 
+    /**
+     * Get all players, loading only the requested history
+     * @param fetch The history to load with each player
+     * @return List of all players
+     */
+    List<Player> getAllPlayers(Fetch fetch);
+
+    /**
+     * Stream all players in player ID order without loading the whole club into memory.
+     * The stream must be closed, e.g. with try-with-resources.
+     * @param fetch The history to load with each player
+     * @return Stream of all players
+     */
+    Stream<Player> streamAllPlayers(Fetch fetch);
+
     List<Player> getPlayersByName(String name);
 
     /**
@@ -32,6 +69,14 @@ public interface PlayerService {
      */
     List<Player> getPlayersBySquad(int squadId);
 
+    /**
+     * Get players in a specific squad, loading only the requested history
+     * @param squadId The squad ID
+     * @param fetch The history to load with each player
+     * @return List of players in the squad
+     */
+    List<Player> getPlayersBySquad(int squadId, Fetch fetch);
+
     List<Player> getPlayersByPosition(String position);
 
     List<Player> getPlayersByAgeGrade(String ageGrade);
@@ -92,5 +137,36 @@ public interface PlayerService {
 
     double calculateTrainingAttendanceRate(int playerId);
 
+    /**
+     * Get a player's game averages and attendance, aggregated in one query
+     * @param playerId The player ID
+     * @return The player's skill summary
+     * @throws EntityNotFoundException If the player does not exist
+     */
+    PlayerSkillSummary getSkillSummary(int playerId);
+
+    /**
+     * Get a player's game averages and attendance, optionally including archived seasons
+     * @param playerId The player ID
+     * @param allSeasons True to also aggregate archived seasons, false for open seasons only
+     * @return The player's skill summary
+     * @throws EntityNotFoundException If the player does not exist
+     */
+    PlayerSkillSummary getSkillSummary(int playerId, boolean allSeasons);
+
+    /**
+     * Get game averages and attendance for every player in a squad, aggregated in one query
+     * @param squadId The squad ID
+     * @return List of skill summaries ordered by player ID
+     * @throws EntityNotFoundException If the squad does not exist
+     */
+    List<PlayerSkillSummary> getSkillSummariesBySquad(int squadId);
+
+    /**
+     * Get game averages and attendance for every player in the club, aggregated in one query
+     * @return List of skill summaries ordered by player ID
+     */
+    List<PlayerSkillSummary> getAllSkillSummaries();
+
     void validatePlayer(Player player);
 }
\ No newline at end of file
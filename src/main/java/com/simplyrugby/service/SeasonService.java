@@ -0,0 +1,64 @@
+package com.simplyrugby.service;
+
+import com.simplyrugby.domain.Season;
+import com.simplyrugby.util.EntityNotFoundException;
+import com.simplyrugby.util.ValidationException;
+
+import java.util.List;
+
+/**
+ * Service interface for managing seasons and archiving closed ones.
+ */
+public interface SeasonService {
+    /**
+     * Get a season by ID
+     *
+     * @param id The season ID
+     * @return The season
+     * @throws EntityNotFoundException If the season doesn't exist
+     */
+    Season getSeasonById(int id);
+
+    /**
+     * Get all seasons
+     *
+     * @return List of all seasons ordered by start date
+     */
+    List<Season> getAllSeasons();
+
+    /**
+     * Get the season that today's date falls in
+     *
+     * @return The current season, or null if today is outside every season
+     */
+    Season getCurrentSeason();
+
+    /**
+     * Add a new season
+     *
+     * @param season The season to add
+     * @return The ID of the newly created season
+     * @throws ValidationException If the season is invalid or overlaps an existing season
+     */
+    int addSeason(Season season);
+
+    /**
+     * Archive a season that has ended. Its games, game statistics, training sessions and
+     * attendance records move out of the live tables, so they are only returned by queries
+     * that ask for all seasons.
+     *
+     * @param id The season ID
+     * @return True if the season was archived
+     * @throws EntityNotFoundException If the season doesn't exist
+     * @throws ValidationException If the season is already archived or hasn't ended yet
+     */
+    boolean archiveSeason(int id);
+
+    /**
+     * Validate season data
+     *
+     * @param season The season to validate
+     * @throws ValidationException If validation fails
+     */
+    void validateSeason(Season season);
+}
@@ -3,6 +3,7 @@ package com.simplyrugby.service;
 import com.simplyrugby.domain.Coach;
 import com.simplyrugby.domain.Player;
 import com.simplyrugby.domain.Squad;
+import com.simplyrugby.domain.SquadDashboard;
 import com.simplyrugby.util.EntityNotFoundException;
 import com.simplyrugby.util.ValidationException;
 
@@ -175,6 +176,30 @@ public interface SquadService {
      */
     boolean hasMinimumCoaches(int squadId);
 
+    /**
+     * Check if a squad has the minimum required number of coaches using an already loaded dashboard
+     *
+     * @param dashboard The squad's dashboard
+     * @return True if the squad has enough coaches, false otherwise
+     */
+    boolean hasMinimumCoaches(SquadDashboard dashboard);
+
+    /**
+     * Get a squad's player and coach counts, game record and training attendance
+     *
+     * @param squadId The squad ID
+     * @return The squad's dashboard
+     * @throws EntityNotFoundException If the squad doesn't exist
+     */
+    SquadDashboard getSquadDashboard(int squadId);
+
+    /**
+     * Get the dashboard of every squad in the club
+     *
+     * @return List of dashboards ordered by squad ID
+     */
+    List<SquadDashboard> getAllSquadDashboards();
+
     /**
      * Validate squad data
      *
@@ -5,8 +5,10 @@ import com.simplyrugby.domain.TrainingAttendance;
 import com.simplyrugby.util.EntityNotFoundException;
 import com.simplyrugby.util.ValidationException;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for Training entity operations.
@@ -37,6 +39,17 @@ public interface TrainingService {
      */
     List<Training> getTrainingSessionsBySquad(int squadId);
 
+    /**
+     * Get training sessions for a specific squad within an optional date range, ordered by date
+     *
+     * @param squadId The squad ID
+     * @param startDate The earliest session date to include, or null for no lower bound
+     * @param endDate The latest session date to include, or null for no upper bound
+     * @return List of training sessions for the squad
+     * @throws EntityNotFoundException If the squad doesn't exist
+     */
+    List<Training> getTrainingSessionsBySquad(int squadId, Date startDate, Date endDate);
+
     /**
      * Get training sessions after a specific date
      *
@@ -62,6 +75,35 @@ public interface TrainingService {
      */
     List<Training> getTrainingBetweenDates(Date startDate, Date endDate);
 
+    /**
+     * Get training sessions matching an optional squad and date range, ordered by date and optionally limited
+     *
+     * @param squadId The squad ID, or null for all squads
+     * @param startDate The earliest session date to include, or null for no lower bound
+     * @param endDate The latest session date to include, or null for no upper bound
+     * @param mostRecentFirst True to order from the latest session, false from the earliest
+     * @param limit The maximum number of training sessions to return, or 0 for no limit
+     * @return List of matching training sessions
+     * @throws EntityNotFoundException If a squad ID is given and the squad doesn't exist
+     */
+    List<Training> getTrainingSessions(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit);
+
+    /**
+     * Get training sessions as {@link #getTrainingSessions(Integer, Date, Date, boolean, int)} does,
+     * optionally including sessions from archived seasons
+     *
+     * @param squadId The squad ID, or null for all squads
+     * @param startDate The earliest session date to include, or null for no lower bound
+     * @param endDate The latest session date to include, or null for no upper bound
+     * @param mostRecentFirst True to order from the latest session, false from the earliest
+     * @param limit The maximum number of training sessions to return, or 0 for no limit
+     * @param allSeasons True to also search archived seasons, false for open seasons only
+     * @return List of matching training sessions
+     * @throws EntityNotFoundException If a squad ID is given and the squad doesn't exist
+     */
+    List<Training> getTrainingSessions(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit,
+                                       boolean allSeasons);
+
     /**
      * Add a new training session
      *
@@ -90,6 +132,14 @@ public interface TrainingService {
      */
     boolean deleteTraining(int id);
 
+    /**
+     * Delete several training sessions and their records in one transaction, e.g. when archiving an old season
+     *
+     * @param ids The training session IDs to delete; IDs that don't exist are ignored
+     * @return The number of training sessions deleted
+     */
+    int deleteTrainingSessions(Collection<Integer> ids);
+
     /**
      * Add attendance record for a player
      *
@@ -100,6 +150,18 @@ public interface TrainingService {
      */
     boolean addAttendance(TrainingAttendance attendance);
 
+    /**
+     * Record attendance for several players in one transaction, replacing any
+     * attendance already recorded for the same player and training session.
+     * Every record is validated before anything is written.
+     *
+     * @param attendanceList The attendance records to write
+     * @return The number of records written
+     * @throws ValidationException     If any record is invalid or a player appears twice for the same session
+     * @throws EntityNotFoundException If any player or training session doesn't exist
+     */
+    int recordAttendanceBatch(List<TrainingAttendance> attendanceList);
+
     /**
      * Update attendance record for a player
      *
@@ -110,6 +172,17 @@ public interface TrainingService {
      */
     boolean updateAttendance(TrainingAttendance attendance);
 
+    /**
+     * Record attendance for a player, replacing any attendance already
+     * recorded for that player and training session
+     *
+     * @param attendance The attendance record to write
+     * @return True if the record was written
+     * @throws ValidationException     If the attendance data is invalid
+     * @throws EntityNotFoundException If the player or training session doesn't exist
+     */
+    boolean recordAttendance(TrainingAttendance attendance);
+
     /**
      * Get attendance records for a specific training session
      *
@@ -120,7 +193,7 @@ public interface TrainingService {
     List<TrainingAttendance> getAttendanceRecords(int trainingId);
 
     /**
-     * Get attendance records for a specific player
+     * Get attendance records for a specific player in the open (not yet archived) seasons
      *
      * @param playerId The player ID
      * @return List of attendance records for all training sessions
@@ -128,6 +201,16 @@ public interface TrainingService {
      */
     List<TrainingAttendance> getAttendanceByPlayer(int playerId);
 
+    /**
+     * Get attendance records for a specific player, optionally including archived seasons
+     *
+     * @param playerId The player ID
+     * @param allSeasons True to also include archived seasons, false for open seasons only
+     * @return List of attendance records
+     * @throws EntityNotFoundException If the player doesn't exist
+     */
+    List<TrainingAttendance> getAttendanceByPlayer(int playerId, boolean allSeasons);
+
     /**
      * Get the attendance record for a specific player in a specific training session
      *
@@ -171,7 +254,7 @@ public interface TrainingService {
     double getAttendanceRate(int trainingId);
 
     /**
-     * Get the attendance rate for a specific player across all training sessions
+     * Get the attendance rate for a specific player across the open (not yet archived) seasons
      *
      * @param playerId The player ID
      * @return The attendance rate as a percentage
@@ -179,6 +262,27 @@ public interface TrainingService {
      */
     double getPlayerAttendanceRate(int playerId);
 
+    /**
+     * Get the attendance rate for a specific player, optionally including archived seasons
+     *
+     * @param playerId The player ID
+     * @param allSeasons True to also include archived seasons, false for open seasons only
+     * @return The attendance rate as a percentage
+     * @throws EntityNotFoundException If the player doesn't exist
+     */
+    double getPlayerAttendanceRate(int playerId, boolean allSeasons);
+
+    /**
+     * Count how many of a squad's sessions within an optional date range each player attended
+     *
+     * @param squadId The squad ID
+     * @param startDate The earliest session date to include, or null for no lower bound
+     * @param endDate The latest session date to include, or null for no upper bound
+     * @return Map of player ID to attended session count; players who attended none are absent
+     * @throws EntityNotFoundException If the squad doesn't exist
+     */
+    Map<Integer, Integer> getAttendedCountsBySquad(int squadId, Date startDate, Date endDate);
+
     /**
      * Validate training session data
      *
@@ -69,7 +69,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
 
     @Override
     public boolean updateAnnouncement(Announcement announcement) {
-        if (announcementRepository.findById(announcement.getAnnouncementId()) == null) {
+        if (!announcementRepository.existsById(announcement.getAnnouncementId())) {
             throw new EntityNotFoundException("Announcement not found with ID: " + announcement.getAnnouncementId());
         }
         validateAnnouncement(announcement);
@@ -78,7 +78,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
 
     @Override
     public boolean deleteAnnouncement(int id) {
-        if (announcementRepository.findById(id) == null) {
+        if (!announcementRepository.existsById(id)) {
             throw new EntityNotFoundException("Announcement not found with ID: " + id);
         }
         return announcementRepository.delete(id);
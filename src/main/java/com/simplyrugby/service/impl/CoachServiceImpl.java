@@ -50,7 +50,7 @@ public class CoachServiceImpl implements CoachService {
 
     @Override
     public List<Coach> getCoachesBySquad(int squadId) {
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
         return coachRepository.findBySquad(squadId);
@@ -69,7 +69,7 @@ public class CoachServiceImpl implements CoachService {
 
     @Override
     public boolean updateCoach(Coach coach) {
-        if (coachRepository.findById(coach.getCoachId()) == null) {
+        if (!coachRepository.existsById(coach.getCoachId())) {
             throw new EntityNotFoundException("Coach not found with ID: " + coach.getCoachId());
         }
         validateCoach(coach);
@@ -78,7 +78,7 @@ public class CoachServiceImpl implements CoachService {
 
     @Override
     public boolean deleteCoach(int id) {
-        if (coachRepository.findById(id) == null) {
+        if (!coachRepository.existsById(id)) {
             throw new EntityNotFoundException("Coach not found with ID: " + id);
         }
         return coachRepository.delete(id);
@@ -87,10 +87,10 @@ public class CoachServiceImpl implements CoachService {
     @Override
     public boolean assignCoachToSquad(int coachId, int squadId) {
         // Check if both coach and squad exist
-        if (coachRepository.findById(coachId) == null) {
+        if (!coachRepository.existsById(coachId)) {
             throw new EntityNotFoundException("Coach not found with ID: " + coachId);
         }
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
 
@@ -100,10 +100,10 @@ public class CoachServiceImpl implements CoachService {
     @Override
     public boolean removeCoachFromSquad(int coachId, int squadId) {
         // Check if both coach and squad exist
-        if (coachRepository.findById(coachId) == null) {
+        if (!coachRepository.existsById(coachId)) {
             throw new EntityNotFoundException("Coach not found with ID: " + coachId);
         }
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
 
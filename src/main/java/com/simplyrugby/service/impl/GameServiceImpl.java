@@ -2,6 +2,7 @@ package com.simplyrugby.service.impl;
 
 import com.simplyrugby.domain.Game;
 import com.simplyrugby.domain.GameStats;
+import com.simplyrugby.domain.SquadRecord;
 import com.simplyrugby.repository.GameRepository;
 import com.simplyrugby.repository.PlayerRepository;
 import com.simplyrugby.repository.SquadRepository;
@@ -10,8 +11,13 @@ import com.simplyrugby.util.EntityNotFoundException;
 import com.simplyrugby.util.ValidationException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class GameServiceImpl implements GameService {
     private final GameRepository gameRepository;
@@ -41,7 +47,7 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public List<Game> getGamesBySquad(int squadId) {
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
         return gameRepository.findBySquad(squadId);
@@ -67,6 +73,22 @@ public class GameServiceImpl implements GameService {
         return gameRepository.findGamesBetweenDates(startDate, endDate);
     }
 
+    @Override
+    public List<Game> getGames(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit) {
+        if (squadId != null && !squadRepository.existsById(squadId)) {
+            throw new EntityNotFoundException("Squad not found with ID: " + squadId);
+        }
+        return gameRepository.findGames(squadId, startDate, endDate, mostRecentFirst, limit);
+    }
+
+    @Override
+    public Stream<Game> streamGames(Integer squadId, Date startDate, Date endDate) {
+        if (squadId != null && !squadRepository.existsById(squadId)) {
+            throw new EntityNotFoundException("Squad not found with ID: " + squadId);
+        }
+        return gameRepository.streamGames(squadId, startDate, endDate);
+    }
+
     @Override
     public int addGame(Game game) {
         validateGame(game);
@@ -75,7 +97,7 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public boolean updateGame(Game game) {
-        if (gameRepository.findById(game.getGameId()) == null) {
+        if (!gameRepository.existsById(game.getGameId())) {
             throw new EntityNotFoundException("Game not found with ID: " + game.getGameId());
         }
         validateGame(game);
@@ -84,45 +106,76 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public boolean deleteGame(int id) {
-        if (gameRepository.findById(id) == null) {
+        if (!gameRepository.existsById(id)) {
             throw new EntityNotFoundException("Game not found with ID: " + id);
         }
         return gameRepository.delete(id);
     }
 
+    @Override
+    public int deleteGames(Collection<Integer> ids) {
+        return gameRepository.deleteAll(ids);
+    }
+
     @Override
     public boolean addGameStats(GameStats stats) {
         validateGameStats(stats);
 
         // Check if player and game exist
-        if (playerRepository.findById(stats.getPlayerId()) == null) {
+        if (!playerRepository.existsById(stats.getPlayerId())) {
             throw new EntityNotFoundException("Player not found with ID: " + stats.getPlayerId());
         }
 
-        if (gameRepository.findById(stats.getGameId()) == null) {
+        if (!gameRepository.existsById(stats.getGameId())) {
             throw new EntityNotFoundException("Game not found with ID: " + stats.getGameId());
         }
 
         return gameRepository.addGameStats(stats);
     }
 
+    @Override
+    public boolean[] addGameStatsBatch(List<GameStats> statsList) {
+        validateGameStatsBatch(statsList);
+        return gameRepository.addGameStatsBatch(statsList);
+    }
+
     @Override
     public boolean updateGameStats(GameStats stats) {
         validateGameStats(stats);
 
-        // Check if game stats exist
-        GameStats existingStats = gameRepository.getPlayerGameStats(stats.getGameId(), stats.getPlayerId());
-        if (existingStats == null) {
+        // The update matches on game and player, so no rows means no statistics were recorded
+        if (!gameRepository.updateGameStats(stats)) {
             throw new EntityNotFoundException("Game statistics not found for player ID: " +
                     stats.getPlayerId() + " and game ID: " + stats.getGameId());
         }
 
-        return gameRepository.updateGameStats(stats);
+        return true;
+    }
+
+    @Override
+    public boolean recordGameStats(GameStats stats) {
+        validateGameStats(stats);
+
+        if (gameRepository.upsertGameStats(stats)) {
+            return true;
+        }
+
+        // Nothing was written, so the player or the game is missing; find out which for the message
+        if (!playerRepository.existsById(stats.getPlayerId())) {
+            throw new EntityNotFoundException("Player not found with ID: " + stats.getPlayerId());
+        }
+        throw new EntityNotFoundException("Game not found with ID: " + stats.getGameId());
+    }
+
+    @Override
+    public int recordGameStatsBatch(List<GameStats> statsList) {
+        validateGameStatsBatch(statsList);
+        return gameRepository.upsertGameStatsBatch(statsList);
     }
 
     @Override
     public List<GameStats> getGameStats(int gameId) {
-        if (gameRepository.findById(gameId) == null) {
+        if (!gameRepository.existsById(gameId)) {
             throw new EntityNotFoundException("Game not found with ID: " + gameId);
         }
         return gameRepository.getGameStats(gameId);
@@ -130,19 +183,27 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public List<GameStats> getStatsByPlayer(int playerId) {
-        if (playerRepository.findById(playerId) == null) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
         return gameRepository.getStatsByPlayer(playerId);
     }
 
+    @Override
+    public List<GameStats> getStatsTimelineForPlayer(int playerId) {
+        if (!playerRepository.existsById(playerId)) {
+            throw new EntityNotFoundException("Player not found with ID: " + playerId);
+        }
+        return gameRepository.getStatsTimelineForPlayer(playerId);
+    }
+
     @Override
     public GameStats getPlayerGameStats(int gameId, int playerId) {
-        if (gameRepository.findById(gameId) == null) {
+        if (!gameRepository.existsById(gameId)) {
             throw new EntityNotFoundException("Game not found with ID: " + gameId);
         }
 
-        if (playerRepository.findById(playerId) == null) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
 
@@ -161,13 +222,18 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public int[] getSquadRecord(int squadId) {
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
 
         return gameRepository.getSquadRecord(squadId);
     }
 
+    @Override
+    public Map<Integer, SquadRecord> getSquadRecords() {
+        return gameRepository.getSquadRecords();
+    }
+
     // Helper method to validate game data
     public void validateGame(Game game) {
         List<String> errors = new ArrayList<>();
@@ -253,4 +319,47 @@ public class GameServiceImpl implements GameService {
             throw new ValidationException("Game statistics validation failed", errors);
         }
     }
+
+    // Helper method to validate a batch of game statistics before anything is written
+    private void validateGameStatsBatch(List<GameStats> statsList) {
+        // Validate every row first so a bad row doesn't leave the batch half written
+        List<String> errors = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        Set<Integer> playerIds = new HashSet<>();
+        Set<Integer> gameIds = new HashSet<>();
+
+        for (int i = 0; i < statsList.size(); i++) {
+            GameStats stats = statsList.get(i);
+            try {
+                validateGameStats(stats);
+            } catch (ValidationException e) {
+                for (String error : e.getErrors()) {
+                    errors.add("Row " + (i + 1) + ": " + error);
+                }
+            }
+
+            if (!seen.add(stats.getGameId() + ":" + stats.getPlayerId())) {
+                errors.add("Row " + (i + 1) + ": Duplicate statistics for player ID " + stats.getPlayerId() +
+                        " in game ID " + stats.getGameId());
+            }
+
+            playerIds.add(stats.getPlayerId());
+            gameIds.add(stats.getGameId());
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Game statistics validation failed", errors);
+        }
+
+        // Check all players in one query and each game once
+        if (!playerRepository.existsAll(playerIds)) {
+            throw new EntityNotFoundException("Player not found among IDs: " + playerIds);
+        }
+
+        for (int gameId : gameIds) {
+            if (!gameRepository.existsById(gameId)) {
+                throw new EntityNotFoundException("Game not found with ID: " + gameId);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -44,7 +44,7 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public boolean updateMember(Member member) {
-        if (memberRepository.findById(member.getMemberId()) == null) {
+        if (!memberRepository.existsById(member.getMemberId())) {
             throw new EntityNotFoundException("Member not found with ID: " + member.getMemberId());
         }
         validateMember(member);
@@ -53,7 +53,7 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public boolean deleteMember(int id) {
-        if (memberRepository.findById(id) == null) {
+        if (!memberRepository.existsById(id)) {
             throw new EntityNotFoundException("Member not found with ID: " + id);
         }
         return memberRepository.delete(id);
@@ -2,9 +2,11 @@ package com.simplyrugby.service.impl;
 
 import com.simplyrugby.domain.GameStats;
 import com.simplyrugby.domain.Player;
+import com.simplyrugby.domain.PlayerSkillSummary;
 import com.simplyrugby.domain.TrainingAttendance;
 import com.simplyrugby.repository.GameRepository;
 import com.simplyrugby.repository.PlayerRepository;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
 import com.simplyrugby.repository.SquadRepository;
 import com.simplyrugby.repository.TrainingRepository;
 import com.simplyrugby.service.PlayerService;
@@ -13,6 +15,7 @@ import com.simplyrugby.util.ValidationException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class PlayerServiceImpl implements PlayerService {
     private final PlayerRepository playerRepository;
@@ -30,7 +33,17 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public Player getPlayerById(int id) {
-        Player player = playerRepository.findById(id);
+        return getPlayerById(id, Fetch.FULL);
+    }
+
+    @Override
+    public Player getPlayerById(int id, Fetch fetch) {
+        return getPlayerById(id, fetch, false);
+    }
+
+    @Override
+    public Player getPlayerById(int id, Fetch fetch, boolean allSeasons) {
+        Player player = playerRepository.findById(id, fetch, allSeasons);
         if (player == null) {
             throw new EntityNotFoundException("Player not found with ID: " + id);
         }
@@ -42,6 +55,16 @@ public class PlayerServiceImpl implements PlayerService {
         return playerRepository.findAll();
     }
 
+    @Override
+    public List<Player> getAllPlayers(Fetch fetch) {
+        return playerRepository.findAll(fetch);
+    }
+
+    @Override
+    public Stream<Player> streamAllPlayers(Fetch fetch) {
+        return playerRepository.streamAll(fetch);
+    }
+
     @Override
     public List<Player> getPlayersByName(String name) {
         return playerRepository.findByName(name);
@@ -49,10 +72,15 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public List<Player> getPlayersBySquad(int squadId) {
-        if (squadRepository.findById(squadId) == null) {
+        return getPlayersBySquad(squadId, Fetch.FULL);
+    }
+
+    @Override
+    public List<Player> getPlayersBySquad(int squadId, Fetch fetch) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
-        return playerRepository.findBySquad(squadId);
+        return playerRepository.findBySquad(squadId, fetch);
     }
 
     @Override
@@ -73,7 +101,7 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public boolean updatePlayer(Player player) {
-        if (playerRepository.findById(player.getPlayerId()) == null) {
+        if (!playerRepository.existsById(player.getPlayerId())) {
             throw new EntityNotFoundException("Player not found with ID: " + player.getPlayerId());
         }
         validatePlayer(player);
@@ -82,7 +110,7 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public boolean deletePlayer(int id) {
-        if (playerRepository.findById(id) == null) {
+        if (!playerRepository.existsById(id)) {
             throw new EntityNotFoundException("Player not found with ID: " + id);
         }
         return playerRepository.delete(id);
@@ -91,10 +119,10 @@ public class PlayerServiceImpl implements PlayerService {
     @Override
     public boolean assignPlayerToSquad(int playerId, int squadId) {
         // Check if both player and squad exist
-        if (playerRepository.findById(playerId) == null) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
 
@@ -103,7 +131,7 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public boolean removePlayerFromSquad(int playerId) {
-        if (playerRepository.findById(playerId) == null) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
 
@@ -113,12 +141,12 @@ public class PlayerServiceImpl implements PlayerService {
     @Override
     public boolean setEmergencyContact(int playerId, int emergencyContactId) {
         // Check if both player and emergency contact exist
-        if (playerRepository.findById(playerId) == null) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
 
         // Members are stored in a different table, so get the repository through our player repository
-        if (playerRepository.findById(emergencyContactId) == null) {
+        if (!playerRepository.existsById(emergencyContactId)) {
             throw new EntityNotFoundException("Emergency contact not found with ID: " + emergencyContactId);
         }
 
@@ -127,7 +155,7 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public List<Player> getPlayersWithStatsByGame(int gameId) {
-        if (gameRepository.findById(gameId) == null) {
+        if (!gameRepository.existsById(gameId)) {
             throw new EntityNotFoundException("Game not found with ID: " + gameId);
         }
 
@@ -136,7 +164,7 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public List<Player> getPlayersWithAttendanceByTraining(int trainingId) {
-        if (trainingRepository.findById(trainingId) == null) {
+        if (!trainingRepository.existsById(trainingId)) {
             throw new EntityNotFoundException("Training session not found with ID: " + trainingId);
         }
 
@@ -145,26 +173,52 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public List<GameStats> getPlayerGameStats(int playerId) {
-        Player player = getPlayerById(playerId);
+        Player player = getPlayerById(playerId, Fetch.STATS);
         return player.getPlayerStats();
     }
 
     @Override
     public List<TrainingAttendance> getPlayerTrainingAttendance(int playerId) {
-        Player player = getPlayerById(playerId);
+        Player player = getPlayerById(playerId, Fetch.ATTENDANCE);
         return player.getTrainingAttendance();
     }
 
     @Override
     public double calculateOverallSkillRating(int playerId) {
-        Player player = getPlayerById(playerId);
-        return player.calculateOverallSkillRating();
+        // Read from the season totals rather than loading every game the player has played
+        return getSkillSummary(playerId).getAverageRating();
     }
 
     @Override
     public double calculateTrainingAttendanceRate(int playerId) {
-        Player player = getPlayerById(playerId);
-        return player.calculateTrainingAttendanceRate();
+        return getSkillSummary(playerId).getAttendanceRate();
+    }
+
+    @Override
+    public PlayerSkillSummary getSkillSummary(int playerId) {
+        return getSkillSummary(playerId, false);
+    }
+
+    @Override
+    public PlayerSkillSummary getSkillSummary(int playerId, boolean allSeasons) {
+        PlayerSkillSummary summary = playerRepository.findSkillSummary(playerId, allSeasons);
+        if (summary == null) {
+            throw new EntityNotFoundException("Player not found with ID: " + playerId);
+        }
+        return summary;
+    }
+
+    @Override
+    public List<PlayerSkillSummary> getSkillSummariesBySquad(int squadId) {
+        if (!squadRepository.existsById(squadId)) {
+            throw new EntityNotFoundException("Squad not found with ID: " + squadId);
+        }
+        return playerRepository.findSkillSummariesBySquad(squadId);
+    }
+
+    @Override
+    public List<PlayerSkillSummary> getAllSkillSummaries() {
+        return playerRepository.findAllSkillSummaries();
     }
 
     @Override
@@ -1,9 +1,12 @@
 package com.simplyrugby.service.impl;
 
 import com.simplyrugby.domain.Game;
+import com.simplyrugby.domain.GameStats;
 import com.simplyrugby.domain.Player;
+import com.simplyrugby.domain.PlayerSkillSummary;
 import com.simplyrugby.domain.Report;
 import com.simplyrugby.domain.Squad;
+import com.simplyrugby.domain.SquadRecord;
 import com.simplyrugby.domain.Training;
 import com.simplyrugby.repository.ReportRepository;
 import com.simplyrugby.service.GameService;
@@ -15,11 +18,18 @@ import com.simplyrugby.util.DateUtil;
 import com.simplyrugby.util.DependencyManager;
 import com.simplyrugby.util.EntityNotFoundException;
 import com.simplyrugby.util.ValidationException;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class ReportServiceImpl implements ReportService {
     private final ReportRepository reportRepository;
@@ -75,7 +85,7 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public boolean updateReport(Report report) {
-        if (reportRepository.findById(report.getReportId()) == null) {
+        if (!reportRepository.existsById(report.getReportId())) {
             throw new EntityNotFoundException("Report not found with ID: " + report.getReportId());
         }
         validateReport(report);
@@ -84,7 +94,7 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public boolean deleteReport(int id) {
-        if (reportRepository.findById(id) == null) {
+        if (!reportRepository.existsById(id)) {
             throw new EntityNotFoundException("Report not found with ID: " + id);
         }
         return reportRepository.delete(id);
@@ -111,29 +121,29 @@ public class ReportServiceImpl implements ReportService {
                 Squad squad = squadService.getSquadById(squadId);
                 report.append("Squad: ").append(squad.getSquadName()).append(" (").append(squad.getAgeGrade()).append(")\n\n");
 
-                // Get all players in the squad
-                List<Player> players = playerService.getPlayersBySquad(squadId);
-
-                // Get all training sessions for the squad
-                List<Training> trainings = trainingService.getTrainingSessionsBySquad(squadId);
-
-                // If date range is provided, filter training sessions
+                // If date range is provided, parse it so the filter runs in the database
+                Date startDate = null;
+                Date endDate = null;
                 if (dateRange != null) {
                     // Parse date range
                     String[] dates = dateRange.split("-");
                     if (dates.length == 2) {
                         try {
-                            Date startDate = sdf.parse(dates[0]);
-                            Date endDate = sdf.parse(dates[1]);
-                            trainings.removeIf(t -> t.getDate().before(startDate) || t.getDate().after(endDate));
+                            startDate = sdf.parse(dates[0]);
+                            endDate = sdf.parse(dates[1]);
 
                             report.append("Date Range: ").append(sdf.format(startDate)).append(" to ").append(sdf.format(endDate)).append("\n\n");
                         } catch (Exception e) {
+                            startDate = null;
+                            endDate = null;
                             report.append("Invalid date range format. Should be DD/MM/YYYY-DD/MM/YYYY\n\n");
                         }
                     }
                 }
 
+                // Get the squad's training sessions in range
+                List<Training> trainings = trainingService.getTrainingSessionsBySquad(squadId, startDate, endDate);
+
                 // Training session summary
                 report.append("Training Sessions: ").append(trainings.size()).append("\n\n");
 
@@ -151,26 +161,21 @@ public class ReportServiceImpl implements ReportService {
                     }
                     report.append("\n");
 
-                    // Player attendance summary
+                    // Player attendance summary: overall rates and in-range counts come from grouped queries
+                    List<PlayerSkillSummary> players = playerService.getSkillSummariesBySquad(squadId);
+                    Map<Integer, Integer> attendedCounts = trainingService.getAttendedCountsBySquad(squadId, startDate, endDate);
+
                     report.append("Player Attendance Summary:\n");
                     report.append(String.format("%-20s %-15s %-15s\n", "Player", "Attendance", "Rate"));
                     report.append("-".repeat(55)).append("\n");
 
-                    for (Player player : players) {
-                        double attendanceRate = trainingService.getPlayerAttendanceRate(player.getPlayerId());
-                        List<Training> attendedTrainings = new ArrayList<>();
-
-                        for (Training training : trainings) {
-                            if (training.getPlayerAttendance(player.getPlayerId()) != null &&
-                                    training.getPlayerAttendance(player.getPlayerId()).isPresent()) {
-                                attendedTrainings.add(training);
-                            }
-                        }
+                    for (PlayerSkillSummary player : players) {
+                        int attended = attendedCounts.getOrDefault(player.getPlayerId(), 0);
 
                         report.append(String.format("%-20s %-15s %.1f%%\n",
-                                player.getFirstName() + " " + player.getLastName(),
-                                attendedTrainings.size() + "/" + trainings.size(),
-                                attendanceRate));
+                                player.getFullName(),
+                                attended + "/" + trainings.size(),
+                                player.getAttendanceRate()));
                     }
                 } else {
                     report.append("No training sessions found for the specified criteria.\n");
@@ -186,7 +191,7 @@ public class ReportServiceImpl implements ReportService {
                     report.append("Squad: ").append(squad.getSquadName()).append(" (").append(squad.getAgeGrade()).append(")\n");
 
                     // Get training sessions for this squad
-                    List<Training> squadTrainings = trainingService.getTrainingSessionsBySquad(squad.getSquadId());
+                    List<Training> squadTrainings = trainingService.getTrainingSessionsBySquad(squad.getSquadId(), null, null);
 
                     if (!squadTrainings.isEmpty()) {
                         // Calculate average attendance rate
@@ -228,7 +233,7 @@ public class ReportServiceImpl implements ReportService {
 
             if (playerId != null) {
                 // Individual player report
-                Player player = playerService.getPlayerById(playerId);
+                Player player = playerService.getPlayerById(playerId, Fetch.SUMMARY);
                 report.append("Player: ").append(player.getFirstName()).append(" ").append(player.getLastName()).append("\n");
                 report.append("Position: ").append(player.getPosition()).append("\n");
                 if (player.getSquad() != null) {
@@ -236,8 +241,8 @@ public class ReportServiceImpl implements ReportService {
                 }
                 report.append("\n");
 
-                // Get player game stats
-                List<com.simplyrugby.domain.GameStats> gameStats = playerService.getPlayerGameStats(playerId);
+                // Get player game stats with their game dates
+                List<GameStats> gameStats = gameService.getStatsTimelineForPlayer(playerId);
 
                 if (!gameStats.isEmpty()) {
                     report.append("Game Statistics:\n");
@@ -245,16 +250,14 @@ public class ReportServiceImpl implements ReportService {
                             "Game", "Date", "Tackles", "Passes", "Tries", "Kicks", "Overall"));
                     report.append("-".repeat(75)).append("\n");
 
-                    for (com.simplyrugby.domain.GameStats stats : gameStats) {
+                    for (GameStats stats : gameStats) {
                         if (!stats.isAttended()) {
                             continue; // Skip games not attended
                         }
 
-                        Game game = gameService.getGameById(stats.getGameId());
-
                         report.append(String.format("%-4d %-12s %-10d %-10d %-10d %-10d %-10d\n",
-                                game.getGameId(),
-                                sdf.format(game.getDate()),
+                                stats.getGameId(),
+                                sdf.format(stats.getGameDate()),
                                 stats.getTackles(),
                                 stats.getPasses(),
                                 stats.getTries(),
@@ -262,23 +265,18 @@ public class ReportServiceImpl implements ReportService {
                                 stats.getOverallRating()));
                     }
 
-                    // Calculate averages
-                    double avgTackles = gameStats.stream().filter(com.simplyrugby.domain.GameStats::isAttended).mapToInt(com.simplyrugby.domain.GameStats::getTackles).average().orElse(0);
-                    double avgPasses = gameStats.stream().filter(com.simplyrugby.domain.GameStats::isAttended).mapToInt(com.simplyrugby.domain.GameStats::getPasses).average().orElse(0);
-                    double avgTries = gameStats.stream().filter(com.simplyrugby.domain.GameStats::isAttended).mapToInt(com.simplyrugby.domain.GameStats::getTries).average().orElse(0);
-                    double avgKicks = gameStats.stream().filter(com.simplyrugby.domain.GameStats::isAttended).mapToInt(com.simplyrugby.domain.GameStats::getKicks).average().orElse(0);
-                    double overallRating = player.calculateOverallSkillRating();
+                    // Averages and attendance are aggregated in the database
+                    PlayerSkillSummary summary = playerService.getSkillSummary(playerId);
 
                     report.append("\nAverage Ratings:\n");
-                    report.append(String.format("Tackles: %.1f\n", avgTackles));
-                    report.append(String.format("Passes: %.1f\n", avgPasses));
-                    report.append(String.format("Tries: %.1f\n", avgTries));
-                    report.append(String.format("Kicks: %.1f\n", avgKicks));
-                    report.append(String.format("Overall: %.1f\n", overallRating));
+                    report.append(String.format("Tackles: %.1f\n", summary.getAverageTackles()));
+                    report.append(String.format("Passes: %.1f\n", summary.getAveragePasses()));
+                    report.append(String.format("Tries: %.1f\n", summary.getAverageTries()));
+                    report.append(String.format("Kicks: %.1f\n", summary.getAverageKicks()));
+                    report.append(String.format("Overall: %.1f\n", summary.getAverageRating()));
 
                     // Training attendance
-                    double attendanceRate = playerService.calculateTrainingAttendanceRate(playerId);
-                    report.append("\nTraining Attendance Rate: ").append(String.format("%.1f%%", attendanceRate)).append("\n");
+                    report.append("\nTraining Attendance Rate: ").append(String.format("%.1f%%", summary.getAttendanceRate())).append("\n");
                 } else {
                     report.append("No game statistics recorded for this player.\n");
                 }
@@ -287,39 +285,29 @@ public class ReportServiceImpl implements ReportService {
                 Squad squad = squadService.getSquadById(squadId);
                 report.append("Squad: ").append(squad.getSquadName()).append(" (").append(squad.getAgeGrade()).append(")\n\n");
 
-                // Get all players in the squad
-                List<Player> players = playerService.getPlayersBySquad(squadId);
+                // Get per-player averages for the squad in one aggregate query
+                List<PlayerSkillSummary> summaries = playerService.getSkillSummariesBySquad(squadId);
 
-                if (!players.isEmpty()) {
+                if (!summaries.isEmpty()) {
                     report.append("Player Skills Summary:\n");
                     report.append(String.format("%-20s %-10s %-10s %-10s %-10s %-10s %-15s\n",
                             "Player", "Tackles", "Passes", "Tries", "Kicks", "Overall", "Attendance"));
                     report.append("-".repeat(90)).append("\n");
 
-                    for (Player player : players) {
-                        double overallRating = player.calculateOverallSkillRating();
-                        double attendanceRate = playerService.calculateTrainingAttendanceRate(player.getPlayerId());
-
-                        // Calculate skill averages
-                        List<com.simplyrugby.domain.GameStats> playerStats = playerService.getPlayerGameStats(player.getPlayerId());
-                        double avgTackles = playerStats.stream().filter(com.simplyrugby.domain.GameStats::isAttended).mapToInt(com.simplyrugby.domain.GameStats::getTackles).average().orElse(0);
-                        double avgPasses = playerStats.stream().filter(com.simplyrugby.domain.GameStats::isAttended).mapToInt(com.simplyrugby.domain.GameStats::getPasses).average().orElse(0);
-                        double avgTries = playerStats.stream().filter(com.simplyrugby.domain.GameStats::isAttended).mapToInt(com.simplyrugby.domain.GameStats::getTries).average().orElse(0);
-                        double avgKicks = playerStats.stream().filter(com.simplyrugby.domain.GameStats::isAttended).mapToInt(com.simplyrugby.domain.GameStats::getKicks).average().orElse(0);
-
+                    for (PlayerSkillSummary summary : summaries) {
                         report.append(String.format("%-20s %-10.1f %-10.1f %-10.1f %-10.1f %-10.1f %-15.1f%%\n",
-                                player.getFirstName() + " " + player.getLastName(),
-                                avgTackles,
-                                avgPasses,
-                                avgTries,
-                                avgKicks,
-                                overallRating,
-                                attendanceRate));
+                                summary.getFullName(),
+                                summary.getAverageTackles(),
+                                summary.getAveragePasses(),
+                                summary.getAverageTries(),
+                                summary.getAverageKicks(),
+                                summary.getAverageRating(),
+                                summary.getAttendanceRate()));
                     }
 
                     // Squad averages
-                    double squadAvgRating = players.stream().mapToDouble(Player::calculateOverallSkillRating).average().orElse(0);
-                    double squadAvgAttendance = players.stream().mapToDouble(p -> playerService.calculateTrainingAttendanceRate(p.getPlayerId())).average().orElse(0);
+                    double squadAvgRating = summaries.stream().mapToDouble(PlayerSkillSummary::getAverageRating).average().orElse(0);
+                    double squadAvgAttendance = summaries.stream().mapToDouble(PlayerSkillSummary::getAttendanceRate).average().orElse(0);
 
                     report.append("\nSquad Averages:\n");
                     report.append(String.format("Overall Rating: %.1f\n", squadAvgRating));
@@ -331,19 +319,22 @@ public class ReportServiceImpl implements ReportService {
                 // General skills report across all squads
                 report.append("Overall Skills Report\n\n");
 
-                // Get all squads
+                // Get all squads and every player's averages, then group the players by squad
                 List<Squad> squads = squadService.getAllSquads();
+                Map<Integer, List<PlayerSkillSummary>> summariesBySquad = new HashMap<>();
+                for (PlayerSkillSummary summary : playerService.getAllSkillSummaries()) {
+                    summariesBySquad.computeIfAbsent(summary.getSquadId(), k -> new ArrayList<>()).add(summary);
+                }
 
                 for (Squad squad : squads) {
                     report.append("Squad: ").append(squad.getSquadName()).append(" (").append(squad.getAgeGrade()).append(")\n");
 
-                    // Get players in this squad
-                    List<Player> squadPlayers = playerService.getPlayersBySquad(squad.getSquadId());
+                    List<PlayerSkillSummary> squadPlayers = summariesBySquad.getOrDefault(squad.getSquadId(), new ArrayList<>());
 
                     if (!squadPlayers.isEmpty()) {
                         // Calculate squad averages
-                        double squadAvgRating = squadPlayers.stream().mapToDouble(Player::calculateOverallSkillRating).average().orElse(0);
-                        double squadAvgAttendance = squadPlayers.stream().mapToDouble(p -> playerService.calculateTrainingAttendanceRate(p.getPlayerId())).average().orElse(0);
+                        double squadAvgRating = squadPlayers.stream().mapToDouble(PlayerSkillSummary::getAverageRating).average().orElse(0);
+                        double squadAvgAttendance = squadPlayers.stream().mapToDouble(PlayerSkillSummary::getAttendanceRate).average().orElse(0);
 
                         report.append(String.format("Players: %d\n", squadPlayers.size()));
                         report.append(String.format("Average Rating: %.1f\n", squadAvgRating));
@@ -375,57 +366,69 @@ public class ReportServiceImpl implements ReportService {
             Date currentDate = new Date();
             report.append("Generated on: ").append(sdf.format(currentDate)).append("\n\n");
 
-            List<Game> games;
-
             // If squadId is provided, include squad details
             if (squadId != null) {
                 Squad squad = squadService.getSquadById(squadId);
                 report.append("Squad: ").append(squad.getSquadName()).append(" (").append(squad.getAgeGrade()).append(")\n\n");
-
-                // Get games for this squad
-                games = gameService.getGamesBySquad(squadId);
             } else {
                 report.append("All Games\n\n");
-                games = gameService.getAllGames();
             }
 
-            // If date range is provided, filter games
+            // If date range is provided, parse it so the filter runs in the database
+            Date startDate = null;
+            Date endDate = null;
             if (dateRange != null) {
                 // Parse date range
                 String[] dates = dateRange.split("-");
                 if (dates.length == 2) {
                     try {
-                        Date startDate = sdf.parse(dates[0]);
-                        Date endDate = sdf.parse(dates[1]);
-                        games.removeIf(g -> g.getDate().before(startDate) || g.getDate().after(endDate));
+                        startDate = sdf.parse(dates[0]);
+                        endDate = sdf.parse(dates[1]);
 
                         report.append("Date Range: ").append(sdf.format(startDate)).append(" to ").append(sdf.format(endDate)).append("\n\n");
                     } catch (Exception e) {
+                        startDate = null;
+                        endDate = null;
                         report.append("Invalid date range format. Should be DD/MM/YYYY-DD/MM/YYYY\n\n");
                     }
                 }
             }
 
-            // Game summary
-            report.append("Games: ").append(games.size()).append("\n\n");
-
-            if (!games.isEmpty()) {
-                // Table header for games
-                report.append(String.format("%-4s %-12s %-20s %-10s %-20s %-15s\n",
-                        "ID", "Date", "Opponent", "Score", "Venue", "Attendance"));
-                report.append("-".repeat(85)).append("\n");
-
-                for (Game game : games) {
-                    String squadName = game.getSquad() != null ? game.getSquad().getSquadName() : "Unassigned";
-
-                    report.append(String.format("%-4d %-12s %-20s %-10s %-20s %.1f%%\n",
+            // Stream the games for the squad (or all squads) in range, earliest first, so only the
+            // game being written and the last few for the trend are held; the count goes above the table
+            StringBuilder gameRows = new StringBuilder();
+            int gameCount = 0;
+            Deque<Game> recentGames = new ArrayDeque<>();
+            try (Stream<Game> games = gameService.streamGames(squadId, startDate, endDate)) {
+                Iterator<Game> iterator = games.iterator();
+                while (iterator.hasNext()) {
+                    Game game = iterator.next();
+                    gameCount++;
+
+                    gameRows.append(String.format("%-4d %-12s %-20s %-10s %-20s %.1f%%\n",
                             game.getGameId(),
                             sdf.format(game.getDate()),
                             game.getOpponent(),
                             game.getFinalScore() != null ? game.getFinalScore() : "N/A",
                             game.getVenue(),
                             game.getAttendanceRate()));
+
+                    recentGames.addLast(game);
+                    if (recentGames.size() > 5) {
+                        recentGames.removeFirst();
+                    }
                 }
+            }
+
+            // Game summary
+            report.append("Games: ").append(gameCount).append("\n\n");
+
+            if (gameCount > 0) {
+                // Table header for games
+                report.append(String.format("%-4s %-12s %-20s %-10s %-20s %-15s\n",
+                        "ID", "Date", "Opponent", "Score", "Venue", "Attendance"));
+                report.append("-".repeat(85)).append("\n");
+                report.append(gameRows);
 
                 // Calculate win/loss/draw statistics
                 if (squadId != null) {
@@ -433,7 +436,7 @@ public class ReportServiceImpl implements ReportService {
                     int wins = record[0];
                     int losses = record[1];
                     int draws = record[2];
-                    int total = games.size();
+                    int total = gameCount;
 
                     report.append("\nResults Summary:\n");
                     report.append(String.format("Wins: %d (%.1f%%)\n", wins, (double) wins / total * 100));
@@ -443,13 +446,11 @@ public class ReportServiceImpl implements ReportService {
                     // Show performance trend (simplified)
                     report.append("\nPerformance Trend (last 5 games):\n");
 
-                    // Sort games by date (most recent first)
-                    games.sort((g1, g2) -> g2.getDate().compareTo(g1.getDate()));
+                    // The last 5 games streamed, most recent first
+                    String squadName = squadService.getSquadById(squadId).getSquadName();
 
-                    // Take the last 5 games
-                    List<Game> recentGames = games.stream().limit(5).toList();
-
-                    for (Game game : recentGames) {
+                    for (Iterator<Game> recent = recentGames.descendingIterator(); recent.hasNext(); ) {
+                        Game game = recent.next();
                         String result;
                         if (game.isWin()) {
                             result = "W";
@@ -462,7 +463,7 @@ public class ReportServiceImpl implements ReportService {
                         }
 
                         report.append(String.format("%s vs. %s: %s (%s)\n",
-                                squadId != null ? squadService.getSquadById(squadId).getSquadName() : "Our Team",
+                                squadName,
                                 game.getOpponent(),
                                 game.getFinalScore() != null ? game.getFinalScore() : "N/A",
                                 result));
@@ -471,23 +472,20 @@ public class ReportServiceImpl implements ReportService {
                     // Summary for all squads
                     report.append("\nResults by Squad:\n");
 
+                    // One grouped query for every squad's record instead of loading each squad's games
+                    Map<Integer, SquadRecord> records = gameService.getSquadRecords();
                     List<Squad> squads = squadService.getAllSquads();
                     for (Squad squad : squads) {
-                        List<Game> squadGames = gameService.getGamesBySquad(squad.getSquadId());
-
-                        if (!squadGames.isEmpty()) {
-                            int[] record = gameService.getSquadRecord(squad.getSquadId());
-                            int wins = record[0];
-                            int losses = record[1];
-                            int draws = record[2];
+                        SquadRecord record = records.get(squad.getSquadId());
 
+                        if (record != null) {
                             report.append(String.format("%s (%s): %d games, %d wins, %d losses, %d draws\n",
                                     squad.getSquadName(),
                                     squad.getAgeGrade(),
-                                    squadGames.size(),
-                                    wins,
-                                    losses,
-                                    draws));
+                                    record.getGamesPlayed(),
+                                    record.getWins(),
+                                    record.getLosses(),
+                                    record.getDraws()));
                         }
                     }
                 }
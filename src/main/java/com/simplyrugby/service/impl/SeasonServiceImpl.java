@@ -0,0 +1,99 @@
+package com.simplyrugby.service.impl;
+
+import com.simplyrugby.domain.Season;
+import com.simplyrugby.repository.SeasonRepository;
+import com.simplyrugby.service.SeasonService;
+import com.simplyrugby.util.DateUtil;
+import com.simplyrugby.util.EntityNotFoundException;
+import com.simplyrugby.util.ValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SeasonServiceImpl implements SeasonService {
+    private final SeasonRepository seasonRepository;
+
+    public SeasonServiceImpl(SeasonRepository seasonRepository) {
+        this.seasonRepository = seasonRepository;
+    }
+
+    @Override
+    public Season getSeasonById(int id) {
+        Season season = seasonRepository.findById(id);
+        if (season == null) {
+            throw new EntityNotFoundException("Season not found with ID: " + id);
+        }
+        return season;
+    }
+
+    @Override
+    public List<Season> getAllSeasons() {
+        return seasonRepository.findAll();
+    }
+
+    @Override
+    public Season getCurrentSeason() {
+        return seasonRepository.findByDate(DateUtil.getCurrentDate());
+    }
+
+    @Override
+    public int addSeason(Season season) {
+        validateSeason(season);
+        return seasonRepository.save(season);
+    }
+
+    @Override
+    public boolean archiveSeason(int id) {
+        Season season = getSeasonById(id);
+
+        List<String> errors = new ArrayList<>();
+        if (season.isArchived()) {
+            errors.add("Season " + season.getName() + " is already archived");
+        } else if (!DateUtil.isPastDate(DateUtil.addDays(season.getEndDate(), 1))) {
+            // A season is still open on its last day
+            errors.add("Season " + season.getName() + " hasn't ended yet");
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Season cannot be archived", errors);
+        }
+
+        return seasonRepository.archive(id);
+    }
+
+    @Override
+    public void validateSeason(Season season) {
+        List<String> errors = new ArrayList<>();
+
+        // Validate name
+        if (season.getName() == null || season.getName().trim().isEmpty()) {
+            errors.add("Season name is required");
+        } else if (!season.getName().matches("[a-zA-Z0-9 /-]{1,20}")) {
+            errors.add("Season name must contain only letters, numbers, spaces, '/' and '-', and be 20 characters or less");
+        }
+
+        // Validate dates
+        if (season.getStartDate() == null) {
+            errors.add("Start date is required");
+        }
+        if (season.getEndDate() == null) {
+            errors.add("End date is required");
+        }
+        if (season.getStartDate() != null && season.getEndDate() != null) {
+            if (!season.getEndDate().after(season.getStartDate())) {
+                errors.add("End date must be after the start date");
+            } else {
+                // Archiving selects a season's games by date, so seasons must not share days
+                for (Season existing : seasonRepository.findAll()) {
+                    if (existing.getSeasonId() != season.getSeasonId() && existing.overlaps(season)) {
+                        errors.add("Season overlaps existing season " + existing.getName());
+                    }
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Season validation failed", errors);
+        }
+    }
+}
@@ -3,12 +3,14 @@ package com.simplyrugby.service.impl;
 import com.simplyrugby.domain.Coach;
 import com.simplyrugby.domain.Player;
 import com.simplyrugby.domain.Squad;
+import com.simplyrugby.domain.SquadDashboard;
 import com.simplyrugby.repository.CoachRepository;
 import com.simplyrugby.repository.PlayerRepository;
 import com.simplyrugby.repository.SquadRepository;
 import com.simplyrugby.service.SquadService;
 import com.simplyrugby.util.EntityNotFoundException;
 import com.simplyrugby.util.ValidationException;
+import com.simplyrugby.repository.PlayerRepository.Fetch;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -51,7 +53,7 @@ public class SquadServiceImpl implements SquadService {
 
     @Override
     public List<Squad> getSquadsByCoach(int coachId) {
-        if (coachRepository.findById(coachId) == null) {
+        if (!coachRepository.existsById(coachId)) {
             throw new EntityNotFoundException("Coach not found with ID: " + coachId);
         }
         return squadRepository.findByCoach(coachId);
@@ -59,7 +61,7 @@ public class SquadServiceImpl implements SquadService {
 
     @Override
     public Squad getSquadByPlayer(int playerId) {
-        if (playerRepository.findById(playerId) == null) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
 
@@ -79,7 +81,7 @@ public class SquadServiceImpl implements SquadService {
 
     @Override
     public boolean updateSquad(Squad squad) {
-        if (squadRepository.findById(squad.getSquadId()) == null) {
+        if (!squadRepository.existsById(squad.getSquadId())) {
             throw new EntityNotFoundException("Squad not found with ID: " + squad.getSquadId());
         }
         validateSquad(squad);
@@ -88,7 +90,7 @@ public class SquadServiceImpl implements SquadService {
 
     @Override
     public boolean deleteSquad(int id) {
-        if (squadRepository.findById(id) == null) {
+        if (!squadRepository.existsById(id)) {
             throw new EntityNotFoundException("Squad not found with ID: " + id);
         }
         return squadRepository.delete(id);
@@ -97,10 +99,10 @@ public class SquadServiceImpl implements SquadService {
     @Override
     public boolean addPlayer(int squadId, int playerId) {
         // Check if squad and player exist
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
-        if (playerRepository.findById(playerId) == null) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
 
@@ -110,10 +112,10 @@ public class SquadServiceImpl implements SquadService {
     @Override
     public boolean removePlayer(int squadId, int playerId) {
         // Check if squad and player exist
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
-        if (playerRepository.findById(playerId) == null) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
 
@@ -123,10 +125,10 @@ public class SquadServiceImpl implements SquadService {
     @Override
     public boolean addCoach(int squadId, int coachId) {
         // Check if squad and coach exist
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
-        if (coachRepository.findById(coachId) == null) {
+        if (!coachRepository.existsById(coachId)) {
             throw new EntityNotFoundException("Coach not found with ID: " + coachId);
         }
 
@@ -136,10 +138,10 @@ public class SquadServiceImpl implements SquadService {
     @Override
     public boolean removeCoach(int squadId, int coachId) {
         // Check if squad and coach exist
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
-        if (coachRepository.findById(coachId) == null) {
+        if (!coachRepository.existsById(coachId)) {
             throw new EntityNotFoundException("Coach not found with ID: " + coachId);
         }
 
@@ -148,16 +150,16 @@ public class SquadServiceImpl implements SquadService {
 
     @Override
     public List<Player> getPlayers(int squadId) {
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
 
-        return playerRepository.findBySquad(squadId);
+        return playerRepository.findBySquad(squadId, Fetch.SUMMARY);
     }
 
     @Override
     public List<Coach> getCoaches(int squadId) {
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
 
@@ -166,7 +168,7 @@ public class SquadServiceImpl implements SquadService {
 
     @Override
     public int getPlayerCount(int squadId) {
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
 
@@ -175,7 +177,7 @@ public class SquadServiceImpl implements SquadService {
 
     @Override
     public int getCoachCount(int squadId) {
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
 
@@ -188,13 +190,26 @@ public class SquadServiceImpl implements SquadService {
 
         int coachCount = getCoachCount(squadId);
 
-        // Mini and midi teams need at least 2 coaches
-        if (squad.getAgeGrade().startsWith("U") && !squad.getAgeGrade().equals("U18")) {
-            return coachCount >= 2;
+        return meetsCoachMinimum(squad.getAgeGrade(), coachCount);
+    }
+
+    @Override
+    public boolean hasMinimumCoaches(SquadDashboard dashboard) {
+        return meetsCoachMinimum(dashboard.getAgeGrade(), dashboard.getCoachCount());
+    }
+
+    @Override
+    public SquadDashboard getSquadDashboard(int squadId) {
+        SquadDashboard dashboard = squadRepository.findDashboard(squadId);
+        if (dashboard == null) {
+            throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
+        return dashboard;
+    }
 
-        // Senior teams need at least 3 coaches
-        return coachCount >= 3;
+    @Override
+    public List<SquadDashboard> getAllSquadDashboards() {
+        return squadRepository.findAllDashboards();
     }
 
     @Override
@@ -219,4 +234,15 @@ public class SquadServiceImpl implements SquadService {
             throw new ValidationException("Squad validation failed", errors);
         }
     }
-}
\ No newline at end of file
+
+    // Helper method to apply the coaching minimum for an age grade
+    private static boolean meetsCoachMinimum(String ageGrade, int coachCount) {
+        // Mini and midi teams need at least 2 coaches
+        if (ageGrade.startsWith("U") && !ageGrade.equals("U18")) {
+            return coachCount >= 2;
+        }
+
+        // Senior teams need at least 3 coaches
+        return coachCount >= 3;
+    }
+}
@@ -10,8 +10,12 @@ import com.simplyrugby.util.EntityNotFoundException;
 import com.simplyrugby.util.ValidationException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class TrainingServiceImpl implements TrainingService {
     private final TrainingRepository trainingRepository;
@@ -41,12 +45,20 @@ public class TrainingServiceImpl implements TrainingService {
 
     @Override
     public List<Training> getTrainingSessionsBySquad(int squadId) {
-        if (squadRepository.findById(squadId) == null) {
+        if (!squadRepository.existsById(squadId)) {
             throw new EntityNotFoundException("Squad not found with ID: " + squadId);
         }
         return trainingRepository.findBySquad(squadId);
     }
 
+    @Override
+    public List<Training> getTrainingSessionsBySquad(int squadId, Date startDate, Date endDate) {
+        if (!squadRepository.existsById(squadId)) {
+            throw new EntityNotFoundException("Squad not found with ID: " + squadId);
+        }
+        return trainingRepository.findBySquadBetweenDates(squadId, startDate, endDate);
+    }
+
     @Override
     public List<Training> getTrainingAfterDate(Date date) {
         return trainingRepository.findTrainingAfterDate(date);
@@ -62,6 +74,20 @@ public class TrainingServiceImpl implements TrainingService {
         return trainingRepository.findTrainingBetweenDates(startDate, endDate);
     }
 
+    @Override
+    public List<Training> getTrainingSessions(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit) {
+        return getTrainingSessions(squadId, startDate, endDate, mostRecentFirst, limit, false);
+    }
+
+    @Override
+    public List<Training> getTrainingSessions(Integer squadId, Date startDate, Date endDate, boolean mostRecentFirst, int limit,
+                                              boolean allSeasons) {
+        if (squadId != null && !squadRepository.existsById(squadId)) {
+            throw new EntityNotFoundException("Squad not found with ID: " + squadId);
+        }
+        return trainingRepository.findTraining(squadId, startDate, endDate, mostRecentFirst, limit, allSeasons);
+    }
+
     @Override
     public int addTraining(Training training) {
         validateTraining(training);
@@ -70,7 +96,7 @@ public class TrainingServiceImpl implements TrainingService {
 
     @Override
     public boolean updateTraining(Training training) {
-        if (trainingRepository.findById(training.getTrainingId()) == null) {
+        if (!trainingRepository.existsById(training.getTrainingId())) {
             throw new EntityNotFoundException("Training session not found with ID: " + training.getTrainingId());
         }
         validateTraining(training);
@@ -79,48 +105,110 @@ public class TrainingServiceImpl implements TrainingService {
 
     @Override
     public boolean deleteTraining(int id) {
-        if (trainingRepository.findById(id) == null) {
+        if (!trainingRepository.existsById(id)) {
             throw new EntityNotFoundException("Training session not found with ID: " + id);
         }
         return trainingRepository.delete(id);
     }
 
+    @Override
+    public int deleteTrainingSessions(Collection<Integer> ids) {
+        return trainingRepository.deleteAll(ids);
+    }
+
     @Override
     public boolean addAttendance(TrainingAttendance attendance) {
         validateAttendance(attendance);
 
         // Check if player and training session exist
-        if (playerRepository.findById(attendance.getPlayerId()) == null) {
+        if (!playerRepository.existsById(attendance.getPlayerId())) {
             throw new EntityNotFoundException("Player not found with ID: " + attendance.getPlayerId());
         }
 
-        if (trainingRepository.findById(attendance.getTrainingId()) == null) {
+        if (!trainingRepository.existsById(attendance.getTrainingId())) {
             throw new EntityNotFoundException("Training session not found with ID: " + attendance.getTrainingId());
         }
 
         return trainingRepository.addAttendance(attendance);
     }
 
+    @Override
+    public int recordAttendanceBatch(List<TrainingAttendance> attendanceList) {
+        // Validate every record first so a bad record doesn't leave the batch half written
+        List<String> errors = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        Set<Integer> playerIds = new HashSet<>();
+        Set<Integer> trainingIds = new HashSet<>();
+
+        for (int i = 0; i < attendanceList.size(); i++) {
+            TrainingAttendance attendance = attendanceList.get(i);
+            try {
+                validateAttendance(attendance);
+            } catch (ValidationException e) {
+                for (String error : e.getErrors()) {
+                    errors.add("Row " + (i + 1) + ": " + error);
+                }
+            }
+
+            if (!seen.add(attendance.getTrainingId() + ":" + attendance.getPlayerId())) {
+                errors.add("Row " + (i + 1) + ": Duplicate attendance for player ID " + attendance.getPlayerId() +
+                        " in training session ID " + attendance.getTrainingId());
+            }
+
+            playerIds.add(attendance.getPlayerId());
+            trainingIds.add(attendance.getTrainingId());
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Attendance record validation failed", errors);
+        }
+
+        // Check all players in one query and each training session once
+        if (!playerRepository.existsAll(playerIds)) {
+            throw new EntityNotFoundException("Player not found among IDs: " + playerIds);
+        }
+
+        for (int trainingId : trainingIds) {
+            if (!trainingRepository.existsById(trainingId)) {
+                throw new EntityNotFoundException("Training session not found with ID: " + trainingId);
+            }
+        }
+
+        return trainingRepository.upsertAttendanceBatch(attendanceList);
+    }
+
     @Override
     public boolean updateAttendance(TrainingAttendance attendance) {
         validateAttendance(attendance);
 
-        // Check if attendance record exists
-        TrainingAttendance existingAttendance = trainingRepository.getPlayerAttendance(
-                attendance.getTrainingId(), attendance.getPlayerId());
-
-        if (existingAttendance == null) {
+        // The update matches on session and player, so no rows means no attendance was recorded
+        if (!trainingRepository.updateAttendance(attendance)) {
             throw new EntityNotFoundException("Attendance record not found for player ID: " +
                     attendance.getPlayerId() + " and training session ID: " +
                     attendance.getTrainingId());
         }
 
-        return trainingRepository.updateAttendance(attendance);
+        return true;
+    }
+
+    @Override
+    public boolean recordAttendance(TrainingAttendance attendance) {
+        validateAttendance(attendance);
+
+        if (trainingRepository.upsertAttendance(attendance)) {
+            return true;
+        }
+
+        // Nothing was written, so the player or the session is missing; find out which for the message
+        if (!playerRepository.existsById(attendance.getPlayerId())) {
+            throw new EntityNotFoundException("Player not found with ID: " + attendance.getPlayerId());
+        }
+        throw new EntityNotFoundException("Training session not found with ID: " + attendance.getTrainingId());
     }
 
     @Override
     public List<TrainingAttendance> getAttendanceRecords(int trainingId) {
-        if (trainingRepository.findById(trainingId) == null) {
+        if (!trainingRepository.existsById(trainingId)) {
             throw new EntityNotFoundException("Training session not found with ID: " + trainingId);
         }
         return trainingRepository.getAttendanceRecords(trainingId);
@@ -128,19 +216,24 @@ public class TrainingServiceImpl implements TrainingService {
 
     @Override
     public List<TrainingAttendance> getAttendanceByPlayer(int playerId) {
-        if (playerRepository.findById(playerId) == null) {
+        return getAttendanceByPlayer(playerId, false);
+    }
+
+    @Override
+    public List<TrainingAttendance> getAttendanceByPlayer(int playerId, boolean allSeasons) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
-        return trainingRepository.getAttendanceByPlayer(playerId);
+        return trainingRepository.getAttendanceByPlayer(playerId, allSeasons);
     }
 
     @Override
     public TrainingAttendance getPlayerAttendance(int trainingId, int playerId) {
-        if (trainingRepository.findById(trainingId) == null) {
+        if (!trainingRepository.existsById(trainingId)) {
             throw new EntityNotFoundException("Training session not found with ID: " + trainingId);
         }
 
-        if (playerRepository.findById(playerId) == null) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
 
@@ -164,7 +257,7 @@ public class TrainingServiceImpl implements TrainingService {
 
     @Override
     public double getAttendanceRate(int trainingId) {
-        if (trainingRepository.findById(trainingId) == null) {
+        if (!trainingRepository.existsById(trainingId)) {
             throw new EntityNotFoundException("Training session not found with ID: " + trainingId);
         }
         return trainingRepository.getAttendanceRate(trainingId);
@@ -172,10 +265,23 @@ public class TrainingServiceImpl implements TrainingService {
 
     @Override
     public double getPlayerAttendanceRate(int playerId) {
-        if (playerRepository.findById(playerId) == null) {
+        return getPlayerAttendanceRate(playerId, false);
+    }
+
+    @Override
+    public double getPlayerAttendanceRate(int playerId, boolean allSeasons) {
+        if (!playerRepository.existsById(playerId)) {
             throw new EntityNotFoundException("Player not found with ID: " + playerId);
         }
-        return trainingRepository.getPlayerAttendanceRate(playerId);
+        return trainingRepository.getPlayerAttendanceRate(playerId, allSeasons);
+    }
+
+    @Override
+    public Map<Integer, Integer> getAttendedCountsBySquad(int squadId, Date startDate, Date endDate) {
+        if (!squadRepository.existsById(squadId)) {
+            throw new EntityNotFoundException("Squad not found with ID: " + squadId);
+        }
+        return trainingRepository.getAttendedCountsBySquad(squadId, startDate, endDate);
     }
 
     @Override
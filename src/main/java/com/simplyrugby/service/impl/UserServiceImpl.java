@@ -66,7 +66,7 @@ public class UserServiceImpl implements UserService {
         }
 
         // Check if member exists if member ID is provided
-        if (user.getMemberId() > 0 && memberRepository.findById(user.getMemberId()) == null) {
+        if (user.getMemberId() > 0 && !memberRepository.existsById(user.getMemberId())) {
             throw new EntityNotFoundException("Member not found with ID: " + user.getMemberId());
         }
 
@@ -75,7 +75,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public boolean updateUser(User user) {
-        if (userRepository.findById(user.getUserId()) == null) {
+        if (!userRepository.existsById(user.getUserId())) {
             throw new EntityNotFoundException("User not found with ID: " + user.getUserId());
         }
 
@@ -88,7 +88,7 @@ public class UserServiceImpl implements UserService {
         }
 
         // Check if member exists if member ID is provided
-        if (user.getMemberId() > 0 && memberRepository.findById(user.getMemberId()) == null) {
+        if (user.getMemberId() > 0 && !memberRepository.existsById(user.getMemberId())) {
             throw new EntityNotFoundException("Member not found with ID: " + user.getMemberId());
         }
 
@@ -97,7 +97,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public boolean deleteUser(int id) {
-        if (userRepository.findById(id) == null) {
+        if (!userRepository.existsById(id)) {
             throw new EntityNotFoundException("User not found with ID: " + id);
         }
 
@@ -111,7 +111,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public boolean changePassword(int userId, String newPassword) {
-        if (userRepository.findById(userId) == null) {
+        if (!userRepository.existsById(userId)) {
             throw new EntityNotFoundException("User not found with ID: " + userId);
         }
 
@@ -0,0 +1,540 @@
+package com.simplyrugby.util;
+
+import com.simplyrugby.domain.Position;
+import com.simplyrugby.repository.impl.ConnectionManager;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+/**
+ * Fills a migrated database with a synthetic club for load testing: squads with their
+ * players and coaches, and for every season each squad's games with player statistics
+ * and training sessions with attendance, plus club announcements and saved reports.
+ * <p>
+ * Rows are written with batched prepared statements and explicit IDs in a single
+ * transaction, so large clubs load quickly and a failed load leaves nothing behind. The same settings and seed always produce the
+ * same club. Run it from the command line with
+ * {@code java -cp simply-rugby.jar com.simplyrugby.util.ClubDataGenerator --help}.
+ */
+public class ClubDataGenerator {
+    // Statements are flushed to SQLite in batches of this many rows
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] AGE_GRADES = {"U12", "U14", "U16", "U18", "Senior"};
+    private static final String[] FIRST_NAMES = {
+            "Alex", "Ben", "Cara", "Dan", "Ella", "Finn", "Gus", "Holly", "Isla", "Jack", "Kate", "Liam",
+            "Mia", "Noah", "Owen", "Pia", "Rhys", "Sam", "Tom", "Will"
+    };
+    private static final String[] LAST_NAMES = {
+            "Adams", "Brown", "Clarke", "Davies", "Evans", "Fox", "Grant", "Hughes", "Jones", "Lewis",
+            "Morgan", "Price", "Roberts", "Smith", "Taylor", "Walker"
+    };
+    private static final String[] FOCUS_AREAS = {
+            "Passing", "Tackling", "Kicking", "Scrummaging", "Line-outs", "Fitness", "Rucking", "Defence"
+    };
+    private static final String[] QUALIFICATIONS = {
+            "Level 1 Rugby Coaching Certificate", "Level 2 Rugby Coaching Certificate",
+            "Level 3 Rugby Coaching Certificate", "First Aid in Sport"
+    };
+    private static final String[] RECIPIENTS = {"All", "Coaches", "Parents", "Players"};
+    private static final String[] REPORT_TYPES = {"attendance", "skills", "games"};
+
+    private final int squads;
+    private final int playersPerSquad;
+    private final int seasons;
+    private final long seed;
+    private int coachesPerSquad = 3;
+    private int gamesPerSeason = 20;
+    private int trainingsPerSeason = 30;
+    private int announcements = 200;
+    private int reports = 100;
+    private int firstSeasonYear = 2020;
+
+    /**
+     * Creates a generator for a club of the given size.
+     *
+     * @param squads The number of squads
+     * @param playersPerSquad The number of players in each squad
+     * @param seasons The number of seasons of games and training, running from August to May
+     * @param seed The random seed; the same seed always produces the same club
+     */
+    public ClubDataGenerator(int squads, int playersPerSquad, int seasons, long seed) {
+        this.squads = squads;
+        this.playersPerSquad = playersPerSquad;
+        this.seasons = seasons;
+        this.seed = seed;
+    }
+
+    public void setCoachesPerSquad(int coachesPerSquad) {
+        this.coachesPerSquad = coachesPerSquad;
+    }
+
+    public void setGamesPerSeason(int gamesPerSeason) {
+        this.gamesPerSeason = gamesPerSeason;
+    }
+
+    public void setTrainingsPerSeason(int trainingsPerSeason) {
+        this.trainingsPerSeason = trainingsPerSeason;
+    }
+
+    public void setAnnouncements(int announcements) {
+        this.announcements = announcements;
+    }
+
+    public void setReports(int reports) {
+        this.reports = reports;
+    }
+
+    public void setFirstSeasonYear(int firstSeasonYear) {
+        this.firstSeasonYear = firstSeasonYear;
+    }
+
+    /**
+     * Writes the club into a database whose schema is already up to date. New rows take IDs
+     * after any existing ones, so the club can be added to a database in use.
+     *
+     * @param conn A write connection to the database
+     * @return The number of rows inserted
+     * @throws SQLException If a database error occurs; nothing is written
+     */
+    public long generate(Connection conn) throws SQLException {
+        Random random = new Random(seed);
+        Ids ids = new Ids(conn);
+        long rows = 0;
+
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (BatchInserts inserts = new BatchInserts(conn);
+             Statement stmt = conn.createStatement()) {
+            // Maintaining the season summaries row by row would cost more than the inserts themselves,
+            // so their triggers are dropped for the load and the summaries rebuilt once at the end
+            for (String sql : PlayerSeasonSummarySchema.dropTriggerStatements()) {
+                stmt.execute(sql);
+            }
+
+            for (int s = 0; s < seasons; s++) {
+                int year = firstSeasonYear + s;
+                long startDate = LocalDate.of(year, 8, 1).toEpochDay();
+                long endDate = LocalDate.of(year + 1, 5, 31).toEpochDay();
+                PreparedStatement season = inserts.season;
+                season.setString(1, year + "/" + String.format("%02d", (year + 1) % 100));
+                season.setLong(2, startDate);
+                season.setLong(3, endDate);
+                season.setLong(4, endDate);
+                season.setLong(5, startDate);
+                rows += season.executeUpdate();
+            }
+
+            for (int q = 0; q < squads; q++) {
+                rows += generateSquad(inserts, random, ids, q);
+            }
+            rows += generateClubMessages(inserts, random);
+            inserts.flush();
+
+            for (String sql : PlayerSeasonSummarySchema.triggerStatements()) {
+                stmt.execute(sql);
+            }
+            for (String sql : PlayerSeasonSummarySchema.rebuildStatements()) {
+                stmt.execute(sql);
+            }
+
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+
+        return rows;
+    }
+
+    // Helper method to write one squad with its members, coaches and every season of history
+    private long generateSquad(BatchInserts inserts, Random random, Ids ids, int index) throws SQLException {
+        long rows = 0;
+        int squadId = ++ids.squad;
+        String ageGrade = AGE_GRADES[index % AGE_GRADES.length];
+        boolean junior = !ageGrade.equals("Senior");
+
+        inserts.squad.setInt(1, squadId);
+        inserts.squad.setString(2, "Squad " + (index + 1));
+        inserts.squad.setString(3, ageGrade);
+        inserts.add(inserts.squad);
+        rows++;
+
+        // Players, each junior with a parent as emergency contact
+        int[] playerIds = new int[playersPerSquad];
+        String[] positions = Position.getAllPositions();
+        int birthYear = junior ? firstSeasonYear + seasons - Integer.parseInt(ageGrade.substring(1)) : 1990;
+        for (int p = 0; p < playersPerSquad; p++) {
+            String lastName = pick(random, LAST_NAMES);
+            Integer contactId = null;
+            if (junior) {
+                contactId = ++ids.member;
+                rows += addMember(inserts, random, contactId, pick(random, FIRST_NAMES), lastName,
+                        LocalDate.of(1975 + random.nextInt(15), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            }
+
+            int memberId = ++ids.member;
+            rows += addMember(inserts, random, memberId, pick(random, FIRST_NAMES), lastName,
+                    LocalDate.of(birthYear + random.nextInt(junior ? 2 : 12), 1 + random.nextInt(12),
+                            1 + random.nextInt(28)));
+
+            playerIds[p] = ++ids.player;
+            PreparedStatement player = inserts.player;
+            player.setInt(1, playerIds[p]);
+            player.setInt(2, memberId);
+            player.setString(3, positions[p % positions.length]);
+            player.setInt(4, squadId);
+            player.setObject(5, contactId);
+            player.setString(6, random.nextInt(10) == 0 ? "Asthma" : null);
+            inserts.add(player);
+            rows++;
+        }
+
+        // Coaches, each assigned to this squad only
+        for (int c = 0; c < coachesPerSquad; c++) {
+            int memberId = ++ids.member;
+            rows += addMember(inserts, random, memberId, pick(random, FIRST_NAMES), pick(random, LAST_NAMES),
+                    LocalDate.of(1960 + random.nextInt(30), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+
+            int coachId = ++ids.coach;
+            inserts.coach.setInt(1, coachId);
+            inserts.coach.setInt(2, memberId);
+            inserts.coach.setString(3, pick(random, QUALIFICATIONS));
+            inserts.add(inserts.coach);
+
+            inserts.coachSquad.setInt(1, coachId);
+            inserts.coachSquad.setInt(2, squadId);
+            inserts.add(inserts.coachSquad);
+            rows += 2;
+        }
+
+        for (int s = 0; s < seasons; s++) {
+            LocalDate seasonStart = LocalDate.of(firstSeasonYear + s, 9, 1);
+            rows += generateGames(inserts, random, ids, squadId, playerIds, seasonStart);
+            rows += generateTraining(inserts, random, ids, squadId, playerIds, seasonStart);
+        }
+
+        return rows;
+    }
+
+    // Helper method to write a season of fortnightly games with statistics for every player
+    private long generateGames(BatchInserts inserts, Random random, Ids ids, int squadId, int[] playerIds,
+                               LocalDate seasonStart) throws SQLException {
+        long rows = 0;
+        for (int g = 0; g < gamesPerSeason; g++) {
+            int gameId = ++ids.game;
+            int homeScore = random.nextInt(50);
+            int awayScore = random.nextInt(50);
+
+            PreparedStatement game = inserts.game;
+            game.setInt(1, gameId);
+            game.setLong(2, seasonStart.plusDays(g * 14L).toEpochDay());
+            game.setString(3, "Opponent " + (1 + random.nextInt(30)));
+            game.setString(4, homeScore + " - " + awayScore);
+            game.setString(5, random.nextBoolean() ? "Home" : "Away");
+            game.setInt(6, squadId);
+            game.setInt(7, homeScore);
+            game.setInt(8, awayScore);
+            inserts.add(game);
+            rows++;
+
+            PreparedStatement stats = inserts.gameStats;
+            for (int playerId : playerIds) {
+                boolean attended = random.nextInt(100) < 85;
+                stats.setInt(1, playerId);
+                stats.setInt(2, gameId);
+                stats.setInt(3, attended ? random.nextInt(11) : 0);
+                stats.setInt(4, attended ? random.nextInt(11) : 0);
+                stats.setInt(5, attended ? random.nextInt(4) : 0);
+                stats.setInt(6, attended ? random.nextInt(11) : 0);
+                stats.setInt(7, attended ? 1 + random.nextInt(10) : 0);
+                stats.setBoolean(8, attended);
+                inserts.add(stats);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    // Helper method to write a season of weekly training sessions with attendance for every player
+    private long generateTraining(BatchInserts inserts, Random random, Ids ids, int squadId, int[] playerIds,
+                                  LocalDate seasonStart) throws SQLException {
+        long rows = 0;
+        for (int t = 0; t < trainingsPerSeason; t++) {
+            int trainingId = ++ids.training;
+
+            PreparedStatement training = inserts.training;
+            training.setInt(1, trainingId);
+            training.setLong(2, seasonStart.plusDays(t * 7L + 3).toEpochDay());
+            training.setInt(3, squadId);
+            training.setString(4, pick(random, FOCUS_AREAS) + ", " + pick(random, FOCUS_AREAS));
+            training.setString(5, null);
+            inserts.add(training);
+            rows++;
+
+            PreparedStatement attendance = inserts.attendance;
+            for (int playerId : playerIds) {
+                attendance.setInt(1, playerId);
+                attendance.setInt(2, trainingId);
+                attendance.setBoolean(3, random.nextInt(100) < 80);
+                attendance.setString(4, null);
+                inserts.add(attendance);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    // Helper method to write the club's announcements and saved reports, spread across the seasons
+    private long generateClubMessages(BatchInserts inserts, Random random) throws SQLException {
+        LocalDateTime start = LocalDate.of(firstSeasonYear, 8, 1).atTime(9, 0);
+        int days = Math.max(1, seasons * 365);
+
+        for (int a = 0; a < announcements; a++) {
+            PreparedStatement announcement = inserts.announcement;
+            announcement.setString(1, "Club news " + (a + 1));
+            announcement.setString(2, "Update for " + pick(random, RECIPIENTS).toLowerCase() + " about " +
+                    pick(random, FOCUS_AREAS).toLowerCase() + " sessions.");
+            announcement.setLong(3, localEpochMillis(start.plusDays(random.nextInt(days))
+                    .plusMinutes(random.nextInt(600))));
+            announcement.setString(4, "admin");
+            announcement.setString(5, pick(random, RECIPIENTS));
+            announcement.setBoolean(6, random.nextInt(10) == 0);
+            inserts.add(announcement);
+        }
+
+        for (int r = 0; r < reports; r++) {
+            String type = pick(random, REPORT_TYPES);
+            PreparedStatement report = inserts.report;
+            report.setString(1, Character.toUpperCase(type.charAt(0)) + type.substring(1) + " Report " + (r + 1));
+            report.setString(2, "Generated " + type + " report content.");
+            report.setLong(3, localEpochMillis(start.plusDays(random.nextInt(days))
+                    .plusMinutes(random.nextInt(600))));
+            report.setString(4, "admin");
+            report.setString(5, type);
+            inserts.add(report);
+        }
+
+        return (long) announcements + reports;
+    }
+
+    // Helper method to encode a local date and time as DateCodec stores it
+    private static long localEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    // Helper method to queue a member row
+    private int addMember(BatchInserts inserts, Random random, int memberId, String firstName, String lastName,
+                          LocalDate dob) throws SQLException {
+        PreparedStatement member = inserts.member;
+        member.setInt(1, memberId);
+        member.setString(2, firstName);
+        member.setString(3, lastName);
+        member.setLong(4, dob.toEpochDay());
+        member.setString(5, firstName.toLowerCase() + "." + lastName.toLowerCase() + memberId + "@example.com");
+        member.setString(6, String.format("07%09d", random.nextInt(1_000_000_000)));
+        member.setString(7, (1 + random.nextInt(200)) + " " + lastName + " Road");
+        inserts.add(member);
+        return 1;
+    }
+
+    // Helper method to pick a random entry
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Next free IDs, continuing from the rows already in the database.
+     */
+    private static class Ids {
+        int member;
+        int player;
+        int coach;
+        int squad;
+        int game;
+        int training;
+
+        Ids(Connection conn) throws SQLException {
+            member = maxId(conn, "Member", "memberID");
+            player = maxId(conn, "Player", "playerID");
+            coach = maxId(conn, "Coach", "coachID");
+            squad = maxId(conn, "Squad", "squadID");
+            // Archived games and sessions keep their IDs, so new ones must not reuse them
+            game = Math.max(maxId(conn, "Game", "gameID"), maxId(conn, "GameArchive", "gameID"));
+            training = Math.max(maxId(conn, "Training", "trainingID"),
+                    maxId(conn, "TrainingArchive", "trainingID"));
+        }
+
+        private static int maxId(Connection conn, String table, String column) throws SQLException {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    /**
+     * The insert statement for each table. Rows are queued per statement and flushed every
+     * {@link #BATCH_SIZE} rows, parents before children so foreign keys always resolve.
+     * The few seasons are inserted one at a time.
+     */
+    private static class BatchInserts implements AutoCloseable {
+        final PreparedStatement member;
+        final PreparedStatement squad;
+        final PreparedStatement player;
+        final PreparedStatement coach;
+        final PreparedStatement coachSquad;
+        final PreparedStatement game;
+        final PreparedStatement gameStats;
+        final PreparedStatement training;
+        final PreparedStatement attendance;
+        final PreparedStatement announcement;
+        final PreparedStatement report;
+        final PreparedStatement season;
+        private final PreparedStatement[] all;
+        private int pending;
+
+        BatchInserts(Connection conn) throws SQLException {
+            member = conn.prepareStatement("INSERT INTO Member (memberID, firstName, lastName, dob, email, phone, " +
+                    "address) VALUES (?, ?, ?, ?, ?, ?, ?)");
+            squad = conn.prepareStatement("INSERT INTO Squad (squadID, squadName, ageGrade) VALUES (?, ?, ?)");
+            player = conn.prepareStatement("INSERT INTO Player (playerID, memberID, position, squadID, " +
+                    "emergencyContactID, medicalConditions) VALUES (?, ?, ?, ?, ?, ?)");
+            coach = conn.prepareStatement("INSERT INTO Coach (coachID, memberID, qualifications) VALUES (?, ?, ?)");
+            coachSquad = conn.prepareStatement("INSERT INTO CoachSquad (coachID, squadID) VALUES (?, ?)");
+            game = conn.prepareStatement("INSERT INTO Game (gameID, date, opponent, finalScore, venue, squadID, " +
+                    "homeScore, awayScore) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+            gameStats = conn.prepareStatement("INSERT INTO GameStats (playerID, gameID, tackles, passes, tries, " +
+                    "kicks, overallRating, attended) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+            training = conn.prepareStatement("INSERT INTO Training (trainingID, date, squadID, focusAreas, " +
+                    "coachNotes) VALUES (?, ?, ?, ?, ?)");
+            attendance = conn.prepareStatement("INSERT INTO TrainingAttendance (playerID, trainingID, present, " +
+                    "playerNotes) VALUES (?, ?, ?, ?)");
+            announcement = conn.prepareStatement("INSERT INTO Announcement (title, content, sentDate, sentBy, " +
+                    "recipient, isImportant) VALUES (?, ?, ?, ?, ?, ?)");
+            report = conn.prepareStatement("INSERT INTO Report (title, content, generatedDate, generatedBy, " +
+                    "reportType) VALUES (?, ?, ?, ?, ?)");
+            // Seasons the database already has are left alone
+            season = conn.prepareStatement("INSERT INTO Season (name, startDate, endDate, archived) " +
+                    "SELECT ?, ?, ?, 0 WHERE NOT EXISTS " +
+                    "(SELECT 1 FROM Season WHERE startDate <= ? AND endDate >= ?)");
+            all = new PreparedStatement[] {
+                    member, squad, player, coach, coachSquad, game, gameStats, training, attendance,
+                    announcement, report
+            };
+        }
+
+        void add(PreparedStatement statement) throws SQLException {
+            statement.addBatch();
+            if (++pending >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            for (PreparedStatement statement : all) {
+                statement.executeBatch();
+            }
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            for (PreparedStatement statement : all) {
+                statement.close();
+            }
+            season.close();
+        }
+    }
+
+    @Command(name = "generate-club", mixinStandardHelpOptions = true,
+            description = "Fill a Simply Rugby database with a synthetic club for load testing")
+    static class GenerateCommand implements Callable<Integer> {
+        @Option(names = {"-d", "--database"}, description = "Database file (default: ${DEFAULT-VALUE})",
+                defaultValue = "simplyrugby.db")
+        String database;
+
+        @Option(names = "--squads", description = "Number of squads (default: ${DEFAULT-VALUE})", defaultValue = "50")
+        int squads;
+
+        @Option(names = "--players", description = "Players per squad (default: ${DEFAULT-VALUE})",
+                defaultValue = "40")
+        int playersPerSquad;
+
+        @Option(names = "--coaches", description = "Coaches per squad (default: ${DEFAULT-VALUE})", defaultValue = "3")
+        int coachesPerSquad;
+
+        @Option(names = "--seasons", description = "Seasons of history (default: ${DEFAULT-VALUE})", defaultValue = "5")
+        int seasons;
+
+        @Option(names = "--first-season", description = "Year the first season starts (default: ${DEFAULT-VALUE})",
+                defaultValue = "2020")
+        int firstSeasonYear;
+
+        @Option(names = "--games", description = "Games per squad per season (default: ${DEFAULT-VALUE})",
+                defaultValue = "20")
+        int gamesPerSeason;
+
+        @Option(names = "--trainings", description = "Training sessions per squad per season (default: ${DEFAULT-VALUE})",
+                defaultValue = "30")
+        int trainingsPerSeason;
+
+        @Option(names = "--announcements", description = "Announcements (default: ${DEFAULT-VALUE})",
+                defaultValue = "200")
+        int announcements;
+
+        @Option(names = "--reports", description = "Saved reports (default: ${DEFAULT-VALUE})", defaultValue = "100")
+        int reports;
+
+        @Option(names = "--seed", description = "Random seed (default: ${DEFAULT-VALUE})", defaultValue = "42")
+        long seed;
+
+        @Override
+        public Integer call() {
+            ClubDataGenerator generator = new ClubDataGenerator(squads, playersPerSquad, seasons, seed);
+            generator.setCoachesPerSquad(coachesPerSquad);
+            generator.setGamesPerSeason(gamesPerSeason);
+            generator.setTrainingsPerSeason(trainingsPerSeason);
+            generator.setAnnouncements(announcements);
+            generator.setReports(reports);
+            generator.setFirstSeasonYear(firstSeasonYear);
+
+            try {
+                DependencyManager.initialize(database);
+                ConnectionManager connectionManager = DependencyManager.getConnectionManager();
+                DbInitializer.initialize(connectionManager);
+
+                long start = System.nanoTime();
+                long rows;
+                try (Connection conn = connectionManager.getConnection()) {
+                    rows = generator.generate(conn);
+                }
+                System.out.printf("Inserted %,d rows into %s in %,d ms%n",
+                        rows, database, (System.nanoTime() - start) / 1_000_000);
+                return 0;
+            } catch (Exception e) {
+                System.err.println("Error: " + e.getMessage());
+                return 1;
+            } finally {
+                DependencyManager.shutdown();
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        System.exit(new CommandLine(new GenerateCommand()).execute(args));
+    }
+}
@@ -0,0 +1,316 @@
+package com.simplyrugby.util;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe conversion between {@link Date} and the forms used for storage and display,
+ * built on {@code java.time}. Replaces a new {@code SimpleDateFormat} per row or call.
+ * <p>
+ * Date columns are stored as integer epoch days of the local day, and date-and-time columns as
+ * milliseconds since 1970-01-01T00:00 on the local wall clock, so both sort and compare as
+ * integers and keep the calendar values the old text columns held. The {@code yyyy-MM-dd} text
+ * format has a hand-written fast path that reads and writes the digits directly; other patterns
+ * use a {@link DateTimeFormatter} cached per pattern. Dates are local midnight in the JVM's
+ * default time zone as it was when this class was loaded, matching what {@code SimpleDateFormat}
+ * produced.
+ */
+public final class DateCodec {
+    /** ISO text format of dates */
+    public static final String DATE_PATTERN = "yyyy-MM-dd";
+
+    /** Text format of dates and times */
+    public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final ZoneRules RULES = ZONE.getRules();
+
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private DateCodec() {
+    }
+
+    /**
+     * Convert a date to the epoch day of its local day, the stored form of date columns
+     *
+     * @param date The date
+     * @return Days from 1970-01-01 to the local day the date falls on
+     */
+    public static long toEpochDay(Date date) {
+        long millis = date.getTime();
+        return Math.floorDiv(millis + offsetSecondsAt(millis) * 1000L, MILLIS_PER_DAY);
+    }
+
+    /**
+     * Convert a stored epoch day to a date
+     *
+     * @param epochDay Days from 1970-01-01
+     * @return The date at local midnight of that day
+     */
+    public static Date fromEpochDay(long epochDay) {
+        return new Date(midnightMillis(epochDay));
+    }
+
+    /**
+     * Convert a date to its local wall-clock time in milliseconds, the stored form of
+     * date-and-time columns
+     *
+     * @param date The date
+     * @return Milliseconds from 1970-01-01T00:00 to the date's local date and time
+     */
+    public static long toLocalEpochMillis(Date date) {
+        long millis = date.getTime();
+        return millis + offsetSecondsAt(millis) * 1000L;
+    }
+
+    /**
+     * Convert a stored local wall-clock time in milliseconds to a date
+     *
+     * @param localMillis Milliseconds from 1970-01-01T00:00 on the local wall clock
+     * @return The date, resolved as {@code SimpleDateFormat} would resolve the local time
+     */
+    public static Date fromLocalEpochMillis(long localMillis) {
+        int offsetSeconds = offsetSecondsAt(localMillis);
+        long candidate = localMillis - offsetSeconds * 1000L;
+        if (hasOffsetAround(candidate, offsetSeconds)) {
+            return new Date(candidate);
+        }
+        long seconds = Math.floorDiv(localMillis, 1000L);
+        int nanos = (int) Math.floorMod(localMillis, 1000L) * 1_000_000;
+        return new Date(toMillis(LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC)));
+    }
+
+    /**
+     * Decode a {@code yyyy-MM-dd} date
+     *
+     * @param text The date text, or null
+     * @return The date at local midnight, or null if the text is null
+     * @throws DateTimeParseException If the text is not a valid date
+     */
+    public static Date decodeDate(String text) {
+        if (text == null) {
+            return null;
+        }
+        return new Date(toMillis(parseLocalDate(text)));
+    }
+
+    /**
+     * Encode a date in the {@code yyyy-MM-dd} format
+     *
+     * @param date The date, or null
+     * @return The date's local day as text, or null if the date is null
+     */
+    public static String encodeDate(Date date) {
+        if (date == null) {
+            return null;
+        }
+        return formatLocalDate(LocalDate.ofEpochDay(toEpochDay(date)));
+    }
+
+    /**
+     * Decode a {@code yyyy-MM-dd HH:mm:ss} date and time
+     *
+     * @param text The date and time text, or null
+     * @return The date, or null if the text is null
+     * @throws DateTimeParseException If the text is not a valid date and time
+     */
+    public static Date decodeDateTime(String text) {
+        return parse(text, DATE_TIME_PATTERN);
+    }
+
+    /**
+     * Encode a date and time in the {@code yyyy-MM-dd HH:mm:ss} format
+     *
+     * @param date The date, or null
+     * @return The text, or null if the date is null
+     */
+    public static String encodeDateTime(Date date) {
+        if (date == null) {
+            return null;
+        }
+        return formatter(DATE_TIME_PATTERN).format(Instant.ofEpochMilli(date.getTime()).atZone(ZONE));
+    }
+
+    /**
+     * Parse a date with a {@code SimpleDateFormat}-style pattern. Parsing is strict:
+     * out-of-range fields and trailing text are rejected.
+     *
+     * @param text The text to parse, or null
+     * @param pattern The pattern, e.g. {@code dd/MM/yyyy}
+     * @return The date, or null if the text is null; fields missing from the pattern
+     *         default to 1970-01-01 and midnight
+     * @throws DateTimeParseException If the text doesn't match the pattern
+     */
+    public static Date parse(String text, String pattern) {
+        if (text == null) {
+            return null;
+        }
+        if (DATE_PATTERN.equals(pattern)) {
+            return decodeDate(text);
+        }
+
+        TemporalAccessor parsed = formatter(pattern).parse(text);
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        LocalDateTime dateTime = LocalDateTime.of(date != null ? date : LocalDate.EPOCH,
+                time != null ? time : LocalTime.MIDNIGHT);
+        return new Date(toMillis(dateTime));
+    }
+
+    /**
+     * Format a date with a {@code SimpleDateFormat}-style pattern
+     *
+     * @param date The date, or null
+     * @param pattern The pattern, e.g. {@code dd/MM/yyyy}
+     * @return The formatted date, or null if the date is null
+     */
+    public static String format(Date date, String pattern) {
+        if (date == null) {
+            return null;
+        }
+        if (DATE_PATTERN.equals(pattern)) {
+            return encodeDate(date);
+        }
+        return formatter(pattern).format(Instant.ofEpochMilli(date.getTime()).atZone(ZONE));
+    }
+
+    /**
+     * Convert a date to its local day
+     *
+     * @param date The date
+     * @return The local day the date falls on
+     */
+    public static LocalDate toLocalDate(Date date) {
+        return LocalDate.ofEpochDay(toEpochDay(date));
+    }
+
+    /**
+     * Convert a local day to a date
+     *
+     * @param localDate The local day
+     * @return The date at local midnight of that day
+     */
+    public static Date fromLocalDate(LocalDate localDate) {
+        return new Date(toMillis(localDate));
+    }
+
+    // Helper method to find local midnight of a day
+    private static long toMillis(LocalDate localDate) {
+        return midnightMillis(localDate.toEpochDay());
+    }
+
+    // Helper method to find local midnight of an epoch day. When the zone's offset is the same for
+    // half a day either side, midnight is unambiguous and plain arithmetic is exact; near a
+    // transition the slow path resolves it as SimpleDateFormat did, moving past a gap and taking
+    // the later offset in an overlap.
+    private static long midnightMillis(long epochDay) {
+        long utcMidnight = epochDay * MILLIS_PER_DAY;
+        int offsetSeconds = offsetSecondsAt(utcMidnight);
+        long candidate = utcMidnight - offsetSeconds * 1000L;
+        if (hasOffsetAround(candidate, offsetSeconds)) {
+            return candidate;
+        }
+        return toMillis(LocalDate.ofEpochDay(epochDay).atStartOfDay());
+    }
+
+    // Helper method to check the zone keeps one offset for half a day either side of an instant
+    private static boolean hasOffsetAround(long epochMillis, int offsetSeconds) {
+        return offsetSecondsAt(epochMillis - MILLIS_PER_DAY / 2) == offsetSeconds
+                && offsetSecondsAt(epochMillis + MILLIS_PER_DAY / 2) == offsetSeconds;
+    }
+
+    // Helper method to find a local date and time as SimpleDateFormat resolves it
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).withLaterOffsetAtOverlap().toInstant().toEpochMilli();
+    }
+
+    // Helper method to read the zone's offset at an instant
+    private static int offsetSecondsAt(long epochMillis) {
+        return RULES.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds();
+    }
+
+    // Helper method to read yyyy-MM-dd by character position, falling back to the ISO parser
+    // (which reports the error position) for anything else
+    private static LocalDate parseLocalDate(String text) {
+        if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 7);
+            int day = digits(text, 8, 10);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                try {
+                    return LocalDate.of(year, month, day);
+                } catch (DateTimeException e) {
+                    throw new DateTimeParseException("Invalid date: " + text, text, 0, e);
+                }
+            }
+        }
+        return LocalDate.parse(text, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    // Helper method to read a run of ASCII digits, or -1 if any character isn't one
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    // Helper method to write yyyy-MM-dd into a fixed buffer for four-digit years
+    private static String formatLocalDate(LocalDate localDate) {
+        int year = localDate.getYear();
+        if (year < 0 || year > 9999) {
+            return DateTimeFormatter.ISO_LOCAL_DATE.format(localDate);
+        }
+
+        char[] buffer = new char[10];
+        writeDigits(buffer, 0, 4, year);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, 2, localDate.getMonthValue());
+        buffer[7] = '-';
+        writeDigits(buffer, 8, 2, localDate.getDayOfMonth());
+        return new String(buffer);
+    }
+
+    // Helper method to write a zero-padded number right to left
+    private static void writeDigits(char[] buffer, int from, int width, int value) {
+        for (int i = from + width - 1; i >= from; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    // Helper method to build a strict formatter once per pattern. SimpleDateFormat's 'y' is the
+    // year of era, which strict resolution only accepts with an era, so the era defaults to AD.
+    private static DateTimeFormatter formatter(String pattern) {
+        return FORMATTERS.computeIfAbsent(pattern, p -> {
+            DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder().appendPattern(p);
+            if (p.indexOf('y') >= 0) {
+                builder.parseDefaulting(ChronoField.ERA, 1);
+            }
+            return builder.toFormatter().withResolverStyle(ResolverStyle.STRICT);
+        });
+    }
+}
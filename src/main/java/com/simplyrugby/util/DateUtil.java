@@ -1,21 +1,17 @@
 package com.simplyrugby.util;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.List;
 
 /**
- * Utility class for date operations.
+ * Utility class for date operations. Parsing and formatting go through {@link DateCodec},
+ * so every method is thread safe and no formatter is built per call.
  */
 public class DateUtil {
 
     private static final String DEFAULT_DATE_FORMAT = "dd/MM/yyyy";
-    private static final String DATABASE_DATE_FORMAT = "yyyy-MM-dd";
 
     /**
      * Parse a date string into a Date object
@@ -30,10 +26,8 @@ public class DateUtil {
         }
 
         try {
-            SimpleDateFormat sdf = new SimpleDateFormat(DEFAULT_DATE_FORMAT);
-            sdf.setLenient(false);
-            return sdf.parse(dateStr);
-        } catch (ParseException e) {
+            return DateCodec.parse(dateStr, DEFAULT_DATE_FORMAT);
+        } catch (DateTimeParseException e) {
             throw new ValidationException("Invalid date format. Please use " + DEFAULT_DATE_FORMAT, e);
         }
     }
@@ -52,10 +46,8 @@ public class DateUtil {
         }
 
         try {
-            SimpleDateFormat sdf = new SimpleDateFormat(format);
-            sdf.setLenient(false);
-            return sdf.parse(dateStr);
-        } catch (ParseException e) {
+            return DateCodec.parse(dateStr, format);
+        } catch (DateTimeParseException e) {
             throw new ValidationException("Invalid date format. Please use " + format, e);
         }
     }
@@ -71,8 +63,7 @@ public class DateUtil {
             return "";
         }
 
-        SimpleDateFormat sdf = new SimpleDateFormat(DEFAULT_DATE_FORMAT);
-        return sdf.format(date);
+        return DateCodec.format(date, DEFAULT_DATE_FORMAT);
     }
 
     /**
@@ -87,8 +78,7 @@ public class DateUtil {
             return "";
         }
 
-        SimpleDateFormat sdf = new SimpleDateFormat(format);
-        return sdf.format(date);
+        return DateCodec.format(date, format);
     }
 
     /**
@@ -102,8 +92,7 @@ public class DateUtil {
             return null;
         }
 
-        SimpleDateFormat sdf = new SimpleDateFormat(DATABASE_DATE_FORMAT);
-        return sdf.format(date);
+        return DateCodec.encodeDate(date);
     }
 
     /**
@@ -145,9 +134,7 @@ public class DateUtil {
             return 0;
         }
 
-        LocalDate birthLocalDate = birthDate.toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDate();
+        LocalDate birthLocalDate = DateCodec.toLocalDate(birthDate);
         LocalDate currentDate = LocalDate.now();
 
         return currentDate.getYear() - birthLocalDate.getYear() -
@@ -166,11 +153,9 @@ public class DateUtil {
         }
 
         try {
-            SimpleDateFormat sdf = new SimpleDateFormat(DEFAULT_DATE_FORMAT);
-            sdf.setLenient(false);
-            sdf.parse(dateStr);
+            DateCodec.parse(dateStr, DEFAULT_DATE_FORMAT);
             return true;
-        } catch (ParseException e) {
+        } catch (DateTimeParseException e) {
             return false;
         }
     }
@@ -188,11 +173,9 @@ public class DateUtil {
         }
 
         try {
-            SimpleDateFormat sdf = new SimpleDateFormat(format);
-            sdf.setLenient(false);
-            sdf.parse(dateStr);
+            DateCodec.parse(dateStr, format);
             return true;
-        } catch (ParseException e) {
+        } catch (DateTimeParseException e) {
             return false;
         }
     }
@@ -237,12 +220,8 @@ public class DateUtil {
             return null;
         }
 
-        LocalDate localDate = date.toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDate();
+        LocalDate newDate = DateCodec.toLocalDate(date).plusDays(days);
 
-        LocalDate newDate = localDate.plusDays(days);
-
-        return Date.from(newDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        return DateCodec.fromLocalDate(newDate);
     }
 }
\ No newline at end of file
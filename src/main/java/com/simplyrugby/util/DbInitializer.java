@@ -3,137 +3,404 @@ package com.simplyrugby.util;
 import com.simplyrugby.repository.impl.ConnectionManager;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Initializes the database schema and default data.
+ * <p>
+ * The schema is versioned with {@code PRAGMA user_version}. Each entry in
+ * {@link #MIGRATIONS} upgrades the database by one version and runs in its own
+ * transaction; startup only applies the migrations a database has not seen yet.
  */
 public class DbInitializer {
 
+    // Schema version that added foreign key actions; earlier databases may hold orphaned rows it cleans up
+    private static final int FOREIGN_KEY_ACTIONS_VERSION = 4;
+
+    private static final List<SchemaMigration> MIGRATIONS = List.of(
+            new SchemaMigration(1, "Create base tables",
+                    "CREATE TABLE IF NOT EXISTS Member (" +
+                            "memberID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "firstName TEXT NOT NULL," +
+                            "lastName TEXT NOT NULL," +
+                            "dob TEXT NOT NULL," +
+                            "email TEXT," +
+                            "phone TEXT," +
+                            "address TEXT)",
+
+                    "CREATE TABLE IF NOT EXISTS Coach (" +
+                            "coachID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "memberID INTEGER NOT NULL," +
+                            "qualifications TEXT," +
+                            "FOREIGN KEY (memberID) REFERENCES Member(memberID))",
+
+                    "CREATE TABLE IF NOT EXISTS Squad (" +
+                            "squadID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "squadName TEXT NOT NULL," +
+                            "ageGrade TEXT NOT NULL)",
+
+                    "CREATE TABLE IF NOT EXISTS Player (" +
+                            "playerID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "memberID INTEGER NOT NULL," +
+                            "position TEXT," +
+                            "squadID INTEGER," +
+                            "emergencyContactID INTEGER," +
+                            "medicalConditions TEXT," +
+                            "FOREIGN KEY (memberID) REFERENCES Member(memberID)," +
+                            "FOREIGN KEY (squadID) REFERENCES Squad(squadID)," +
+                            "FOREIGN KEY (emergencyContactID) REFERENCES Member(memberID))",
+
+                    "CREATE TABLE IF NOT EXISTS CoachSquad (" +
+                            "coachID INTEGER," +
+                            "squadID INTEGER," +
+                            "PRIMARY KEY (coachID, squadID)," +
+                            "FOREIGN KEY (coachID) REFERENCES Coach(coachID)," +
+                            "FOREIGN KEY (squadID) REFERENCES Squad(squadID))",
+
+                    "CREATE TABLE IF NOT EXISTS Game (" +
+                            "gameID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "date TEXT NOT NULL," +
+                            "opponent TEXT NOT NULL," +
+                            "finalScore TEXT," +
+                            "venue TEXT," +
+                            "squadID INTEGER," +
+                            "FOREIGN KEY (squadID) REFERENCES Squad(squadID))",
+
+                    "CREATE TABLE IF NOT EXISTS GameStats (" +
+                            "gameStatsID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "playerID INTEGER," +
+                            "gameID INTEGER," +
+                            "tackles INTEGER," +
+                            "passes INTEGER," +
+                            "tries INTEGER," +
+                            "kicks INTEGER," +
+                            "overallRating INTEGER," +
+                            "attended BOOLEAN," +
+                            "FOREIGN KEY (playerID) REFERENCES Player(playerID)," +
+                            "FOREIGN KEY (gameID) REFERENCES Game(gameID))",
+
+                    "CREATE TABLE IF NOT EXISTS Training (" +
+                            "trainingID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "date TEXT NOT NULL," +
+                            "squadID INTEGER," +
+                            "focusAreas TEXT," +
+                            "coachNotes TEXT," +
+                            "FOREIGN KEY (squadID) REFERENCES Squad(squadID))",
+
+                    "CREATE TABLE IF NOT EXISTS TrainingAttendance (" +
+                            "attendanceID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "playerID INTEGER," +
+                            "trainingID INTEGER," +
+                            "present BOOLEAN," +
+                            "playerNotes TEXT," +
+                            "FOREIGN KEY (playerID) REFERENCES Player(playerID)," +
+                            "FOREIGN KEY (trainingID) REFERENCES Training(trainingID))",
+
+                    "CREATE TABLE IF NOT EXISTS User (" +
+                            "userID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "username TEXT NOT NULL UNIQUE," +
+                            "password TEXT NOT NULL," +
+                            "role TEXT NOT NULL," +
+                            "memberID INTEGER," +
+                            "FOREIGN KEY (memberID) REFERENCES Member(memberID))",
+
+                    "CREATE TABLE IF NOT EXISTS Announcement (" +
+                            "announcementID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "title TEXT NOT NULL," +
+                            "content TEXT NOT NULL," +
+                            "sentDate TEXT NOT NULL," +
+                            "sentBy TEXT NOT NULL," +
+                            "recipient TEXT NOT NULL," +
+                            "isImportant BOOLEAN NOT NULL DEFAULT 0)",
+
+                    "CREATE TABLE IF NOT EXISTS Report (" +
+                            "reportID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "title TEXT NOT NULL," +
+                            "content TEXT NOT NULL," +
+                            "generatedDate TEXT NOT NULL," +
+                            "generatedBy TEXT NOT NULL," +
+                            "reportType TEXT NOT NULL)"),
+
+            new SchemaMigration(2, "Index foreign keys and enforce one stats/attendance row per player",
+                    // Keep the latest row where duplicates were recorded before the constraint existed
+                    "DELETE FROM GameStats WHERE gameStatsID NOT IN (" +
+                            "SELECT MAX(gameStatsID) FROM GameStats GROUP BY gameID, playerID)",
+                    "DELETE FROM TrainingAttendance WHERE attendanceID NOT IN (" +
+                            "SELECT MAX(attendanceID) FROM TrainingAttendance GROUP BY trainingID, playerID)",
+                    "CREATE UNIQUE INDEX IF NOT EXISTS ux_gamestats_game_player ON GameStats(gameID, playerID)",
+                    "CREATE INDEX IF NOT EXISTS idx_gamestats_player ON GameStats(playerID)",
+                    "CREATE UNIQUE INDEX IF NOT EXISTS ux_attendance_training_player " +
+                            "ON TrainingAttendance(trainingID, playerID)",
+                    "CREATE INDEX IF NOT EXISTS idx_attendance_player ON TrainingAttendance(playerID)",
+                    "CREATE INDEX IF NOT EXISTS idx_player_squad ON Player(squadID)",
+                    "CREATE INDEX IF NOT EXISTS idx_player_member ON Player(memberID)",
+                    "CREATE INDEX IF NOT EXISTS idx_coach_member ON Coach(memberID)",
+                    "CREATE INDEX IF NOT EXISTS idx_coachsquad_squad ON CoachSquad(squadID)",
+                    "CREATE INDEX IF NOT EXISTS idx_game_squad_date ON Game(squadID, date)",
+                    "CREATE INDEX IF NOT EXISTS idx_game_date ON Game(date)",
+                    "CREATE INDEX IF NOT EXISTS idx_training_squad_date ON Training(squadID, date)",
+                    "CREATE INDEX IF NOT EXISTS idx_training_date ON Training(date)",
+                    "CREATE INDEX IF NOT EXISTS idx_announcement_sent_date ON Announcement(sentDate)"),
+
+            new SchemaMigration(3, "Store game scores as integer columns",
+                    "ALTER TABLE Game ADD COLUMN homeScore INTEGER",
+                    "ALTER TABLE Game ADD COLUMN awayScore INTEGER",
+                    // Only backfill scores in the validated "XX - XX" format; anything else stays NULL
+                    "UPDATE Game SET " +
+                            "homeScore = CAST(substr(finalScore, 1, instr(finalScore, ' - ') - 1) AS INTEGER), " +
+                            "awayScore = CAST(substr(finalScore, instr(finalScore, ' - ') + 3) AS INTEGER) " +
+                            "WHERE finalScore GLOB '[0-9]* - [0-9]*' " +
+                            "AND substr(finalScore, 1, instr(finalScore, ' - ') - 1) NOT GLOB '*[^0-9]*' " +
+                            "AND substr(finalScore, instr(finalScore, ' - ') + 3) NOT GLOB '*[^0-9]*'"),
+
+            // SQLite can't alter a foreign key, so each referencing table is rebuilt and its rows copied.
+            // Rows already orphaned by the old hand-written deletes are dropped (or unlinked) on the way.
+            new SchemaMigration(4, "Add ON DELETE CASCADE / SET NULL foreign key actions",
+                    "CREATE TABLE Player_new (" +
+                            "playerID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "memberID INTEGER NOT NULL," +
+                            "position TEXT," +
+                            "squadID INTEGER," +
+                            "emergencyContactID INTEGER," +
+                            "medicalConditions TEXT," +
+                            "FOREIGN KEY (memberID) REFERENCES Member(memberID) ON DELETE CASCADE," +
+                            "FOREIGN KEY (squadID) REFERENCES Squad(squadID) ON DELETE SET NULL," +
+                            "FOREIGN KEY (emergencyContactID) REFERENCES Member(memberID) ON DELETE SET NULL)",
+                    "INSERT INTO Player_new (playerID, memberID, position, squadID, emergencyContactID, medicalConditions) " +
+                            "SELECT p.playerID, p.memberID, p.position, " +
+                            "(SELECT s.squadID FROM Squad s WHERE s.squadID = p.squadID), " +
+                            "(SELECT m.memberID FROM Member m WHERE m.memberID = p.emergencyContactID), " +
+                            "p.medicalConditions FROM Player p " +
+                            "WHERE p.memberID IN (SELECT memberID FROM Member)",
+                    "DROP TABLE Player",
+                    "ALTER TABLE Player_new RENAME TO Player",
+
+                    "CREATE TABLE Coach_new (" +
+                            "coachID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "memberID INTEGER NOT NULL," +
+                            "qualifications TEXT," +
+                            "FOREIGN KEY (memberID) REFERENCES Member(memberID) ON DELETE CASCADE)",
+                    "INSERT INTO Coach_new (coachID, memberID, qualifications) " +
+                            "SELECT coachID, memberID, qualifications FROM Coach " +
+                            "WHERE memberID IN (SELECT memberID FROM Member)",
+                    "DROP TABLE Coach",
+                    "ALTER TABLE Coach_new RENAME TO Coach",
+
+                    "CREATE TABLE CoachSquad_new (" +
+                            "coachID INTEGER," +
+                            "squadID INTEGER," +
+                            "PRIMARY KEY (coachID, squadID)," +
+                            "FOREIGN KEY (coachID) REFERENCES Coach(coachID) ON DELETE CASCADE," +
+                            "FOREIGN KEY (squadID) REFERENCES Squad(squadID) ON DELETE CASCADE)",
+                    "INSERT INTO CoachSquad_new (coachID, squadID) " +
+                            "SELECT coachID, squadID FROM CoachSquad " +
+                            "WHERE coachID IN (SELECT coachID FROM Coach) AND squadID IN (SELECT squadID FROM Squad)",
+                    "DROP TABLE CoachSquad",
+                    "ALTER TABLE CoachSquad_new RENAME TO CoachSquad",
+
+                    "CREATE TABLE Game_new (" +
+                            "gameID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "date TEXT NOT NULL," +
+                            "opponent TEXT NOT NULL," +
+                            "finalScore TEXT," +
+                            "venue TEXT," +
+                            "squadID INTEGER," +
+                            "homeScore INTEGER," +
+                            "awayScore INTEGER," +
+                            "FOREIGN KEY (squadID) REFERENCES Squad(squadID) ON DELETE CASCADE)",
+                    "INSERT INTO Game_new (gameID, date, opponent, finalScore, venue, squadID, homeScore, awayScore) " +
+                            "SELECT gameID, date, opponent, finalScore, venue, squadID, homeScore, awayScore FROM Game " +
+                            "WHERE squadID IS NULL OR squadID IN (SELECT squadID FROM Squad)",
+                    "DROP TABLE Game",
+                    "ALTER TABLE Game_new RENAME TO Game",
+
+                    "CREATE TABLE GameStats_new (" +
+                            "gameStatsID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "playerID INTEGER," +
+                            "gameID INTEGER," +
+                            "tackles INTEGER," +
+                            "passes INTEGER," +
+                            "tries INTEGER," +
+                            "kicks INTEGER," +
+                            "overallRating INTEGER," +
+                            "attended BOOLEAN," +
+                            "FOREIGN KEY (playerID) REFERENCES Player(playerID) ON DELETE CASCADE," +
+                            "FOREIGN KEY (gameID) REFERENCES Game(gameID) ON DELETE CASCADE)",
+                    "INSERT INTO GameStats_new (gameStatsID, playerID, gameID, tackles, passes, tries, kicks, " +
+                            "overallRating, attended) " +
+                            "SELECT gameStatsID, playerID, gameID, tackles, passes, tries, kicks, overallRating, attended " +
+                            "FROM GameStats " +
+                            "WHERE playerID IN (SELECT playerID FROM Player) AND gameID IN (SELECT gameID FROM Game)",
+                    "DROP TABLE GameStats",
+                    "ALTER TABLE GameStats_new RENAME TO GameStats",
+
+                    "CREATE TABLE Training_new (" +
+                            "trainingID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "date TEXT NOT NULL," +
+                            "squadID INTEGER," +
+                            "focusAreas TEXT," +
+                            "coachNotes TEXT," +
+                            "FOREIGN KEY (squadID) REFERENCES Squad(squadID) ON DELETE CASCADE)",
+                    "INSERT INTO Training_new (trainingID, date, squadID, focusAreas, coachNotes) " +
+                            "SELECT trainingID, date, squadID, focusAreas, coachNotes FROM Training " +
+                            "WHERE squadID IS NULL OR squadID IN (SELECT squadID FROM Squad)",
+                    "DROP TABLE Training",
+                    "ALTER TABLE Training_new RENAME TO Training",
+
+                    "CREATE TABLE TrainingAttendance_new (" +
+                            "attendanceID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "playerID INTEGER," +
+                            "trainingID INTEGER," +
+                            "present BOOLEAN," +
+                            "playerNotes TEXT," +
+                            "FOREIGN KEY (playerID) REFERENCES Player(playerID) ON DELETE CASCADE," +
+                            "FOREIGN KEY (trainingID) REFERENCES Training(trainingID) ON DELETE CASCADE)",
+                    "INSERT INTO TrainingAttendance_new (attendanceID, playerID, trainingID, present, playerNotes) " +
+                            "SELECT attendanceID, playerID, trainingID, present, playerNotes FROM TrainingAttendance " +
+                            "WHERE playerID IN (SELECT playerID FROM Player) " +
+                            "AND trainingID IN (SELECT trainingID FROM Training)",
+                    "DROP TABLE TrainingAttendance",
+                    "ALTER TABLE TrainingAttendance_new RENAME TO TrainingAttendance",
+
+                    "CREATE TABLE User_new (" +
+                            "userID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "username TEXT NOT NULL UNIQUE," +
+                            "password TEXT NOT NULL," +
+                            "role TEXT NOT NULL," +
+                            "memberID INTEGER," +
+                            "FOREIGN KEY (memberID) REFERENCES Member(memberID) ON DELETE SET NULL)",
+                    "INSERT INTO User_new (userID, username, password, role, memberID) " +
+                            "SELECT u.userID, u.username, u.password, u.role, " +
+                            "(SELECT m.memberID FROM Member m WHERE m.memberID = u.memberID) FROM User u",
+                    "DROP TABLE User",
+                    "ALTER TABLE User_new RENAME TO User",
+
+                    // Dropping the old tables dropped their indexes
+                    "CREATE UNIQUE INDEX IF NOT EXISTS ux_gamestats_game_player ON GameStats(gameID, playerID)",
+                    "CREATE INDEX IF NOT EXISTS idx_gamestats_player ON GameStats(playerID)",
+                    "CREATE UNIQUE INDEX IF NOT EXISTS ux_attendance_training_player " +
+                            "ON TrainingAttendance(trainingID, playerID)",
+                    "CREATE INDEX IF NOT EXISTS idx_attendance_player ON TrainingAttendance(playerID)",
+                    "CREATE INDEX IF NOT EXISTS idx_player_squad ON Player(squadID)",
+                    "CREATE INDEX IF NOT EXISTS idx_player_member ON Player(memberID)",
+                    "CREATE INDEX IF NOT EXISTS idx_player_emergency_contact ON Player(emergencyContactID)",
+                    "CREATE INDEX IF NOT EXISTS idx_coach_member ON Coach(memberID)",
+                    "CREATE INDEX IF NOT EXISTS idx_coachsquad_squad ON CoachSquad(squadID)",
+                    "CREATE INDEX IF NOT EXISTS idx_game_squad_date ON Game(squadID, date)",
+                    "CREATE INDEX IF NOT EXISTS idx_game_date ON Game(date)",
+                    "CREATE INDEX IF NOT EXISTS idx_training_squad_date ON Training(squadID, date)",
+                    "CREATE INDEX IF NOT EXISTS idx_training_date ON Training(date)",
+                    "CREATE INDEX IF NOT EXISTS idx_user_member ON User(memberID)"),
+
+            // Archived seasons' rows move out of the live tables so everyday queries only scan open seasons.
+            // Archived rows keep their IDs (AUTOINCREMENT never reuses them), so the *AllSeasons views can
+            // union the live and archive tables without clashes.
+            new SchemaMigration(5, "Add seasons and archive tables for closed seasons",
+                    "CREATE TABLE IF NOT EXISTS Season (" +
+                            "seasonID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "name TEXT NOT NULL UNIQUE," +
+                            "startDate TEXT NOT NULL," +
+                            "endDate TEXT NOT NULL," +
+                            "archived BOOLEAN NOT NULL DEFAULT 0)",
+
+                    "CREATE TABLE IF NOT EXISTS GameArchive (" +
+                            "gameID INTEGER PRIMARY KEY," +
+                            "date TEXT NOT NULL," +
+                            "opponent TEXT NOT NULL," +
+                            "finalScore TEXT," +
+                            "venue TEXT," +
+                            "squadID INTEGER," +
+                            "homeScore INTEGER," +
+                            "awayScore INTEGER," +
+                            "seasonID INTEGER NOT NULL," +
+                            "FOREIGN KEY (squadID) REFERENCES Squad(squadID) ON DELETE CASCADE," +
+                            "FOREIGN KEY (seasonID) REFERENCES Season(seasonID))",
+
+                    "CREATE TABLE IF NOT EXISTS GameStatsArchive (" +
+                            "gameStatsID INTEGER PRIMARY KEY," +
+                            "playerID INTEGER," +
+                            "gameID INTEGER," +
+                            "tackles INTEGER," +
+                            "passes INTEGER," +
+                            "tries INTEGER," +
+                            "kicks INTEGER," +
+                            "overallRating INTEGER," +
+                            "attended BOOLEAN," +
+                            "FOREIGN KEY (playerID) REFERENCES Player(playerID) ON DELETE CASCADE," +
+                            "FOREIGN KEY (gameID) REFERENCES GameArchive(gameID) ON DELETE CASCADE)",
+
+                    "CREATE TABLE IF NOT EXISTS TrainingArchive (" +
+                            "trainingID INTEGER PRIMARY KEY," +
+                            "date TEXT NOT NULL," +
+                            "squadID INTEGER," +
+                            "focusAreas TEXT," +
+                            "coachNotes TEXT," +
+                            "seasonID INTEGER NOT NULL," +
+                            "FOREIGN KEY (squadID) REFERENCES Squad(squadID) ON DELETE CASCADE," +
+                            "FOREIGN KEY (seasonID) REFERENCES Season(seasonID))",
+
+                    "CREATE TABLE IF NOT EXISTS TrainingAttendanceArchive (" +
+                            "attendanceID INTEGER PRIMARY KEY," +
+                            "playerID INTEGER," +
+                            "trainingID INTEGER," +
+                            "present BOOLEAN," +
+                            "playerNotes TEXT," +
+                            "FOREIGN KEY (playerID) REFERENCES Player(playerID) ON DELETE CASCADE," +
+                            "FOREIGN KEY (trainingID) REFERENCES TrainingArchive(trainingID) ON DELETE CASCADE)",
+
+                    "CREATE INDEX IF NOT EXISTS idx_season_dates ON Season(startDate, endDate)",
+                    "CREATE INDEX IF NOT EXISTS idx_gamearchive_season ON GameArchive(seasonID)",
+                    "CREATE INDEX IF NOT EXISTS idx_gamearchive_squad_date ON GameArchive(squadID, date)",
+                    "CREATE UNIQUE INDEX IF NOT EXISTS ux_gamestatsarchive_game_player " +
+                            "ON GameStatsArchive(gameID, playerID)",
+                    "CREATE INDEX IF NOT EXISTS idx_gamestatsarchive_player ON GameStatsArchive(playerID)",
+                    "CREATE INDEX IF NOT EXISTS idx_trainingarchive_season ON TrainingArchive(seasonID)",
+                    "CREATE INDEX IF NOT EXISTS idx_trainingarchive_squad_date ON TrainingArchive(squadID, date)",
+                    "CREATE UNIQUE INDEX IF NOT EXISTS ux_attendancearchive_training_player " +
+                            "ON TrainingAttendanceArchive(trainingID, playerID)",
+                    "CREATE INDEX IF NOT EXISTS idx_attendancearchive_player ON TrainingAttendanceArchive(playerID)",
+
+                    "CREATE VIEW IF NOT EXISTS GameAllSeasons AS " +
+                            "SELECT gameID, date, opponent, finalScore, venue, squadID, homeScore, awayScore FROM Game " +
+                            "UNION ALL " +
+                            "SELECT gameID, date, opponent, finalScore, venue, squadID, homeScore, awayScore " +
+                            "FROM GameArchive",
+                    "CREATE VIEW IF NOT EXISTS GameStatsAllSeasons AS " +
+                            "SELECT gameStatsID, playerID, gameID, tackles, passes, tries, kicks, overallRating, attended " +
+                            "FROM GameStats " +
+                            "UNION ALL " +
+                            "SELECT gameStatsID, playerID, gameID, tackles, passes, tries, kicks, overallRating, attended " +
+                            "FROM GameStatsArchive",
+                    "CREATE VIEW IF NOT EXISTS TrainingAllSeasons AS " +
+                            "SELECT trainingID, date, squadID, focusAreas, coachNotes FROM Training " +
+                            "UNION ALL " +
+                            "SELECT trainingID, date, squadID, focusAreas, coachNotes FROM TrainingArchive",
+                    "CREATE VIEW IF NOT EXISTS TrainingAttendanceAllSeasons AS " +
+                            "SELECT attendanceID, playerID, trainingID, present, playerNotes FROM TrainingAttendance " +
+                            "UNION ALL " +
+                            "SELECT attendanceID, playerID, trainingID, present, playerNotes FROM TrainingAttendanceArchive"),
+
+            new SchemaMigration(6, "Maintain per-player season totals of stats and attendance",
+                    PlayerSeasonSummarySchema.migrationStatements()),
+
+            new SchemaMigration(7, "Store dates as integer epoch days and local epoch milliseconds",
+                    IntegerDateSchema.migrationStatements())
+    );
+
     /**
-     * Initializes the database, creating tables if they don't exist.
+     * Initializes the database, applying any pending schema migrations.
      *
      * @param connectionManager The connection manager to use
      * @throws SQLException If a database error occurs
      */
     public static void initialize(ConnectionManager connectionManager) throws SQLException {
-        try (Connection conn = connectionManager.getConnection();
-             Statement stmt = conn.createStatement()) {
-
-            // Create Member table
-            stmt.execute("CREATE TABLE IF NOT EXISTS Member (" +
-                    "memberID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "firstName TEXT NOT NULL," +
-                    "lastName TEXT NOT NULL," +
-                    "dob TEXT NOT NULL," +
-                    "email TEXT," +
-                    "phone TEXT," +
-                    "address TEXT)");
-
-            // Create Coach table
-            stmt.execute("CREATE TABLE IF NOT EXISTS Coach (" +
-                    "coachID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "memberID INTEGER NOT NULL," +
-                    "qualifications TEXT," +
-                    "FOREIGN KEY (memberID) REFERENCES Member(memberID))");
-
-            // Create Squad table
-            stmt.execute("CREATE TABLE IF NOT EXISTS Squad (" +
-                    "squadID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "squadName TEXT NOT NULL," +
-                    "ageGrade TEXT NOT NULL)");
-
-            // Create Player table
-            stmt.execute("CREATE TABLE IF NOT EXISTS Player (" +
-                    "playerID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "memberID INTEGER NOT NULL," +
-                    "position TEXT," +
-                    "squadID INTEGER," +
-                    "emergencyContactID INTEGER," +
-                    "medicalConditions TEXT," +
-                    "FOREIGN KEY (memberID) REFERENCES Member(memberID)," +
-                    "FOREIGN KEY (squadID) REFERENCES Squad(squadID)," +
-                    "FOREIGN KEY (emergencyContactID) REFERENCES Member(memberID))");
-
-            // Create CoachSquad (many-to-many relationship)
-            stmt.execute("CREATE TABLE IF NOT EXISTS CoachSquad (" +
-                    "coachID INTEGER," +
-                    "squadID INTEGER," +
-                    "PRIMARY KEY (coachID, squadID)," +
-                    "FOREIGN KEY (coachID) REFERENCES Coach(coachID)," +
-                    "FOREIGN KEY (squadID) REFERENCES Squad(squadID))");
-
-            // Create Game table
-            stmt.execute("CREATE TABLE IF NOT EXISTS Game (" +
-                    "gameID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "date TEXT NOT NULL," +
-                    "opponent TEXT NOT NULL," +
-                    "finalScore TEXT," +
-                    "venue TEXT," +
-                    "squadID INTEGER," +
-                    "FOREIGN KEY (squadID) REFERENCES Squad(squadID))");
-
-            // Create GameStats table
-            stmt.execute("CREATE TABLE IF NOT EXISTS GameStats (" +
-                    "gameStatsID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "playerID INTEGER," +
-                    "gameID INTEGER," +
-                    "tackles INTEGER," +
-                    "passes INTEGER," +
-                    "tries INTEGER," +
-                    "kicks INTEGER," +
-                    "overallRating INTEGER," +
-                    "attended BOOLEAN," +
-                    "FOREIGN KEY (playerID) REFERENCES Player(playerID)," +
-                    "FOREIGN KEY (gameID) REFERENCES Game(gameID))");
-
-            // Create Training table
-            stmt.execute("CREATE TABLE IF NOT EXISTS Training (" +
-                    "trainingID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "date TEXT NOT NULL," +
-                    "squadID INTEGER," +
-                    "focusAreas TEXT," +
-                    "coachNotes TEXT," +
-                    "FOREIGN KEY (squadID) REFERENCES Squad(squadID))");
-
-            // Create TrainingAttendance table
-            stmt.execute("CREATE TABLE IF NOT EXISTS TrainingAttendance (" +
-                    "attendanceID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "playerID INTEGER," +
-                    "trainingID INTEGER," +
-                    "present BOOLEAN," +
-                    "playerNotes TEXT," +
-                    "FOREIGN KEY (playerID) REFERENCES Player(playerID)," +
-                    "FOREIGN KEY (trainingID) REFERENCES Training(trainingID))");
-
-            // Create User table for authentication
-            stmt.execute("CREATE TABLE IF NOT EXISTS User (" +
-                    "userID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "username TEXT NOT NULL UNIQUE," +
-                    "password TEXT NOT NULL," +
-                    "role TEXT NOT NULL," +
-                    "memberID INTEGER," +
-                    "FOREIGN KEY (memberID) REFERENCES Member(memberID))");
-
-            // Create Announcement table
-            stmt.execute("CREATE TABLE IF NOT EXISTS Announcement (" +
-                    "announcementID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "title TEXT NOT NULL," +
-                    "content TEXT NOT NULL," +
-                    "sentDate TEXT NOT NULL," +
-                    "sentBy TEXT NOT NULL," +
-                    "recipient TEXT NOT NULL," +
-                    "isImportant BOOLEAN NOT NULL DEFAULT 0)");
-
-// Create Report table
-            stmt.execute("CREATE TABLE IF NOT EXISTS Report (" +
-                    "reportID INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "title TEXT NOT NULL," +
-                    "content TEXT NOT NULL," +
-                    "generatedDate TEXT NOT NULL," +
-                    "generatedBy TEXT NOT NULL," +
-                    "reportType TEXT NOT NULL)");
+        try (Connection conn = connectionManager.getConnection()) {
+            // Bring the schema up to date
+            migrate(conn);
 
             // Create default users if needed
             createDefaultUsers(conn);
@@ -142,6 +409,104 @@ public class DbInitializer {
         }
     }
 
+    /**
+     * Applies every migration newer than the database's current schema version.
+     *
+     * @param conn The database connection
+     * @return The number of migrations applied
+     * @throws SQLException If a migration fails; the failing migration is rolled back
+     */
+    public static int migrate(Connection conn) throws SQLException {
+        int currentVersion = getSchemaVersion(conn);
+        if (currentVersion >= getLatestVersion()) {
+            return 0;
+        }
+
+        // Table rebuilds drop tables that others reference, which enforced foreign keys would cascade
+        // through; the pragma can't change inside a transaction, so it is switched off around all migrations
+        boolean foreignKeys = getForeignKeysEnabled(conn);
+        setForeignKeysEnabled(conn, false);
+
+        int applied = 0;
+        try {
+            for (SchemaMigration migration : MIGRATIONS) {
+                if (migration.getVersion() <= currentVersion) {
+                    continue;
+                }
+
+                boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                try (Statement stmt = conn.createStatement()) {
+                    migration.apply(stmt);
+                    if (migration.getVersion() >= FOREIGN_KEY_ACTIONS_VERSION) {
+                        checkForeignKeys(stmt);
+                    }
+                    stmt.execute("PRAGMA user_version = " + migration.getVersion());
+                    conn.commit();
+                    applied++;
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw new SQLException("Schema migration " + migration.getVersion() + " (" +
+                            migration.getDescription() + ") failed", e);
+                } finally {
+                    conn.setAutoCommit(autoCommit);
+                }
+            }
+        } finally {
+            setForeignKeysEnabled(conn, foreignKeys);
+        }
+
+        return applied;
+    }
+
+    /**
+     * Gets the schema version recorded in the database.
+     *
+     * @param conn The database connection
+     * @return The current schema version, 0 for a new database
+     * @throws SQLException If a database error occurs
+     */
+    public static int getSchemaVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    // Helper method to fail a migration that leaves rows referencing missing parents
+    private static void checkForeignKeys(Statement stmt) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA foreign_key_check")) {
+            if (rs.next()) {
+                throw new SQLException("Foreign key violation in table " + rs.getString("table") +
+                        " (rowid " + rs.getLong("rowid") + ", parent " + rs.getString("parent") + ")");
+            }
+        }
+    }
+
+    // Helper method to read the connection's foreign key enforcement setting
+    private static boolean getForeignKeysEnabled(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA foreign_keys")) {
+            return rs.next() && rs.getInt(1) == 1;
+        }
+    }
+
+    // Helper method to change the connection's foreign key enforcement setting
+    private static void setForeignKeysEnabled(Connection conn, boolean enabled) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA foreign_keys = " + (enabled ? "ON" : "OFF"));
+        }
+    }
+
+    /**
+     * Gets the schema version this build migrates databases to.
+     *
+     * @return The latest schema version
+     */
+    public static int getLatestVersion() {
+        return MIGRATIONS.get(MIGRATIONS.size() - 1).getVersion();
+    }
+
     /**
      * Creates default users if they don't exist.
      *
@@ -167,7 +532,7 @@ public class DbInitializer {
                     Statement.RETURN_GENERATED_KEYS)) {
                 pstmt.setString(1, "Admin");
                 pstmt.setString(2, "User");
-                pstmt.setString(3, "1980-01-01");
+                pstmt.setLong(3, LocalDate.of(1980, 1, 1).toEpochDay());
                 pstmt.setString(4, "admin@simplyrugby.org");
                 pstmt.setString(5, "12345678901");
                 pstmt.setString(6, "Simply Rugby Club, Main Street");
@@ -203,7 +568,7 @@ public class DbInitializer {
                     Statement.RETURN_GENERATED_KEYS)) {
                 pstmt.setString(1, "Coach");
                 pstmt.setString(2, "User");
-                pstmt.setString(3, "1985-01-01");
+                pstmt.setLong(3, LocalDate.of(1985, 1, 1).toEpochDay());
                 pstmt.setString(4, "coach@simplyrugby.org");
                 pstmt.setString(5, "12345678902");
                 pstmt.setString(6, "Simply Rugby Club, Main Street");
@@ -5,20 +5,63 @@ import com.simplyrugby.repository.impl.*;
 import com.simplyrugby.service.*;
 import com.simplyrugby.service.impl.*;
 
+import java.util.List;
+
 /**
  * Utility class for managing dependencies.
  */
 public class DependencyManager {
     private static ConnectionManager connectionManager;
+    private static RepositoryCache repositoryCache;
 
     /**
-     * Initialize all dependencies.
+     * Initialize all dependencies using the tuned WAL storage profile.
      *
      * @param dbName The database name
      */
     public static void initialize(String dbName) {
+        initialize(dbName, ConnectionManager.DEFAULT_POOL_SIZE, ConnectionManager.DEFAULT_MAX_WAIT_MILLIS,
+                StorageProfile.TUNED);
+    }
+
+    /**
+     * Initialize all dependencies using the tuned WAL storage profile, optionally caching
+     * squads, players, games and coaches for the rest of the session.
+     *
+     * @param dbName The database name
+     * @param cacheEnabled Whether to put the entity cache in front of the repositories
+     */
+    public static void initialize(String dbName, boolean cacheEnabled) {
+        initialize(dbName, ConnectionManager.DEFAULT_POOL_SIZE, ConnectionManager.DEFAULT_MAX_WAIT_MILLIS,
+                StorageProfile.TUNED, cacheEnabled ? new RepositoryCache() : null);
+    }
+
+    /**
+     * Initialize all dependencies with an explicit connection pool configuration.
+     *
+     * @param dbName The database name
+     * @param poolSize The maximum number of pooled (reader) connections
+     * @param maxWaitMillis How long to wait for a free connection before failing
+     * @param profile The storage profile applied to every connection
+     */
+    public static void initialize(String dbName, int poolSize, long maxWaitMillis, StorageProfile profile) {
+        initialize(dbName, poolSize, maxWaitMillis, profile, null);
+    }
+
+    /**
+     * Initialize all dependencies with an explicit connection pool and cache configuration.
+     *
+     * @param dbName The database name
+     * @param poolSize The maximum number of pooled (reader) connections
+     * @param maxWaitMillis How long to wait for a free connection before failing
+     * @param profile The storage profile applied to every connection
+     * @param cache The entity cache to put in front of the repositories, or null to disable caching
+     */
+    public static void initialize(String dbName, int poolSize, long maxWaitMillis, StorageProfile profile,
+                                  RepositoryCache cache) {
         // Initialize connection manager
-        connectionManager = new ConnectionManager(dbName);
+        connectionManager = new ConnectionManager(dbName, poolSize, maxWaitMillis, profile);
+        repositoryCache = cache;
 
         // Initialize repositories
         MemberRepository memberRepository = new SQLiteMemberRepository(connectionManager);
@@ -26,6 +69,16 @@ public class DependencyManager {
         CoachRepository coachRepository = new SQLiteCoachRepository(connectionManager);
         SquadRepository squadRepository = new SQLiteSquadRepository(connectionManager);
         GameRepository gameRepository = new SQLiteGameRepository(connectionManager);
+        SeasonRepository seasonRepository = new SQLiteSeasonRepository(connectionManager);
+
+        // Decorate the frequently re-read repositories with the shared entity cache
+        if (cache != null) {
+            playerRepository = new CachingPlayerRepository(playerRepository, cache);
+            coachRepository = new CachingCoachRepository(coachRepository, cache);
+            squadRepository = new CachingSquadRepository(squadRepository, cache);
+            gameRepository = new CachingGameRepository(gameRepository, cache);
+            seasonRepository = new CachingSeasonRepository(seasonRepository, cache);
+        }
         TrainingRepository trainingRepository = new SQLiteTrainingRepository(connectionManager);
         UserRepository userRepository = new SQLiteUserRepository(connectionManager);
         AnnouncementRepository announcementRepository = new SQLiteAnnouncementRepository(connectionManager);
@@ -42,6 +95,7 @@ public class DependencyManager {
         UserService userService = new UserServiceImpl(userRepository, memberRepository);
         AnnouncementService announcementService = new AnnouncementServiceImpl(announcementRepository);
         ReportService reportService = new ReportServiceImpl(reportRepository);
+        SeasonService seasonService = new SeasonServiceImpl(seasonRepository);
 
         // Register services in service locator
         ServiceLocator.register(MemberService.class, memberService);
@@ -53,6 +107,7 @@ public class DependencyManager {
         ServiceLocator.register(UserService.class, userService);
         ServiceLocator.register(AnnouncementService.class, announcementService);
         ServiceLocator.register(ReportService.class, reportService);
+        ServiceLocator.register(SeasonService.class, seasonService);
     }
 
     /**
@@ -63,6 +118,25 @@ public class DependencyManager {
             connectionManager.closeConnection();
         }
         ServiceLocator.clear();
+        repositoryCache = null;
+    }
+
+    /**
+     * Get the shared connection manager.
+     *
+     * @return The connection manager
+     */
+    public static ConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    /**
+     * Get the entity cache statistics.
+     *
+     * @return The statistics of each entity cache, or an empty list if caching is disabled
+     */
+    public static List<EntityCache.CacheStats> getCacheStats() {
+        return repositoryCache != null ? repositoryCache.getStats() : List.of();
     }
 
     /**
@@ -135,4 +209,13 @@ public class DependencyManager {
     public static ReportService getReportService() {
         return ServiceLocator.getService(ReportService.class);
     }
+
+    /**
+     * Get the season service.
+     *
+     * @return The season service
+     */
+    public static SeasonService getSeasonService() {
+        return ServiceLocator.getService(SeasonService.class);
+    }
 }
\ No newline at end of file
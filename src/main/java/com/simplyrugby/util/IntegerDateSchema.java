@@ -0,0 +1,201 @@
+package com.simplyrugby.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL that converts the TEXT date columns to integers so that range filters and ordering
+ * compare integers in the date indexes instead of strings. Date columns ({@code yyyy-MM-dd})
+ * become epoch days; the announcement and report date-and-time columns
+ * ({@code yyyy-MM-dd HH:mm:ss}) become milliseconds since 1970-01-01T00:00 on the same local
+ * wall clock, so the stored values keep the calendar meaning the text had. {@link DateCodec}
+ * converts between these values and {@code Date}.
+ * <p>
+ * SQLite can't change a column's type, so each table is rebuilt and its rows copied, as in
+ * schema version 4.
+ */
+final class IntegerDateSchema {
+    // Julian day number of 1970-01-01T00:00, the zero of both integer encodings
+    private static final String UNIX_EPOCH_JULIAN_DAY = "2440587.5";
+
+    private static final String[] VIEWS = {
+            "GameAllSeasons", "GameStatsAllSeasons", "TrainingAllSeasons", "TrainingAttendanceAllSeasons"
+    };
+
+    private IntegerDateSchema() {
+    }
+
+    /**
+     * Gets the statements that rebuild the dated tables with integer date columns.
+     *
+     * @return The migration statements, in order
+     */
+    static String[] migrationStatements() {
+        List<String> statements = new ArrayList<>();
+
+        // SQLite won't rename a table while a view or trigger refers to a table that doesn't exist,
+        // so everything naming the rebuilt tables is dropped first and recreated at the end
+        statements.addAll(List.of(PlayerSeasonSummarySchema.dropTriggerStatements()));
+        for (String view : VIEWS) {
+            statements.add("DROP VIEW IF EXISTS " + view);
+        }
+
+        rebuild(statements, "Member",
+                "memberID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "firstName TEXT NOT NULL," +
+                        "lastName TEXT NOT NULL," +
+                        "dob INTEGER NOT NULL," +
+                        "email TEXT," +
+                        "phone TEXT," +
+                        "address TEXT",
+                "memberID, firstName, lastName, dob, email, phone, address",
+                "memberID, firstName, lastName, " + epochDay("dob") + ", email, phone, address");
+
+        rebuild(statements, "Game",
+                "gameID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "date INTEGER NOT NULL," +
+                        "opponent TEXT NOT NULL," +
+                        "finalScore TEXT," +
+                        "venue TEXT," +
+                        "squadID INTEGER," +
+                        "homeScore INTEGER," +
+                        "awayScore INTEGER," +
+                        "FOREIGN KEY (squadID) REFERENCES Squad(squadID) ON DELETE CASCADE",
+                "gameID, date, opponent, finalScore, venue, squadID, homeScore, awayScore",
+                "gameID, " + epochDay("date") + ", opponent, finalScore, venue, squadID, homeScore, awayScore");
+
+        rebuild(statements, "Training",
+                "trainingID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "date INTEGER NOT NULL," +
+                        "squadID INTEGER," +
+                        "focusAreas TEXT," +
+                        "coachNotes TEXT," +
+                        "FOREIGN KEY (squadID) REFERENCES Squad(squadID) ON DELETE CASCADE",
+                "trainingID, date, squadID, focusAreas, coachNotes",
+                "trainingID, " + epochDay("date") + ", squadID, focusAreas, coachNotes");
+
+        rebuild(statements, "Season",
+                "seasonID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "name TEXT NOT NULL UNIQUE," +
+                        "startDate INTEGER NOT NULL," +
+                        "endDate INTEGER NOT NULL," +
+                        "archived BOOLEAN NOT NULL DEFAULT 0",
+                "seasonID, name, startDate, endDate, archived",
+                "seasonID, name, " + epochDay("startDate") + ", " + epochDay("endDate") + ", archived");
+
+        rebuild(statements, "GameArchive",
+                "gameID INTEGER PRIMARY KEY," +
+                        "date INTEGER NOT NULL," +
+                        "opponent TEXT NOT NULL," +
+                        "finalScore TEXT," +
+                        "venue TEXT," +
+                        "squadID INTEGER," +
+                        "homeScore INTEGER," +
+                        "awayScore INTEGER," +
+                        "seasonID INTEGER NOT NULL," +
+                        "FOREIGN KEY (squadID) REFERENCES Squad(squadID) ON DELETE CASCADE," +
+                        "FOREIGN KEY (seasonID) REFERENCES Season(seasonID)",
+                "gameID, date, opponent, finalScore, venue, squadID, homeScore, awayScore, seasonID",
+                "gameID, " + epochDay("date") + ", opponent, finalScore, venue, squadID, homeScore, awayScore, " +
+                        "seasonID");
+
+        rebuild(statements, "TrainingArchive",
+                "trainingID INTEGER PRIMARY KEY," +
+                        "date INTEGER NOT NULL," +
+                        "squadID INTEGER," +
+                        "focusAreas TEXT," +
+                        "coachNotes TEXT," +
+                        "seasonID INTEGER NOT NULL," +
+                        "FOREIGN KEY (squadID) REFERENCES Squad(squadID) ON DELETE CASCADE," +
+                        "FOREIGN KEY (seasonID) REFERENCES Season(seasonID)",
+                "trainingID, date, squadID, focusAreas, coachNotes, seasonID",
+                "trainingID, " + epochDay("date") + ", squadID, focusAreas, coachNotes, seasonID");
+
+        rebuild(statements, "Announcement",
+                "announcementID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "title TEXT NOT NULL," +
+                        "content TEXT NOT NULL," +
+                        "sentDate INTEGER NOT NULL," +
+                        "sentBy TEXT NOT NULL," +
+                        "recipient TEXT NOT NULL," +
+                        "isImportant BOOLEAN NOT NULL DEFAULT 0",
+                "announcementID, title, content, sentDate, sentBy, recipient, isImportant",
+                "announcementID, title, content, " + localEpochMillis("sentDate") + ", sentBy, recipient, isImportant");
+
+        rebuild(statements, "Report",
+                "reportID INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "title TEXT NOT NULL," +
+                        "content TEXT NOT NULL," +
+                        "generatedDate INTEGER NOT NULL," +
+                        "generatedBy TEXT NOT NULL," +
+                        "reportType TEXT NOT NULL",
+                "reportID, title, content, generatedDate, generatedBy, reportType",
+                "reportID, title, content, " + localEpochMillis("generatedDate") + ", generatedBy, reportType");
+
+        // Dropping the old tables dropped their indexes
+        statements.add("CREATE INDEX IF NOT EXISTS idx_game_squad_date ON Game(squadID, date)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_game_date ON Game(date)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_training_squad_date ON Training(squadID, date)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_training_date ON Training(date)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_season_dates ON Season(startDate, endDate)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_gamearchive_season ON GameArchive(seasonID)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_gamearchive_squad_date ON GameArchive(squadID, date)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_trainingarchive_season ON TrainingArchive(seasonID)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_trainingarchive_squad_date ON TrainingArchive(squadID, date)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_announcement_sent_date ON Announcement(sentDate)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_report_generated_date ON Report(generatedDate)");
+
+        // Same definitions as schema version 5
+        statements.add("CREATE VIEW IF NOT EXISTS GameAllSeasons AS " +
+                "SELECT gameID, date, opponent, finalScore, venue, squadID, homeScore, awayScore FROM Game " +
+                "UNION ALL " +
+                "SELECT gameID, date, opponent, finalScore, venue, squadID, homeScore, awayScore " +
+                "FROM GameArchive");
+        statements.add("CREATE VIEW IF NOT EXISTS GameStatsAllSeasons AS " +
+                "SELECT gameStatsID, playerID, gameID, tackles, passes, tries, kicks, overallRating, attended " +
+                "FROM GameStats " +
+                "UNION ALL " +
+                "SELECT gameStatsID, playerID, gameID, tackles, passes, tries, kicks, overallRating, attended " +
+                "FROM GameStatsArchive");
+        statements.add("CREATE VIEW IF NOT EXISTS TrainingAllSeasons AS " +
+                "SELECT trainingID, date, squadID, focusAreas, coachNotes FROM Training " +
+                "UNION ALL " +
+                "SELECT trainingID, date, squadID, focusAreas, coachNotes FROM TrainingArchive");
+        statements.add("CREATE VIEW IF NOT EXISTS TrainingAttendanceAllSeasons AS " +
+                "SELECT attendanceID, playerID, trainingID, present, playerNotes FROM TrainingAttendance " +
+                "UNION ALL " +
+                "SELECT attendanceID, playerID, trainingID, present, playerNotes FROM TrainingAttendanceArchive");
+
+        // Season lookups now compare integers; recompute the totals in case any text date compared differently
+        statements.addAll(List.of(PlayerSeasonSummarySchema.triggerStatements()));
+        statements.addAll(List.of(PlayerSeasonSummarySchema.rebuildStatements()));
+
+        return statements.toArray(new String[0]);
+    }
+
+    // Helper method to rebuild a table under a new definition. The AUTOINCREMENT counter is carried
+    // over so IDs of deleted and archived rows are never handed out again.
+    private static void rebuild(List<String> statements, String table, String definition, String columns,
+                                String values) {
+        String newTable = table + "_new";
+        statements.add("CREATE TABLE " + newTable + " (" + definition + ")");
+        statements.add("INSERT INTO " + newTable + " (" + columns + ") SELECT " + values + " FROM " + table);
+        statements.add("DELETE FROM sqlite_sequence WHERE name = '" + newTable + "'");
+        statements.add("INSERT INTO sqlite_sequence (name, seq) " +
+                "SELECT '" + newTable + "', seq FROM sqlite_sequence WHERE name = '" + table + "'");
+        statements.add("DROP TABLE " + table);
+        statements.add("ALTER TABLE " + newTable + " RENAME TO " + table);
+    }
+
+    // Helper method to convert a yyyy-MM-dd column to days since 1970-01-01. A value that isn't a
+    // date converts to NULL, which the NOT NULL column rejects, failing the migration.
+    private static String epochDay(String column) {
+        return "CAST(julianday(" + column + ") - " + UNIX_EPOCH_JULIAN_DAY + " AS INTEGER)";
+    }
+
+    // Helper method to convert a yyyy-MM-dd HH:mm:ss column to milliseconds since 1970-01-01T00:00,
+    // reading the text as UTC so the value keeps the stored wall-clock time
+    private static String localEpochMillis(String column) {
+        return "CAST(ROUND((julianday(" + column + ") - " + UNIX_EPOCH_JULIAN_DAY + ") * 86400000) AS INTEGER)";
+    }
+}
@@ -0,0 +1,239 @@
+package com.simplyrugby.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL for the {@code PlayerSeasonSummary} table: per player and season totals of game
+ * statistics and training attendance, kept current by triggers so that ratings and
+ * attendance rates are read from one row per season instead of the full history.
+ * <p>
+ * The triggers run inside the statement that changes the history, so every write path
+ * (single rows, batches, upserts, cascading deletes and season archiving) updates the
+ * totals in the same transaction. A row's season is the season its game or training
+ * session date falls in, or 0 if the date is outside every season.
+ */
+final class PlayerSeasonSummarySchema {
+    private static final String[] STATS_COLUMNS = {
+            "gamesAttended", "tacklesTotal", "passesTotal", "triesTotal", "kicksTotal", "ratingTotal"
+    };
+    private static final String[] ATTENDANCE_COLUMNS = {"sessionsRecorded", "sessionsPresent"};
+
+    private static final String TRIGGER_PREFIX = "CREATE TRIGGER IF NOT EXISTS ";
+
+    private PlayerSeasonSummarySchema() {
+    }
+
+    /**
+     * Gets the statements that create, fill and maintain the summary table.
+     *
+     * @return The migration statements, in order
+     */
+    static String[] migrationStatements() {
+        List<String> statements = new ArrayList<>();
+
+        statements.add("CREATE TABLE IF NOT EXISTS PlayerSeasonSummary (" +
+                "playerID INTEGER NOT NULL," +
+                "seasonID INTEGER NOT NULL," +
+                "gamesAttended INTEGER NOT NULL DEFAULT 0," +
+                "tacklesTotal INTEGER NOT NULL DEFAULT 0," +
+                "passesTotal INTEGER NOT NULL DEFAULT 0," +
+                "triesTotal INTEGER NOT NULL DEFAULT 0," +
+                "kicksTotal INTEGER NOT NULL DEFAULT 0," +
+                "ratingTotal INTEGER NOT NULL DEFAULT 0," +
+                "sessionsRecorded INTEGER NOT NULL DEFAULT 0," +
+                "sessionsPresent INTEGER NOT NULL DEFAULT 0," +
+                "PRIMARY KEY (playerID, seasonID)," +
+                "FOREIGN KEY (playerID) REFERENCES Player(playerID) ON DELETE CASCADE)");
+        statements.add(rebuild());
+        statements.addAll(List.of(triggerStatements()));
+
+        return statements.toArray(new String[0]);
+    }
+
+    /**
+     * Gets the statements that empty the summary table and refill it from the history.
+     *
+     * @return The rebuild statements, in order
+     */
+    static String[] rebuildStatements() {
+        return new String[] {"DELETE FROM PlayerSeasonSummary", rebuild()};
+    }
+
+    /**
+     * Gets the statements that drop the triggers maintaining the summary table. Bulk loads
+     * drop them, then recreate them with {@link #triggerStatements()} and rebuild the table
+     * in the same transaction.
+     *
+     * @return The drop statements
+     */
+    static String[] dropTriggerStatements() {
+        List<String> statements = new ArrayList<>();
+        for (String create : triggerStatements()) {
+            String name = create.substring(TRIGGER_PREFIX.length(), create.indexOf(' ', TRIGGER_PREFIX.length()));
+            statements.add("DROP TRIGGER IF EXISTS " + name);
+        }
+        return statements.toArray(new String[0]);
+    }
+
+    /**
+     * Gets the statements that create the triggers maintaining the summary table.
+     *
+     * @return The create statements
+     */
+    static String[] triggerStatements() {
+        List<String> statements = new ArrayList<>();
+
+        // Game statistics, live and archived. A row whose game is already gone was subtracted by the
+        // game's BEFORE DELETE trigger (cascades run after the parent row is deleted), so it matches nothing.
+        addRowTriggers(statements, "gamestats", "GameStats", "Game", "gameID", STATS_COLUMNS, statsValues("NEW"),
+                statsValues("OLD"));
+        addRowTriggers(statements, "gamestatsarchive", "GameStatsArchive", "GameArchive", "gameID", STATS_COLUMNS,
+                statsValues("NEW"), statsValues("OLD"));
+        addParentTriggers(statements, "game", "Game", "GameStats", "gameID", STATS_COLUMNS, statsValues("r"));
+        addParentTriggers(statements, "gamearchive", "GameArchive", "GameStatsArchive", "gameID", STATS_COLUMNS,
+                statsValues("r"));
+
+        // Training attendance, live and archived
+        addRowTriggers(statements, "attendance", "TrainingAttendance", "Training", "trainingID", ATTENDANCE_COLUMNS,
+                attendanceValues("NEW"), attendanceValues("OLD"));
+        addRowTriggers(statements, "attendancearchive", "TrainingAttendanceArchive", "TrainingArchive", "trainingID",
+                ATTENDANCE_COLUMNS, attendanceValues("NEW"), attendanceValues("OLD"));
+        addParentTriggers(statements, "training", "Training", "TrainingAttendance", "trainingID", ATTENDANCE_COLUMNS,
+                attendanceValues("r"));
+        addParentTriggers(statements, "trainingarchive", "TrainingArchive", "TrainingAttendanceArchive", "trainingID",
+                ATTENDANCE_COLUMNS, attendanceValues("r"));
+
+        // Adding or moving a season re-buckets history by date; seasons change rarely, so rebuild
+        statements.add(TRIGGER_PREFIX + "trg_summary_season_insert AFTER INSERT ON Season " +
+                "BEGIN " + rebuildBody() + " END");
+        statements.add(TRIGGER_PREFIX + "trg_summary_season_update " +
+                "AFTER UPDATE OF startDate, endDate ON Season " +
+                "BEGIN " + rebuildBody() + " END");
+        statements.add(TRIGGER_PREFIX + "trg_summary_season_delete AFTER DELETE ON Season " +
+                "BEGIN " + rebuildBody() + " END");
+
+        return statements.toArray(new String[0]);
+    }
+
+    // Helper method to recompute every summary row from the live and archived history
+    private static String rebuild() {
+        return "INSERT INTO PlayerSeasonSummary (playerID, seasonID, " + String.join(", ", STATS_COLUMNS) + ", " +
+                String.join(", ", ATTENDANCE_COLUMNS) + ") " +
+                "SELECT h.playerID, h.seasonID, " + sums(STATS_COLUMNS) + ", " + sums(ATTENDANCE_COLUMNS) + " " +
+                "FROM (" +
+                "SELECT r.playerID AS playerID, " + seasonOf("g.date") + " AS seasonID, " +
+                aliased(statsValues("r"), STATS_COLUMNS) + ", 0 AS sessionsRecorded, 0 AS sessionsPresent " +
+                "FROM GameStatsAllSeasons r JOIN GameAllSeasons g ON g.gameID = r.gameID " +
+                "UNION ALL " +
+                "SELECT r.playerID, " + seasonOf("t.date") + ", 0, 0, 0, 0, 0, 0, " +
+                String.join(", ", attendanceValues("r")) + " " +
+                "FROM TrainingAttendanceAllSeasons r JOIN TrainingAllSeasons t ON t.trainingID = r.trainingID" +
+                ") h " +
+                "WHERE h.playerID IN (SELECT playerID FROM Player) " +
+                "GROUP BY h.playerID, h.seasonID";
+    }
+
+    // Helper method to produce the trigger body that rebuilds the table
+    private static String rebuildBody() {
+        return "DELETE FROM PlayerSeasonSummary; " + rebuild() + ";";
+    }
+
+    // Helper method to add the insert, update and delete triggers of a history table
+    private static void addRowTriggers(List<String> statements, String name, String table, String parentTable,
+                                       String parentKey, String[] columns, String[] newValues, String[] oldValues) {
+        String addNew = add(columns, newValues, "NEW.playerID", "p.date",
+                parentTable + " p", "p." + parentKey + " = NEW." + parentKey);
+        String subtractOld = subtract(columns, oldValues, "OLD.playerID", "p.date",
+                parentTable + " p", "p." + parentKey + " = OLD." + parentKey);
+
+        statements.add(TRIGGER_PREFIX + "trg_summary_" + name + "_insert AFTER INSERT ON " + table + " " +
+                "BEGIN " + addNew + "; END");
+        statements.add(TRIGGER_PREFIX + "trg_summary_" + name + "_update AFTER UPDATE ON " + table + " " +
+                "BEGIN " + subtractOld + "; " + addNew + "; END");
+        statements.add(TRIGGER_PREFIX + "trg_summary_" + name + "_delete AFTER DELETE ON " + table + " " +
+                "BEGIN " + subtractOld + "; END");
+    }
+
+    // Helper method to add the triggers of a game or training table, whose date decides the season of its rows
+    private static void addParentTriggers(List<String> statements, String name, String table, String childTable,
+                                          String key, String[] columns, String[] childValues) {
+        String subtractOld = subtract(columns, childValues, "r.playerID", "OLD.date",
+                childTable + " r", "r." + key + " = OLD." + key);
+        String addNew = add(columns, childValues, "r.playerID", "NEW.date",
+                childTable + " r", "r." + key + " = NEW." + key);
+
+        statements.add(TRIGGER_PREFIX + "trg_summary_" + name + "_delete BEFORE DELETE ON " + table + " " +
+                "BEGIN " + subtractOld + "; END");
+        statements.add(TRIGGER_PREFIX + "trg_summary_" + name + "_date AFTER UPDATE OF date ON " + table + " " +
+                "WHEN " + seasonOf("OLD.date") + " <> " + seasonOf("NEW.date") + " " +
+                "BEGIN " + subtractOld + "; " + addNew + "; END");
+    }
+
+    // Helper method to add rows' contributions to their player and season totals
+    private static String add(String[] columns, String[] values, String playerId, String date, String from,
+                              String where) {
+        List<String> updates = new ArrayList<>();
+        for (String column : columns) {
+            updates.add(column + " = " + column + " + excluded." + column);
+        }
+        return "INSERT INTO PlayerSeasonSummary (playerID, seasonID, " + String.join(", ", columns) + ") " +
+                "SELECT " + playerId + ", " + seasonOf(date) + ", " + String.join(", ", values) + " " +
+                "FROM " + from + " WHERE " + where + " " +
+                "ON CONFLICT (playerID, seasonID) DO UPDATE SET " + String.join(", ", updates);
+    }
+
+    // Helper method to remove rows' contributions from their player and season totals
+    private static String subtract(String[] columns, String[] values, String playerId, String date, String from,
+                                   String where) {
+        List<String> updates = new ArrayList<>();
+        for (String column : columns) {
+            updates.add(column + " = PlayerSeasonSummary." + column + " - d." + column);
+        }
+        return "UPDATE PlayerSeasonSummary SET " + String.join(", ", updates) + " " +
+                "FROM (SELECT " + playerId + " AS playerID, " + seasonOf(date) + " AS seasonID, " +
+                aliased(values, columns) + " FROM " + from + " WHERE " + where + ") d " +
+                "WHERE PlayerSeasonSummary.playerID = d.playerID AND PlayerSeasonSummary.seasonID = d.seasonID";
+    }
+
+    // Helper method to look up the season a date falls in
+    private static String seasonOf(String date) {
+        return "COALESCE((SELECT s.seasonID FROM Season s WHERE " + date + " BETWEEN s.startDate AND s.endDate), 0)";
+    }
+
+    // Helper method to give a game statistics row's contribution; only attended games count
+    private static String[] statsValues(String row) {
+        String attended = row + ".attended = 1";
+        return new String[] {
+                "CASE WHEN " + attended + " THEN 1 ELSE 0 END",
+                "CASE WHEN " + attended + " THEN COALESCE(" + row + ".tackles, 0) ELSE 0 END",
+                "CASE WHEN " + attended + " THEN COALESCE(" + row + ".passes, 0) ELSE 0 END",
+                "CASE WHEN " + attended + " THEN COALESCE(" + row + ".tries, 0) ELSE 0 END",
+                "CASE WHEN " + attended + " THEN COALESCE(" + row + ".kicks, 0) ELSE 0 END",
+                "CASE WHEN " + attended + " THEN COALESCE(" + row + ".overallRating, 0) ELSE 0 END"
+        };
+    }
+
+    // Helper method to give an attendance row's contribution
+    private static String[] attendanceValues(String row) {
+        return new String[] {"1", "CASE WHEN " + row + ".present = 1 THEN 1 ELSE 0 END"};
+    }
+
+    // Helper method to name each value after its column
+    private static String aliased(String[] values, String[] columns) {
+        List<String> parts = new ArrayList<>();
+        for (int i = 0; i < columns.length; i++) {
+            parts.add(values[i] + " AS " + columns[i]);
+        }
+        return String.join(", ", parts);
+    }
+
+    // Helper method to total each column
+    private static String sums(String[] columns) {
+        List<String> parts = new ArrayList<>();
+        for (String column : columns) {
+            parts.add("SUM(h." + column + ")");
+        }
+        return String.join(", ", parts);
+    }
+}
@@ -0,0 +1,55 @@
+package com.simplyrugby.util;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * A numbered step in the database schema history.
+ * Migrations are applied in version order and recorded in {@code PRAGMA user_version}.
+ */
+public class SchemaMigration {
+    private final int version;
+    private final String description;
+    private final String[] statements;
+
+    /**
+     * Creates a migration.
+     *
+     * @param version The schema version this migration upgrades to
+     * @param description A short description of the change
+     * @param statements The SQL statements to run, in order
+     */
+    public SchemaMigration(int version, String description, String... statements) {
+        this.version = version;
+        this.description = description;
+        this.statements = statements;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Runs the migration's statements.
+     *
+     * @param stmt The statement to execute the SQL with
+     * @throws SQLException If a statement fails
+     */
+    public void apply(Statement stmt) throws SQLException {
+        for (String sql : statements) {
+            stmt.execute(sql);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaMigration{" +
+                "version=" + version +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}